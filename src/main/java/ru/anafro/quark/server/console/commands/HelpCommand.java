@@ -69,21 +69,19 @@ public class HelpCommand extends Command {
         }
 
 
-        synchronized (Quark.commands().asList()) {
-            for (var command : Quark.commands()) {
-                var commandName = loop.getCommandPrefix() + command.getPrimaryName();
-                var commandDescription = command.getShortDescription();
+        for (var command : Quark.commands()) {
+            var commandName = loop.getCommandPrefix() + command.getPrimaryName();
+            var commandDescription = command.getShortDescription();
 
-                logger.info(STR."\{commandName}: \{commandDescription}");
+            logger.info(STR."\{commandName}: \{commandDescription}");
 
-                for (var parameter : command.getParameters()) {
-                    logger.info(STR."\t\{parameter}");
-                }
-
-                logger.info("");
-                logger.info("");
-                logger.info("");
+            for (var parameter : command.getParameters()) {
+                logger.info(STR."\t\{parameter}");
             }
+
+            logger.info("");
+            logger.info("");
+            logger.info("");
         }
     }
 }
@@ -2,6 +2,7 @@ package ru.anafro.quark.server.console.commands;
 
 import ru.anafro.quark.server.console.Command;
 import ru.anafro.quark.server.console.CommandArguments;
+import ru.anafro.quark.server.facade.Quark;
 
 import static ru.anafro.quark.server.database.data.Table.systemTable;
 import static ru.anafro.quark.server.utils.collections.Collections.list;
@@ -51,5 +52,12 @@ public class ListScheduledTasksCommand extends Command {
         var commandsCount = commands.count();
 
         logger.info(STR."\{queriesCount + commandsCount} tasks in total: \{queriesCount} queries and \{commandsCount} commands.");
+
+        for (var repeater : Quark.scheduler().getRepeaters()) {
+            var lastDuration = repeater.getLastDuration().getMilliseconds();
+            var lag = repeater.getLag().getMilliseconds();
+
+            logger.info(STR."\{repeater.getName()}: \{repeater.getRunCount()} runs, \{repeater.getSkippedRunCount()} skipped, the last one took \{lastDuration} ms and started \{lag} ms late");
+        }
     }
 }
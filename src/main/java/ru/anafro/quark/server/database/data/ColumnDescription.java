@@ -6,6 +6,7 @@ import ru.anafro.quark.server.language.entities.ColumnModifierEntity;
 import ru.anafro.quark.server.language.types.EntityType;
 import ru.anafro.quark.server.utils.collections.Collections;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -39,6 +40,17 @@ public final class ColumnDescription {
         );
     }
 
+    /**
+     * Copies the column, so that renaming the copy or adding modifiers
+     * to it doesn't change the original column.
+     *
+     * @return the copy.
+     * @since Quark 3.0
+     */
+    public ColumnDescription copy() {
+        return new ColumnDescription(name, type, new ArrayList<>(modifiers));
+    }
+
     public String getTypeName() {
         return type.getName();
     }
@@ -9,6 +9,7 @@ import ru.anafro.quark.server.utils.collections.Lists;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Represents a column modifier.
@@ -82,6 +83,44 @@ public abstract class ColumnModifier {
 
     public abstract void prepareField(Table table, RecordField field, InstructionEntityConstructorArguments arguments);
 
+    /**
+     * Checks the fields of the same column of several records that are
+     * inserted at once. Modifiers that depend on the other records, like
+     * {@code unique}, should override it to also check the fields against
+     * each other.
+     *
+     * @param table     the table the records are inserted to.
+     * @param fields    the fields of the column, one for each record.
+     * @param arguments the arguments of the modifier.
+     * @return the index of the first invalid field, or {@code -1} if all the fields are valid.
+     * @since Quark 3.0
+     */
+    public int indexOfInvalidField(Table table, List<RecordField> fields, InstructionEntityConstructorArguments arguments) {
+        for (int index = 0; index < fields.size(); index++) {
+            if (!isFieldValid(table, fields.get(index), arguments)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Prepares the fields of the same column of several records that are
+     * inserted at once. Modifiers generating values, like {@code incrementing},
+     * may override it to generate all the values together.
+     *
+     * @param table     the table the records are inserted to.
+     * @param fields    the fields of the column, one for each record.
+     * @param arguments the arguments of the modifier.
+     * @since Quark 3.0
+     */
+    public void prepareFields(Table table, List<RecordField> fields, InstructionEntityConstructorArguments arguments) {
+        for (var field : fields) {
+            prepareField(table, field, arguments);
+        }
+    }
+
     @Override
     public String toString() {
         return STR."ColumnModifier{applicationPriority=\{applicationPriority}, allowedTypes=\{Lists.join(allowedTypes, EntityType::getName)}, valuesShouldBeGenerated=\{valuesShouldBeGenerated}, name='\{name}\{'\''}\{'}'}";
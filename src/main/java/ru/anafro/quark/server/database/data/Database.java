@@ -80,6 +80,10 @@ public class Database {
     }
 
     public void delete() {
+        if (directory.exists()) {
+            tables().forEach(Table::forgetCachedState);
+        }
+
         directory.delete();
     }
 
@@ -90,6 +94,8 @@ public class Database {
             throw new DatabaseExistsException(destinationName);
         }
 
+        tables().forEach(Table::flushVariables);
+
         var sibling = directory.getSibling(destinationName);
         directory.copy(sibling.getPath());
 
@@ -102,6 +108,8 @@ public class Database {
 
     public void rename(String newName) {
         ensureExists();
+        tables().forEach(Table::flushVariables);
+        tables().forEach(Table::forgetCachedState);
         directory.moveTo(newName);
     }
 
@@ -1,15 +1,14 @@
 package ru.anafro.quark.server.database.data;
 
 import ru.anafro.quark.server.database.data.exceptions.TableRecordSelectorExpressionShouldBeBooleanException;
-import ru.anafro.quark.server.facade.Quark;
 import ru.anafro.quark.server.language.Expressions;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.BooleanEntity;
+import ru.anafro.quark.server.language.queries.RunningQueries;
 
 import java.util.Objects;
 
 public final class ExpressionTableRecordSelector extends TableRecordSelector {
-    public static final String COLUMN_NAME_MARKER = ":";
     public static final ExpressionTableRecordSelector SELECT_ALL = new ExpressionTableRecordSelector(new StringConstructorBuilder().name("yes").build());
     private final String expression;
 
@@ -28,19 +27,15 @@ public final class ExpressionTableRecordSelector extends TableRecordSelector {
 
     @Override
     public Boolean apply(TableRecord record) {
-        String filledExpression = expression;
+        RunningQueries.checkpoint();
 
-        for (var field : record) {
-            filledExpression = filledExpression.replace(COLUMN_NAME_MARKER + field.getColumnName(), field.getEntity().toInstructionForm());
-        }
-
-        var result = Expressions.eval(filledExpression);
+        var result = Expressions.compile(expression).evaluate(record);
 
-        if (result.doesntHaveType(Quark.types().get("boolean"))) {
+        if (!(result instanceof BooleanEntity booleanResult)) {
             throw new TableRecordSelectorExpressionShouldBeBooleanException(expression, result.getType());
         }
 
-        return ((BooleanEntity) result).getValue();
+        return booleanResult.getValue();
     }
 
     public String expression() {
@@ -19,7 +19,7 @@ public class RecordField {
     }
 
     public static RecordField empty(String columnName) {
-        return new RecordField(columnName, new NullEntity());
+        return new RecordField(columnName, NullEntity.any());
     }
 
     public String getColumnName() {
@@ -1,23 +1,56 @@
 package ru.anafro.quark.server.database.data;
 
+import ru.anafro.quark.server.database.data.exceptions.BadGeneratorException;
 import ru.anafro.quark.server.language.Expressions;
 import ru.anafro.quark.server.language.entities.Entity;
 
 public record RecordFieldGenerator(String expression) implements RecordLambda<Entity> {
-    public static final String COLUMN_NAME_MARKER = ":";
-
     public static RecordFieldGenerator generator(String expression) {
         return new RecordFieldGenerator(expression);
     }
 
     @Override
     public Entity apply(TableRecord record) {
-        String filledExpression = expression;   // TODO: Repeated code
+        return Expressions.compile(expression).evaluate(record);
+    }
+
+    /**
+     * Checks if the generator produces the same value for every record.
+     * Only such generators can fill a column lazily on read, because
+     * the values of the others must be stored once per record.
+     *
+     * @return {@code true} if the expression is a constant.
+     * @since Quark 3.0
+     */
+    public boolean isConstant() {
+        return Expressions.compile(expression).isConstant();
+    }
+
+    public boolean isNotConstant() {
+        return !isConstant();
+    }
+
+    /**
+     * Generates the value of a column for a record.
+     *
+     * @param record the record.
+     * @param column the generated column.
+     * @return the value casted to the column type.
+     * @throws BadGeneratorException if the value cannot be used for the column.
+     * @since Quark 3.0
+     */
+    public Entity generate(TableRecord record, ColumnDescription column) {
+        var columnType = column.type();
+        var generatedEntity = apply(record);
+
+        if (columnType.canCast(generatedEntity)) {
+            generatedEntity = generatedEntity.castTo(columnType);
+        }
 
-        for (var field : record) {
-            filledExpression = filledExpression.replace(COLUMN_NAME_MARKER + field.getColumnName(), field.getEntity().toInstructionForm());
+        if (generatedEntity.doesntHaveType(columnType)) {
+            throw new BadGeneratorException(this, generatedEntity, column);
         }
 
-        return Expressions.eval(filledExpression);
+        return generatedEntity;
     }
 }
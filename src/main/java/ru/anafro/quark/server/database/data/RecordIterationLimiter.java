@@ -1,6 +1,11 @@
 package ru.anafro.quark.server.database.data;
 
 public class RecordIterationLimiter {
+    /**
+     * @deprecated limiters count the skipped and selected records, so a shared one
+     * is used up by the queries running in parallel. Use {@link #unlimited()} instead.
+     */
+    @Deprecated(since = "3")
     public static final RecordIterationLimiter UNLIMITED = new RecordIterationLimiter(0, Integer.MAX_VALUE);
     private int skip;
     private int limit;
@@ -14,6 +19,10 @@ public class RecordIterationLimiter {
         return new RecordIterationLimiter(skip, limit);
     }
 
+    public static RecordIterationLimiter unlimited() {
+        return limiter(0, Integer.MAX_VALUE);
+    }
+
     public boolean isSkipNeeded() {
         return skip > 0;
     }
@@ -34,6 +43,26 @@ public class RecordIterationLimiter {
         }
     }
 
+    /**
+     * Counts several skipped records at once, like the ones skipped in a chunk of a scan.
+     *
+     * @param count the number of the skipped records.
+     * @since Quark 3.0
+     */
+    public void skipped(int count) {
+        skip = Math.max(0, skip - count);
+    }
+
+    /**
+     * Counts several selected records at once, like the ones selected in a chunk of a scan.
+     *
+     * @param count the number of the selected records.
+     * @since Quark 3.0
+     */
+    public void selected(int count) {
+        limit = Math.max(0, limit - count);
+    }
+
     public int getSkip() {
         return skip;
     }
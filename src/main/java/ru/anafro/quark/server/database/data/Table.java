@@ -2,13 +2,21 @@ package ru.anafro.quark.server.database.data;
 
 import org.jetbrains.annotations.NotNull;
 import ru.anafro.quark.server.database.data.exceptions.*;
+import ru.anafro.quark.server.database.data.files.DeadSpace;
 import ru.anafro.quark.server.database.data.files.TableHeader;
+import ru.anafro.quark.server.database.data.files.TableMigrationService;
 import ru.anafro.quark.server.database.data.files.TableRecords;
 import ru.anafro.quark.server.database.data.files.TableVariable;
+import ru.anafro.quark.server.database.data.files.Tombstones;
+import ru.anafro.quark.server.database.data.files.VacuumService;
 import ru.anafro.quark.server.database.data.files.VariableDirectory;
+import ru.anafro.quark.server.database.data.files.VariableStore;
+import ru.anafro.quark.server.database.data.indexes.TableIndexes;
+import ru.anafro.quark.server.database.data.sequences.TableSequences;
 import ru.anafro.quark.server.database.data.structures.HashtableRecordCollection;
 import ru.anafro.quark.server.database.data.structures.LinearRecordCollection;
 import ru.anafro.quark.server.database.data.structures.RecordCollection;
+import ru.anafro.quark.server.database.data.structures.SpillableRecordCollection;
 import ru.anafro.quark.server.database.views.TableViewHeader;
 import ru.anafro.quark.server.files.DatabasesDirectory;
 import ru.anafro.quark.server.language.entities.*;
@@ -16,13 +24,17 @@ import ru.anafro.quark.server.utils.collections.Lists;
 import ru.anafro.quark.server.utils.files.Directory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static ru.anafro.quark.server.database.data.Database.systemDatabase;
 import static ru.anafro.quark.server.utils.collections.Collections.list;
 
 public class Table implements Iterable<TableRecord> {
     private static final DatabasesDirectory databasesDirectory = DatabasesDirectory.getInstance();
+    private static final int SCAN_CHUNK_SIZE = 65_536;
     private final Database database;
     private final Directory directory;
     private final TableHeader header;
@@ -148,6 +160,10 @@ public class Table implements Iterable<TableRecord> {
         return header;
     }
 
+    public TableRecords getRecords() {
+        return records;
+    }
+
     public List<String> getColumnOrder() {
         return Lists.copy(header.getColumns().stream().map(ColumnDescription::name).toList());
     }
@@ -157,6 +173,8 @@ public class Table implements Iterable<TableRecord> {
     }
 
     public void rename(String newName) {
+        flushVariables();
+        forgetCachedState();
         directory.rename(newName);
     }
 
@@ -168,6 +186,22 @@ public class Table implements Iterable<TableRecord> {
         records.insert(record);
     }
 
+    public void insertAll(List<TableRecord> records) {
+        this.records.insertAll(records);
+    }
+
+    /**
+     * Inserts several records without waiting for them to be written.
+     *
+     * @param records the records to insert.
+     * @return the future completed when the records are written.
+     * @see TableRecords#insertAsync(List)
+     * @since Quark 3.0
+     */
+    public CompletableFuture<Void> insertAsync(List<TableRecord> records) {
+        return this.records.insertAsync(records);
+    }
+
     public RecordCollection all() {
         var collection = new LinearRecordCollection();
         collection.addAll(records);
@@ -175,8 +209,26 @@ public class Table implements Iterable<TableRecord> {
         return collection;
     }
 
+    /**
+     * Selects the records of the table. The records are scanned in chunks, so only
+     * one chunk and the selected records are kept in memory, and the selected records
+     * exceeding the memory budget of the query are spilled to a temporary file.
+     *
+     * @param selector the condition of the records to select.
+     * @param limiter  the number of the selected records to skip and to select.
+     * @return the selected records in the order of the records of the table.
+     * @see ru.anafro.quark.server.database.memory.MemoryBudget
+     */
     public RecordCollection select(Function<TableRecord, Boolean> selector, RecordIterationLimiter limiter) {
-        return all().select(selector, limiter);
+        var selectedRecords = new SpillableRecordCollection(header);
+
+        forEachChunk(chunk -> {
+            selectedRecords.addAll(chunk.select(selector, limiter));
+
+            return limiter.fitsTheLimit();
+        });
+
+        return selectedRecords;
     }
 
     public TableViewHeader createViewHeader() {
@@ -188,9 +240,37 @@ public class Table implements Iterable<TableRecord> {
     }
 
     public void delete() {
+        forgetCachedState();
         directory.delete();
     }
 
+    /**
+     * Drops everything that is kept in memory for this table between queries,
+     * like the parsed header, indexes, sequences, variables and the committed version
+     * of the records. Must be called before the table directory is deleted or moved.
+     * Variable changes that have not been written yet are lost, so call
+     * {@link #flushVariables()} first when the table is moved.
+     *
+     * @since Quark 3.0
+     */
+    public void forgetCachedState() {
+        TableHeader.forget(this);
+        TableIndexes.forget(this);
+        TableSequences.forget(this);
+        VariableStore.forget(this);
+        Tombstones.forget(this);
+        TableRecords.forget(this);
+    }
+
+    /**
+     * Writes the variable changes, which are kept in memory until the background write, to the disk.
+     *
+     * @since Quark 3.0
+     */
+    public void flushVariables() {
+        VariableStore.of(this).flush();
+    }
+
     public Table copy(String destinationName) {
         if (exists(destinationName)) {
             throw new TableExistsException(destinationName);
@@ -203,6 +283,7 @@ public class Table implements Iterable<TableRecord> {
         var databaseDirectory = database.getDirectory();
         var destinationPath = databaseDirectory.getFilePath(tableName);
 
+        flushVariables();
         directory.copy(destinationPath);
 
         return byName(destinationName);
@@ -251,6 +332,15 @@ public class Table implements Iterable<TableRecord> {
         return all().iterator();
     }
 
+    private void forEachChunk(Predicate<RecordCollection> action) {
+        records.forEachChunkWhile(SCAN_CHUNK_SIZE, chunkRecords -> {
+            var chunk = new LinearRecordCollection();
+            chunk.addAll(chunkRecords);
+
+            return action.test(chunk);
+        });
+    }
+
     public void store(RecordCollection collection) {
         records.save(collection);
     }
@@ -268,44 +358,55 @@ public class Table implements Iterable<TableRecord> {
             throw new ColumnExistsException(this, description.name());
         }
 
-        var records = all();
-        var columnName = description.name();
-        var columnType = description.type();
+        var generatingModifier = description.tryGetGeneratingModifier();
 
-        header.addColumn(description);
+        if (generatingModifier.isPresent()) {
+            var records = all();
+            var modifier = generatingModifier.get().getModifier();
+            var modifierArguments = generatingModifier.get().getModifierArguments();
 
-        description.tryGetGeneratingModifier().ifPresentOrElse(modifierEntity -> {
-            var modifier = modifierEntity.getModifier();
-            var modifierArguments = modifierEntity.getModifierArguments();
+            header.addColumn(description);
 
             for (var record : records) {
-                var generatedField = RecordField.empty(columnName);
+                var generatedField = RecordField.empty(description.name());
 
                 modifier.prepareField(this, generatedField, modifierArguments);
                 record.add(generatedField);
             }
-        }, () -> {
-            if (generator == null) {
-                throw new NeedGeneratorException(description);
-            }
 
-            for (var record : records) {
-                var generatedEntity = generator.apply(record);
+            store(records);
+            saveHeader();
+
+            return;
+        }
 
-                if (columnType.canCast(generatedEntity)) {
-                    generatedEntity = generatedEntity.castTo(columnType);
-                }
+        if (generator == null) {
+            throw new NeedGeneratorException(description);
+        }
 
-                if (generatedEntity.doesntHaveType(columnType)) {
-                    throw new BadGeneratorException(generator, generatedEntity, description);
-                }
+        if (generator.isNotConstant()) {
+            var records = all();
 
-                record.add(new RecordField(columnName, generatedEntity));
+            for (var record : records) {
+                record.add(new RecordField(description.name(), generator.generate(record, description)));
             }
-        });
 
-        store(records);
-        saveHeader();
+            header.addColumn(description);
+            store(records);
+            saveHeader();
+
+            return;
+        }
+
+        this.records.first().ifPresent(record -> generator.generate(record, description));
+
+        synchronized (this.records.getWriteLock()) {
+            header.addColumn(description, generator.expression());
+            saveHeader();
+        }
+
+        TableIndexes.forget(this);
+        TableMigrationService.schedule(this);
     }
 
     public void addColumn(ColumnDescription column) {
@@ -325,19 +426,20 @@ public class Table implements Iterable<TableRecord> {
             throw new ColumnNotFoundException(this, changer.column());
         }
 
-        var records = all();
-
-        for (var record : records) {
-            if (selector.selects(record)) {
-                changer.change(record);
-            }
-        }
-
-        store(records);
+        records.change(changer, selector);
+        VacuumService.schedule(this);
     }
 
     public int count(TableRecordSelector selector) {
-        return all().select(selector, RecordIterationLimiter.UNLIMITED).count();
+        var count = new AtomicInteger();
+
+        forEachChunk(chunk -> {
+            count.addAndGet(chunk.count(selector));
+
+            return true;
+        });
+
+        return count.get();
     }
 
     public void deleteColumn(String columnName) {
@@ -345,23 +447,22 @@ public class Table implements Iterable<TableRecord> {
             throw new ColumnNotFoundException(this, columnName);
         }
 
-        var records = all();
-        records.forEach(record -> record.removeField(columnName));
+        synchronized (records.getWriteLock()) {
+            header.deleteColumn(columnName);
+            saveHeader();
+        }
 
-        columns().removeIf(column -> column.name().equals(columnName));
-        saveHeader();
-        store(records);
+        TableIndexes.forget(this);
+        TableMigrationService.schedule(this);
     }
 
     public void delete(RecordLambda<Boolean> selector) {
-        delete(selector, RecordIterationLimiter.UNLIMITED);
+        delete(selector, RecordIterationLimiter.unlimited());
     }
 
     public void delete(RecordLambda<Boolean> selector, RecordIterationLimiter limiter) {
-        var records = all();
-        records.remove(selector, limiter);
-
-        store(records);
+        records.delete(selector, limiter);
+        VacuumService.schedule(this);
     }
 
     public void deleteVariable(String name) {
@@ -376,12 +477,19 @@ public class Table implements Iterable<TableRecord> {
             throw new BadFinderException(this, finder);
         }
 
-        var records = new HashtableRecordCollection(columnName);
-
-        records.addAll(this);
-        records.exclude(finder);
+        records.delete(finder, RecordIterationLimiter.unlimited());
+        VacuumService.schedule(this);
+    }
 
-        store(records);
+    /**
+     * Returns how much of the records file is taken by the deleted
+     * records, which are not vacuumed yet.
+     *
+     * @return the dead space.
+     * @since Quark 3.0
+     */
+    public DeadSpace getDeadSpace() {
+        return records.getDeadSpace();
     }
 
     public Optional<TableRecord> find(TableRecordFinder finder) {
@@ -422,15 +530,8 @@ public class Table implements Iterable<TableRecord> {
             throw new IncompleteColumnOrderException(this, order, missingColumn.name());
         });
 
-        var records = all();
-
-        for (var record : records) {
-            record.reorderFields(order);
-        }
-
         header.reorderColumns(order);
         header.save();
-        store(records);
     }
 
     public void swapColumns(String firstColumnName, String secondColumnName) {
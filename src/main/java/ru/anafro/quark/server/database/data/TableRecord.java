@@ -33,7 +33,7 @@ public class TableRecord implements Iterable<RecordField> {
     }
 
     public TableRecord(TableHeader header, List<Entity> fields) {
-        this(header.getColumns().stream().map(ColumnDescription::name).toList(), fields);
+        this(header.getPipeline().columnNamesFor(fields.size()), fields);
     }
 
     public static TableRecord record(RecordField... fields) {
@@ -84,6 +84,10 @@ public class TableRecord implements Iterable<RecordField> {
         fields.add(field);
     }
 
+    public void add(int index, RecordField field) {
+        fields.add(index, field);
+    }
+
     @NotNull
     @Override
     public Iterator<RecordField> iterator() {
@@ -102,6 +106,23 @@ public class TableRecord implements Iterable<RecordField> {
         return fields.stream().map(field -> field.getEntity().toRecordForm()).collect(Collectors.joining(","));
     }
 
+    /**
+     * Copies the record, so that the fields of the copy can be set without
+     * changing this record. The entities are immutable, so they are shared.
+     *
+     * @return the copy.
+     * @since Quark 3.0
+     */
+    public TableRecord copy() {
+        var copiedFields = new ArrayList<RecordField>(fields.size());
+
+        for (var field : fields) {
+            copiedFields.add(new RecordField(field.getColumnName(), field.getEntity()));
+        }
+
+        return new TableRecord(copiedFields);
+    }
+
     public RecordField fieldAt(int index) {
         return fields.get(index);
     }
@@ -3,10 +3,12 @@ package ru.anafro.quark.server.database.data;
 import ru.anafro.quark.server.database.data.exceptions.TableRecordChangerTriesToChangeFieldThatDoesNotExistException;
 import ru.anafro.quark.server.database.data.exceptions.TableRecordChangerWrongTypeException;
 import ru.anafro.quark.server.language.Expressions;
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.language.types.EntityType;
 
-public record TableRecordChanger(String column, String lambda) implements RecordLambda<Void> {
-    public static final String LAMBDA_FIELD_PREFIX = ":";
+import java.util.function.Consumer;
 
+public record TableRecordChanger(String column, String lambda) implements RecordLambda<Void> {
     public static TableRecordChanger changer(String columnName, String lambda) {
         return new TableRecordChanger(columnName, lambda);
     }
@@ -15,15 +17,35 @@ public record TableRecordChanger(String column, String lambda) implements Record
         apply(record);
     }
 
+    /**
+     * Prepares the changer for changing many records. If the lambda is a constant,
+     * it is evaluated and casted to the column type once instead of for every record.
+     *
+     * @return the function changing a record.
+     * @since Quark 3.0
+     */
+    public Consumer<TableRecord> prepare() {
+        var expression = Expressions.compile(lambda);
+
+        if (!expression.isConstant()) {
+            return this::change;
+        }
+
+        return new ConstantAssignment(expression.evaluate(null));
+    }
+
     @Override
     public Void apply(TableRecord record) {
+        assign(record, Expressions.compile(lambda).evaluate(record));
+
+        return null;
+    }
+
+    private Entity assign(TableRecord record, Entity lambdaResult) {
         if (record.doesntHaveField(column)) {
             throw new TableRecordChangerTriesToChangeFieldThatDoesNotExistException(this);
         }
 
-        var filledLambda = fillLambda(record);
-        var lambdaResult = Expressions.eval(filledLambda);
-
         if (record.getField(column).getEntity().getType().canBeCastedFrom(lambdaResult.getType())) {
             lambdaResult = record.getField(column).getEntity().getType().cast(lambdaResult);
         }
@@ -34,20 +56,29 @@ public record TableRecordChanger(String column, String lambda) implements Record
 
         record.getField(column).set(lambdaResult);
 
-        return null;
+        return lambdaResult;
     }
 
-    private String fillLambda(TableRecord record) {
-        var fields = record.getFields();
+    private final class ConstantAssignment implements Consumer<TableRecord> {
+        private final Entity value;
+        private EntityType<?> assignedType;
+        private Entity assignedValue;
 
-        return fields.stream().map(RecordField::getColumnName).reduce(this.lambda, (lambda, columnName) -> fillLambdaField(lambda, record, columnName));
-    }
+        private ConstantAssignment(Entity value) {
+            this.value = value;
+        }
 
-    private String fillLambdaField(String lambda, TableRecord record, String columnName) {
-        var lambdaField = LAMBDA_FIELD_PREFIX + columnName;
-        var recordField = record.getField(columnName);
-        var fieldEntity = recordField.getEntity();
+        @Override
+        public void accept(TableRecord record) {
+            if (assignedType != null && record.hasField(column) && record.getField(column).getEntity().getType() == assignedType) {
+                record.getField(column).set(assignedValue);
+                return;
+            }
 
-        return lambda.replace(lambdaField, fieldEntity.toInstructionForm());
+            var fieldType = record.hasField(column) ? record.getField(column).getEntity().getType() : null;
+
+            assignedValue = assign(record, value);
+            assignedType = fieldType;
+        }
     }
-}
\ No newline at end of file
+}
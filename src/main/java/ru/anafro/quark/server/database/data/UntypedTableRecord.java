@@ -1,10 +1,12 @@
 package ru.anafro.quark.server.database.data;
 
 import org.jetbrains.annotations.NotNull;
+import ru.anafro.quark.server.database.data.exceptions.RecordFieldCountMismatchesTableHeaderException;
 import ru.anafro.quark.server.database.data.files.TableHeader;
 import ru.anafro.quark.server.database.data.parser.RecordCharacterEscapeService;
 import ru.anafro.quark.server.database.data.parser.RecordParser;
 import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.language.entities.NullEntity;
 import ru.anafro.quark.server.utils.collections.Lists;
 
 import java.util.ArrayList;
@@ -43,15 +45,32 @@ public record UntypedTableRecord(ArrayList<String> values) implements Iterable<S
 
     public TableRecord applyTypesFrom(TableHeader header) {
         var fields = Lists.<Entity>empty();
+        var layout = header.getLayout();
+        var generatedColumnIndexes = Lists.<Integer>empty();
 
-        for (int index = 0; index < size(); index++) {
-            var columnType = header.columnAt(index).type();
-            var value = columnType.makeEntity(valueAt(index));
+        for (int index = 0; index < header.columnCount(); index++) {
+            var position = layout.positionOf(index);
 
-            fields.add(value);
+            if (position < size()) {
+                fields.add(header.columnAt(index).type().makeEntity(valueAt(position)));
+                continue;
+            }
+
+            if (layout.fillOf(position).isEmpty()) {
+                throw new RecordFieldCountMismatchesTableHeaderException(header.getTable(), size());
+            }
+
+            fields.add(NullEntity.any());
+            generatedColumnIndexes.add(index);
+        }
+
+        var record = new TableRecord(header, fields);
+
+        for (var index : generatedColumnIndexes) {
+            record.fieldAt(index).set(header.fillValueOf(index, record));
         }
 
-        return new TableRecord(header, fields);
+        return record;
     }
 
     public String valueAt(int index) {
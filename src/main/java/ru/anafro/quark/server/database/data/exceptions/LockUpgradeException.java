@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class LockUpgradeException extends DatabaseException {
+    public LockUpgradeException(String key) {
+        super(STR."The \{key} is being read by the same thread, so it can not be locked for writing without a deadlock.");
+    }
+}
@@ -0,0 +1,17 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.data.files.TableRecords;
+
+public class PendingChangeFileFailedException extends DatabaseFileException {
+    public PendingChangeFileFailedException(TableRecords tableRecords, Throwable causedBy) {
+        super("Accessing the pending change file of the table %s in database %s is failed, because of %s: %s".formatted(
+                        tableRecords.getTable().getName(),
+                        tableRecords.getTable().getDatabase().getName(),
+                        causedBy.getClass().getSimpleName(),
+                        causedBy.getMessage()
+                )
+        );
+
+        initCause(causedBy);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class SequenceExhaustedException extends DatabaseException {
+    public SequenceExhaustedException(String variableName, long value) {
+        super(STR."The sequence stored in the variable '\{variableName}' reached \{value}, which does not fit into an int.");
+    }
+}
@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class SessionBelongsToAnotherOwnerException extends DatabaseException {
+    public SessionBelongsToAnotherOwnerException(String session) {
+        super(STR."The session '\{session}' belongs to another token. Name another session, or send no session to have one issued on begin.");
+    }
+}
@@ -0,0 +1,17 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.data.Table;
+
+public class TableHeaderFileFailedException extends DatabaseFileException {
+    public TableHeaderFileFailedException(Table table, Throwable causedBy) {
+        super("Writing the header file of the table %s in database %s is failed, because of %s: %s".formatted(
+                        table.getName(),
+                        table.getDatabase().getName(),
+                        causedBy.getClass().getSimpleName(),
+                        causedBy.getMessage()
+                )
+        );
+
+        initCause(causedBy);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class TransactionAlreadyStartedException extends DatabaseException {
+    public TransactionAlreadyStartedException(String session) {
+        super(STR."The session '\{session}' has already started a transaction. Commit or roll it back before beginning a new one.");
+    }
+}
@@ -0,0 +1,10 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.data.TableName;
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class TransactionConflictException extends DatabaseException {
+    public TransactionConflictException(TableName tableName) {
+        super(STR."The records of the table \{tableName.getTableName()} in database \{tableName.getDatabaseName()} have been changed by someone else since the transaction used them. The transaction is rolled back, try again.");
+    }
+}
@@ -0,0 +1,16 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import java.nio.file.Path;
+
+public class TransactionManifestFailedException extends DatabaseFileException {
+    public TransactionManifestFailedException(Path manifestPath, Throwable causedBy) {
+        super("Accessing the transaction manifest %s is failed, because of %s: %s".formatted(
+                        manifestPath.getFileName(),
+                        causedBy.getClass().getSimpleName(),
+                        causedBy.getMessage()
+                )
+        );
+
+        initCause(causedBy);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class TransactionNotStartedException extends DatabaseException {
+    public TransactionNotStartedException(String session) {
+        super(STR."The session '\{session}' has no transaction. Begin one first.");
+    }
+}
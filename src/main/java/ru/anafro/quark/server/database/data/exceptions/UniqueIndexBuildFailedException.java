@@ -0,0 +1,10 @@
+package ru.anafro.quark.server.database.data.exceptions;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class UniqueIndexBuildFailedException extends DatabaseException {
+    public UniqueIndexBuildFailedException(Table table, String columnName) {
+        super(STR."The unique index of the column '\{columnName}' in the table '\{table.getName()}' cannot be built, because some records of the table do not have this column.");
+    }
+}
@@ -0,0 +1,279 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.language.entities.IntegerEntity;
+import ru.anafro.quark.server.language.entities.ListEntity;
+import ru.anafro.quark.server.language.entities.NullEntity;
+import ru.anafro.quark.server.utils.collections.Lists;
+
+import java.util.*;
+
+import static ru.anafro.quark.server.language.Expressions.eval;
+
+/**
+ * Maps the columns of a table in the header order to the positions
+ * of their values in the lines of the records file.
+ * <br><br>
+ * <p>
+ * The layout lets the schema of a table change without rewriting the records:
+ * <ul>
+ *     <li>Reordered columns keep their positions.</li>
+ *     <li>An added column takes the next position. Lines written before do not
+ *     have a value at it, so the value is generated on read by the fill expression
+ *     of the position.</li>
+ *     <li>A deleted column leaves its position unused, and the values at it are
+ *     skipped on read.</li>
+ * </ul>
+ * Rewriting the records file materializes the generated values and erases the values
+ * of the deleted columns, after which the layout is {@link #migrated()}. The layout
+ * of a table which schema was never changed is the identity one, and it is not stored.
+ * Any other layout is stored in the {@link TableHeader header file} after the columns,
+ * so the columns and their positions are always written together.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class ColumnLayout {
+    private static final String POSITIONS = "positions";
+    private static final String WIDTH = "width";
+    private static final String UNERASED = "unerased";
+    private static final String FILL = "fill";
+    private final int[] positions;
+    private final int width;
+    private final SortedMap<Integer, String> fills;
+    private final SortedSet<Integer> unerasedPositions;
+    private final boolean identity;
+
+    private ColumnLayout(int[] positions, int width, SortedMap<Integer, String> fills, SortedSet<Integer> unerasedPositions) {
+        this.positions = positions;
+        this.width = width;
+        this.fills = Collections.unmodifiableSortedMap(fills);
+        this.unerasedPositions = Collections.unmodifiableSortedSet(unerasedPositions);
+        this.identity = isIdentity(positions) && width == positions.length && fills.isEmpty() && unerasedPositions.isEmpty();
+    }
+
+    public static ColumnLayout identity(int columnCount) {
+        var positions = new int[columnCount];
+        Arrays.setAll(positions, index -> index);
+
+        return new ColumnLayout(positions, columnCount, new TreeMap<>(), new TreeSet<>());
+    }
+
+    /**
+     * Parses the layout of a table from the lines stored in its header,
+     * or returns the identity layout if the header has no layout lines.
+     *
+     * @param lines       the layout lines of the header.
+     * @param columnCount the number of the table columns.
+     * @return the layout.
+     */
+    public static ColumnLayout parse(List<String> lines, int columnCount) {
+        if (lines.stream().allMatch(String::isBlank)) {
+            return identity(columnCount);
+        }
+
+        var positions = new int[0];
+        var width = columnCount;
+        var fills = new TreeMap<Integer, String>();
+        var unerasedPositions = new TreeSet<Integer>();
+
+        for (var line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            var key = line.substring(0, line.indexOf(' '));
+            var value = line.substring(line.indexOf(' ') + 1);
+
+            switch (key) {
+                case POSITIONS -> positions = integersOf(value).stream().mapToInt(Integer::intValue).toArray();
+                case WIDTH -> width = Integer.parseInt(value);
+                case UNERASED -> unerasedPositions.addAll(integersOf(value));
+                case FILL -> {
+                    var position = value.substring(0, value.indexOf(' '));
+                    var expression = value.substring(value.indexOf(' ') + 1);
+
+                    fills.put(Integer.parseInt(position), expression);
+                }
+                default -> {
+                }
+            }
+        }
+
+        return new ColumnLayout(positions, width, fills, unerasedPositions);
+    }
+
+    /**
+     * Returns the lines to store the layout in the header. The identity
+     * layout has no lines.
+     *
+     * @return the layout lines.
+     */
+    public List<String> toLines() {
+        if (identity) {
+            return List.of();
+        }
+
+        var lines = Lists.<String>empty();
+
+        lines.add(STR."\{POSITIONS} \{listOf(Arrays.stream(positions).boxed().toList())}");
+        lines.add(STR."\{WIDTH} \{width}");
+        lines.add(STR."\{UNERASED} \{listOf(unerasedPositions)}");
+
+        fills.forEach((position, expression) -> lines.add(STR."\{FILL} \{position} \{expression}"));
+
+        return lines;
+    }
+
+    /**
+     * Returns the position of the column value in a line of the records file.
+     *
+     * @param columnIndex the index of the column in the header.
+     * @return the position of the value.
+     */
+    public int positionOf(int columnIndex) {
+        return identity ? columnIndex : positions[columnIndex];
+    }
+
+    /**
+     * Returns the expression generating the values at the position
+     * for the lines written before the position was taken.
+     *
+     * @param position the position.
+     * @return the fill expression, or nothing if the values are always stored.
+     */
+    public Optional<String> fillOf(int position) {
+        return Optional.ofNullable(fills.get(position));
+    }
+
+    public boolean isIdentity() {
+        return identity;
+    }
+
+    /**
+     * Checks whether rewriting the records file would change it,
+     * that is there are values to generate or to erase.
+     *
+     * @return {@code true} if the records file should be rewritten.
+     */
+    public boolean needsMigration() {
+        return !fills.isEmpty() || !unerasedPositions.isEmpty();
+    }
+
+    /**
+     * Returns the layout after the records file was rewritten
+     * with {@link #toTableLine(TableRecord)}.
+     *
+     * @return the new layout.
+     */
+    public ColumnLayout migrated() {
+        return new ColumnLayout(positions, width, new TreeMap<>(), new TreeSet<>());
+    }
+
+    /**
+     * Returns the layout after the columns were reordered.
+     *
+     * @param previousIndexes the previous header index of each column in the new order.
+     * @return the new layout.
+     */
+    public ColumnLayout reorder(int[] previousIndexes) {
+        var reordered = new int[positions.length];
+
+        for (int index = 0; index < reordered.length; index++) {
+            reordered[index] = positions[previousIndexes[index]];
+        }
+
+        return new ColumnLayout(reordered, width, new TreeMap<>(fills), new TreeSet<>(unerasedPositions));
+    }
+
+    /**
+     * Returns the layout after a column was added to the end of the header.
+     * The values of the new column are stored at the end of the lines.
+     *
+     * @param fillExpression the expression generating the values for the lines
+     *                       written before, or {@code null} if all the lines are
+     *                       going to be rewritten with the values.
+     * @return the new layout.
+     */
+    public ColumnLayout withColumnAdded(String fillExpression) {
+        var extended = Arrays.copyOf(positions, positions.length + 1);
+        var extendedFills = new TreeMap<>(fills);
+
+        extended[positions.length] = width;
+
+        if (fillExpression != null) {
+            extendedFills.put(width, fillExpression);
+        }
+
+        return new ColumnLayout(extended, width + 1, extendedFills, new TreeSet<>(unerasedPositions));
+    }
+
+    /**
+     * Returns the layout after a column was deleted. The values
+     * of the column stay in the lines until they are rewritten.
+     *
+     * @param columnIndex the header index of the deleted column.
+     * @return the new layout.
+     */
+    public ColumnLayout withColumnDeleted(int columnIndex) {
+        var deletedPosition = positions[columnIndex];
+        var shrunk = new int[positions.length - 1];
+        var shrunkFills = new TreeMap<>(fills);
+        var shrunkUnerasedPositions = new TreeSet<>(unerasedPositions);
+
+        for (int index = 0, shrunkIndex = 0; index < positions.length; index++) {
+            if (index != columnIndex) {
+                shrunk[shrunkIndex++] = positions[index];
+            }
+        }
+
+        shrunkFills.remove(deletedPosition);
+        shrunkUnerasedPositions.add(deletedPosition);
+
+        return new ColumnLayout(shrunk, width, shrunkFills, shrunkUnerasedPositions);
+    }
+
+    /**
+     * Makes a line of the records file from a record, which fields are in the header order.
+     * The positions of the deleted columns are filled with nulls.
+     *
+     * @param record the record.
+     * @return the line.
+     */
+    public String toTableLine(TableRecord record) {
+        if (identity) {
+            return record.toTableLine();
+        }
+
+        var values = new String[width];
+
+        if (width != positions.length) {
+            Arrays.fill(values, NullEntity.any().toRecordForm());
+        }
+
+        for (int index = 0; index < positions.length; index++) {
+            values[positions[index]] = record.fieldAt(index).getEntity().toRecordForm();
+        }
+
+        return String.join(",", values);
+    }
+
+    private static boolean isIdentity(int[] positions) {
+        for (int index = 0; index < positions.length; index++) {
+            if (positions[index] != index) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String listOf(Collection<Integer> integers) {
+        return ListEntity.of(integers.stream().map(IntegerEntity::of).toList()).toInstructionForm();
+    }
+
+    private static List<Integer> integersOf(String list) {
+        return eval(list).tryGetValueAsListOf(IntegerEntity.class).orElseThrow().stream().map(IntegerEntity::getValue).toList();
+    }
+}
@@ -0,0 +1,18 @@
+package ru.anafro.quark.server.database.data.files;
+
+/**
+ * Represents how much of the records file of a table is taken
+ * by the deleted records waiting for the vacuum.
+ *
+ * @param deadRecords the number of the deleted records.
+ * @param deadBytes   the number of bytes the deleted records take.
+ * @param totalBytes  the size of the records file in bytes.
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public record DeadSpace(int deadRecords, long deadBytes, long totalBytes) {
+    public double ratio() {
+        return totalBytes == 0 ? 0 : (double) deadBytes / totalBytes;
+    }
+}
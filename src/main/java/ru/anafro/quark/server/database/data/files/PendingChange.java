@@ -0,0 +1,117 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.exceptions.PendingChangeFileFailedException;
+import ru.anafro.quark.server.utils.files.File;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Represents a change of the records file being written, which appends
+ * lines to the records file and marks other lines with tombstones.
+ * <br><br>
+ * <p>
+ * The append and the tombstones are two separate writes, so the change
+ * is written to the pending change file before both of them, and the file
+ * is deleted after. If the server stops between the writes, the pending
+ * change is recovered on the next start: when the appended lines are
+ * all in the records file, the tombstones are written again, and otherwise
+ * the appended part is cut off the records file. Hence, a change is either
+ * written completely or not written at all.
+ *
+ * @param appendedFrom  the length of the records file before the append.
+ * @param appendedUntil the length of the records file after the append.
+ * @param tombstones    the tombstones of the records file after the change.
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Tombstones
+ * @since Quark 3.0
+ */
+record PendingChange(long appendedFrom, long appendedUntil, Tombstones tombstones) {
+    public static final String NAME = "Table's Pending Change.qpending";
+
+    /**
+     * Writes the pending change before the change itself.
+     * The caller must hold the write lock of the records.
+     *
+     * @param records the records.
+     */
+    void begin(TableRecords records) {
+        var file = fileOf(records);
+        var writtenFile = Path.of(STR."\{file.getPath()}.writing");
+
+        try (var stream = new FileOutputStream(writtenFile.toFile()); var output = new DataOutputStream(new BufferedOutputStream(stream))) {
+            output.writeLong(appendedFrom);
+            output.writeLong(appendedUntil);
+            tombstones.writeTo(output);
+            output.flush();
+            stream.getFD().sync();
+        } catch (IOException exception) {
+            throw new PendingChangeFileFailedException(records, exception);
+        }
+
+        try {
+            Files.move(writtenFile, file.getPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new PendingChangeFileFailedException(records, exception);
+        }
+    }
+
+    /**
+     * Deletes the pending change after the change has been written completely.
+     *
+     * @param records the records.
+     */
+    void end(TableRecords records) {
+        fileOf(records).delete();
+    }
+
+    /**
+     * Finishes or undoes the change left pending by a stopped server.
+     * Does nothing if there is no pending change.
+     *
+     * @param records the records.
+     */
+    static void recover(TableRecords records) {
+        if (!fileOf(records).exists()) {
+            return;
+        }
+
+        synchronized (records.getWriteLock()) {
+            var file = fileOf(records);
+
+            if (!file.exists()) {
+                return;
+            }
+
+            var pendingChange = read(records);
+
+            if (pendingChange.tombstones.getRecordsFileKey().equals(records.getFileKey())) {
+                if (records.getFile().length() >= pendingChange.appendedUntil) {
+                    Tombstones.write(records, pendingChange.tombstones);
+                } else {
+                    records.truncate(pendingChange.appendedFrom);
+                }
+            }
+
+            pendingChange.end(records);
+        }
+    }
+
+    private static PendingChange read(TableRecords records) {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(fileOf(records).getPath())))) {
+            var appendedFrom = input.readLong();
+            var appendedUntil = input.readLong();
+
+            return new PendingChange(appendedFrom, appendedUntil, Tombstones.readFrom(input));
+        } catch (IOException exception) {
+            throw new PendingChangeFileFailedException(records, exception);
+        }
+    }
+
+    private static File fileOf(TableRecords records) {
+        return records.getTable().getDirectory().getFile(NAME);
+    }
+}
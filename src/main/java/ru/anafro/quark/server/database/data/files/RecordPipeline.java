@@ -0,0 +1,297 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.*;
+import ru.anafro.quark.server.database.data.exceptions.*;
+import ru.anafro.quark.server.language.entities.ColumnModifierEntity;
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.language.types.EntityType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Represents a table header compiled for inserting records.
+ * <br><br>
+ * <p>
+ * The pipeline resolves everything the header would otherwise look up for
+ * every inserted record: which columns are generated and by which modifier,
+ * which columns the inserted records must contain, and the modifiers of each
+ * column ordered by their {@link ColumnModifierApplicationPriority}. A pipeline
+ * is built once per header and reused until the header is changed.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class RecordPipeline {
+    private final CompiledColumn[] columns;
+    private final CompiledColumn[] insertedColumns;
+    private final CompiledColumn[] generatedColumns;
+    private final List<String> columnNames;
+    private final List<String> insertedColumnNames;
+    private final List<ColumnDescription> insertedColumnDescriptions;
+
+    RecordPipeline(List<ColumnDescription> columns) {
+        var inserted = new ArrayList<CompiledColumn>();
+        var generated = new ArrayList<CompiledColumn>();
+        var compiled = new ArrayList<CompiledColumn>();
+
+        for (int index = 0; index < columns.size(); index++) {
+            var column = new CompiledColumn(index, columns.get(index));
+            compiled.add(column);
+
+            if (column.isGenerated()) {
+                generated.add(column);
+            } else {
+                inserted.add(column);
+            }
+        }
+
+        this.columns = compiled.toArray(CompiledColumn[]::new);
+        this.insertedColumns = inserted.toArray(CompiledColumn[]::new);
+        this.generatedColumns = generated.toArray(CompiledColumn[]::new);
+        this.columnNames = columns.stream().map(ColumnDescription::name).toList();
+        this.insertedColumnNames = inserted.stream().map(column -> column.name).toList();
+        this.insertedColumnDescriptions = inserted.stream().map(column -> column.description).toList();
+    }
+
+    /**
+     * Returns the columns inserted records must contain,
+     * which are all the columns except the generated ones.
+     *
+     * @return the inserted columns in the table order.
+     */
+    public List<ColumnDescription> getInsertedColumns() {
+        return insertedColumnDescriptions;
+    }
+
+    /**
+     * Returns the names of the columns a record with the passed
+     * number of fields has. A record containing all the columns
+     * is read from a table file, and a record without the generated
+     * columns is inserted into a table.
+     *
+     * @param fieldCount the number of the fields of the record.
+     * @return the column names.
+     */
+    public List<String> columnNamesFor(int fieldCount) {
+        return fieldCount == columnNames.size() ? columnNames : insertedColumnNames;
+    }
+
+    /**
+     * Checks that the record can be inserted into the table. The record must
+     * contain all the columns that are not generated, in the table order.
+     *
+     * @param table  the table.
+     * @param record the record to insert.
+     */
+    public void ensureRecordIsValid(Table table, TableRecord record) {
+        ensureFieldsArePresent(table, record);
+
+        for (int index = 0; index < insertedColumns.length; index++) {
+            var column = insertedColumns[index];
+            var field = record.fieldAt(index);
+
+            for (var check : column.checks) {
+                check.ensureFieldIsValid(table, record, field);
+            }
+        }
+    }
+
+    /**
+     * Checks several records that are inserted at once. Unlike checking them
+     * one by one, modifiers like {@code unique} also check the records against
+     * each other.
+     *
+     * @param table   the table.
+     * @param records the records to insert.
+     */
+    public void ensureRecordsAreValid(Table table, List<TableRecord> records) {
+        for (var record : records) {
+            ensureFieldsArePresent(table, record);
+        }
+
+        for (int index = 0; index < insertedColumns.length; index++) {
+            var column = insertedColumns[index];
+            var fields = new ArrayList<RecordField>(records.size());
+
+            for (var record : records) {
+                fields.add(record.fieldAt(index));
+            }
+
+            for (var check : column.checks) {
+                check.ensureFieldsAreValid(table, records, fields);
+            }
+        }
+    }
+
+    /**
+     * Checks the records changed by a change of a single column. Unlike
+     * inserted records, the changed records contain all the columns,
+     * and only the changed column is checked. The previous values
+     * of the records must be already removed from the table indexes,
+     * so that a record is not compared with itself.
+     *
+     * @param table      the table.
+     * @param records    the changed records.
+     * @param columnName the name of the changed column.
+     */
+    public void ensureChangedRecordsAreValid(Table table, List<TableRecord> records, String columnName) {
+        for (var column : columns) {
+            if (!column.name.equals(columnName)) {
+                continue;
+            }
+
+            var fields = new ArrayList<RecordField>(records.size());
+
+            for (var record : records) {
+                fields.add(record.getField(columnName));
+            }
+
+            for (var check : column.checks) {
+                check.ensureFieldsAreValid(table, records, fields);
+            }
+        }
+    }
+
+    /**
+     * Casts the fields of a valid record to the column types and adds
+     * the generated fields.
+     *
+     * @param table  the table.
+     * @param record the record to insert.
+     */
+    public void prepareRecord(Table table, TableRecord record) {
+        prepareRecords(table, List.of(record));
+    }
+
+    /**
+     * Prepares several records that are inserted at once. The generated
+     * fields of each column are generated together, so that the sequences
+     * reserve one block of values for all the records.
+     *
+     * @param table   the table.
+     * @param records the records to insert.
+     */
+    public void prepareRecords(Table table, List<TableRecord> records) {
+        for (var record : records) {
+            var fields = record.getFields();
+
+            if (fields.size() != insertedColumns.length) {
+                throw new RecordFieldCountMismatchesTableHeaderException(table, fields.size());
+            }
+
+            for (int index = 0; index < insertedColumns.length; index++) {
+                var field = fields.get(index);
+                field.set(insertedColumns[index].cast(table, field));
+            }
+        }
+
+        for (var column : generatedColumns) {
+            var fields = new ArrayList<RecordField>(records.size());
+
+            for (int index = 0; index < records.size(); index++) {
+                fields.add(RecordField.empty(column.name));
+            }
+
+            column.generator.getModifier().prepareFields(table, fields, column.generator.getModifierArguments());
+
+            for (int index = 0; index < records.size(); index++) {
+                records.get(index).add(column.index, fields.get(index));
+            }
+        }
+    }
+
+    public boolean hasGeneratedColumns() {
+        return generatedColumns.length != 0;
+    }
+
+    private void ensureFieldsArePresent(Table table, TableRecord record) {
+        if (record.fieldCount() != insertedColumns.length) {
+            throw new RecordFieldCountMismatchesTableHeaderException(table, record.fieldCount());
+        }
+
+        for (int index = 0; index < insertedColumns.length; index++) {
+            var column = insertedColumns[index];
+
+            if (!record.fieldAt(index).getColumnName().equals(column.name)) {
+                if (record.doesntHaveField(column.name)) {
+                    throw new RecordFieldMissingException(record, column.description, table);
+                }
+
+                throw new RecordColumnsDisorderedException(record, column.description, table);
+            }
+        }
+    }
+
+    private static final class CompiledColumn {
+        private final int index;
+        private final String name;
+        private final EntityType<?> type;
+        private final ColumnDescription description;
+        private final ColumnModifierEntity generator;
+        private final ModifierCheck[] checks;
+
+        private CompiledColumn(int index, ColumnDescription description) {
+            this.index = index;
+            this.name = description.name();
+            this.type = description.type();
+            this.description = description;
+            this.generator = description.tryGetGeneratingModifier().orElse(null);
+            this.checks = description.modifiers()
+                    .stream()
+                    .sorted(Comparator.comparing(modifier -> modifier.getModifier().getApplicationPriority()))
+                    .map(ModifierCheck::new)
+                    .toArray(ModifierCheck[]::new);
+        }
+
+        private boolean isGenerated() {
+            return generator != null;
+        }
+
+        private Entity cast(Table table, RecordField field) {
+            var value = field.getEntity();
+
+            if (value.doesntHaveType(type) && type.canBeCastedFrom(value.getType())) {
+                value = type.cast(value);
+            }
+
+            if (value.doesntHaveType(type)) {
+                throw new RecordTypeMismatchesTableHeaderException(table, description, value);
+            }
+
+            return value;
+        }
+    }
+
+    private record ModifierCheck(ColumnModifierEntity entity) {
+        private void ensureFieldIsValid(Table table, TableRecord record, RecordField field) {
+            var modifier = entity.getModifier();
+
+            if (!modifier.isTypeAllowed(field.getEntity().getType())) {
+                throw new ColumnModifierIsNotApplicableForProvidedTypeException(entity, field.getEntity());
+            }
+
+            if (!modifier.isFieldValid(table, field, entity.getModifierArguments())) {
+                throw new ColumnModifierValidityCheckFailedException(record, table, entity);
+            }
+        }
+
+        private void ensureFieldsAreValid(Table table, List<TableRecord> records, List<RecordField> fields) {
+            var modifier = entity.getModifier();
+
+            for (var field : fields) {
+                if (!modifier.isTypeAllowed(field.getEntity().getType())) {
+                    throw new ColumnModifierIsNotApplicableForProvidedTypeException(entity, field.getEntity());
+                }
+            }
+
+            var invalidFieldIndex = modifier.indexOfInvalidField(table, fields, entity.getModifierArguments());
+
+            if (invalidFieldIndex != -1) {
+                throw new ColumnModifierValidityCheckFailedException(records.get(invalidFieldIndex), table, entity);
+            }
+        }
+    }
+}
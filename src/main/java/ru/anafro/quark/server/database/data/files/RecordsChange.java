@@ -0,0 +1,107 @@
+package ru.anafro.quark.server.database.data.files;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * Represents a change of the records file: the lines appended to it and
+ * the tombstones marking the lines deleted from it.
+ * <br><br>
+ * <p>
+ * A change can be written somewhere before it is applied with
+ * {@link TableRecords#apply(RecordsChange)}, and applied again from there
+ * if the server stops in the middle. Applying cuts the records file back
+ * to its length before the change first, so applying a change twice
+ * is the same as applying it once.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Tombstones
+ * @since Quark 3.0
+ */
+public final class RecordsChange {
+    private final long appendedFrom;
+    private final String appendedLines;
+    private final Tombstones tombstones;
+
+    private RecordsChange(long appendedFrom, String appendedLines, Tombstones tombstones) {
+        this.appendedFrom = appendedFrom;
+        this.appendedLines = appendedLines;
+        this.tombstones = tombstones;
+    }
+
+    /**
+     * Makes a change of the records file in its current state.
+     * The caller must hold the write lock of the records until the change is applied.
+     *
+     * @param records        the records.
+     * @param recordsFileKey the key identifying the records file the dead lines belong to.
+     * @param appendedLines  the appended lines, each ending with a line break.
+     * @param deadLines      the lines to mark as deleted.
+     * @param deadBytes      the number of bytes the dead lines take.
+     * @return the change.
+     */
+    public static RecordsChange of(TableRecords records, String recordsFileKey, String appendedLines, BitSet deadLines, long deadBytes) {
+        return new RecordsChange(records.getFile().length(), appendedLines, Tombstones.adding(records, recordsFileKey, deadLines, deadBytes));
+    }
+
+    /**
+     * Reads a change written with {@link #writeTo(DataOutputStream)}.
+     *
+     * @param input the input.
+     * @return the change.
+     * @throws IOException if the input cannot be read.
+     */
+    public static RecordsChange readFrom(DataInputStream input) throws IOException {
+        var appendedFrom = input.readLong();
+        var appendedLines = new String(input.readNBytes(input.readInt()), StandardCharsets.UTF_8);
+        var tombstones = Tombstones.readFrom(new DataInputStream(new ByteArrayInputStream(input.readNBytes(input.readInt()))));
+
+        return new RecordsChange(appendedFrom, appendedLines, tombstones);
+    }
+
+    public void writeTo(DataOutputStream output) throws IOException {
+        var appendedBytes = appendedLines.getBytes(StandardCharsets.UTF_8);
+        var tombstoneBytes = new ByteArrayOutputStream();
+
+        tombstones.writeTo(new DataOutputStream(tombstoneBytes));
+
+        output.writeLong(appendedFrom);
+        output.writeInt(appendedBytes.length);
+        output.write(appendedBytes);
+        output.writeInt(tombstoneBytes.size());
+        tombstoneBytes.writeTo(output);
+    }
+
+    /**
+     * Checks if the change can't be applied to the records file anymore, because
+     * the file has been replaced, or more lines have been appended after the change.
+     *
+     * @param records the records.
+     * @return {@code true} if the change must not be applied.
+     */
+    public boolean doesntApplyTo(TableRecords records) {
+        var length = records.getFile().length();
+
+        return !tombstones.getRecordsFileKey().equals(records.getFileKey())
+                || length < appendedFrom
+                || length > getAppendedUntil();
+    }
+
+    public long getAppendedFrom() {
+        return appendedFrom;
+    }
+
+    public long getAppendedUntil() {
+        return appendedFrom + appendedLines.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    public String getAppendedLines() {
+        return appendedLines;
+    }
+
+    Tombstones getTombstones() {
+        return tombstones;
+    }
+}
@@ -0,0 +1,172 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.database.data.UntypedTableRecord;
+import ru.anafro.quark.server.database.data.exceptions.ReadingTheNextLineOfTableFileFailedException;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A consistent read-only view of the records of a table as they were
+ * at a committed {@link RecordsVersion}.
+ * <br><br>
+ * <p>
+ * The snapshot keeps the records file of its version open, so the changes
+ * committed after the snapshot was taken are not visible through it, and
+ * the rewrites replacing the records file do not affect it: the file system
+ * reclaims the replaced file when the last snapshot reading it is closed.
+ * Taking and reading snapshots never waits for the writers.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see TableRecords#snapshot()
+ * @since Quark 3.0
+ */
+public final class RecordsSnapshot implements Closeable {
+    private final TableRecords records;
+    private final RecordsVersion version;
+    private final FileChannel channel;
+
+    RecordsSnapshot(TableRecords records, RecordsVersion version, FileChannel channel) {
+        this.records = records;
+        this.version = version;
+        this.channel = channel;
+    }
+
+    public RecordsVersion getVersion() {
+        return version;
+    }
+
+    public Tombstones getTombstones() {
+        return version.tombstones();
+    }
+
+    /**
+     * Opens a reader of the lines of the records file in this version,
+     * including the blank and deleted ones.
+     *
+     * @return the reader.
+     */
+    public BufferedReader reader() {
+        try {
+            var stream = new LimitedInputStream(Channels.newInputStream(channel.position(0)), version.length());
+            return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            throw new ReadingTheNextLineOfTableFileFailedException(records, exception);
+        }
+    }
+
+    /**
+     * Reads the lines of the records that are not deleted in this version.
+     *
+     * @param action the action called for each line in the file order.
+     */
+    public void forEachLiveLine(LiveLineAction action) {
+        try {
+            var reader = reader();
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                var currentLineNumber = lineNumber++;
+
+                if (version.tombstones().isDead(currentLineNumber)) {
+                    continue;
+                }
+
+                if (!action.accept(currentLineNumber, line)) {
+                    return;
+                }
+            }
+        } catch (IOException exception) {
+            throw new ReadingTheNextLineOfTableFileFailedException(records, exception);
+        }
+    }
+
+    /**
+     * Reads all the records of this version into memory.
+     *
+     * @return the records.
+     */
+    public List<TableRecord> readAll() {
+        var header = records.getTable().getHeader();
+        var readRecords = new ArrayList<TableRecord>();
+
+        forEachLiveLine((lineNumber, line) -> readRecords.add(UntypedTableRecord.fromString(line).applyTypesFrom(header)));
+
+        return readRecords;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new ReadingTheNextLineOfTableFileFailedException(records, exception);
+        }
+    }
+
+    @FunctionalInterface
+    public interface LiveLineAction {
+        /**
+         * Handles a line of a record that is not deleted.
+         *
+         * @param lineNumber the number of the line among the non-blank lines.
+         * @param line       the line.
+         * @return {@code false} to stop reading.
+         */
+        boolean accept(long lineNumber, String line);
+    }
+
+    private static class LimitedInputStream extends FilterInputStream {
+        private long remainingBytes;
+
+        private LimitedInputStream(InputStream stream, long limit) {
+            super(stream);
+            this.remainingBytes = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remainingBytes <= 0) {
+                return -1;
+            }
+
+            var read = super.read();
+
+            if (read != -1) {
+                remainingBytes--;
+            }
+
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remainingBytes <= 0) {
+                return -1;
+            }
+
+            var read = super.read(buffer, offset, (int) Math.min(length, remainingBytes));
+
+            if (read != -1) {
+                remainingBytes -= read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.anafro.quark.server.database.data.files;
+
+/**
+ * Represents a committed state of the records of a table. Every change
+ * of the records commits a new version with the next sequence number.
+ * <br><br>
+ * <p>
+ * Records are only appended to the records file, deleted by tombstones,
+ * or moved to a new file by a rewrite, so a version is fully described
+ * by the file, its length at the commit and the tombstones at the commit.
+ * The lines appended and the tombstones added later are not a part of it.
+ *
+ * @param sequence   the commit sequence number.
+ * @param fileKey    the key identifying the records file.
+ * @param length     the number of bytes of the records file in this version.
+ * @param tombstones the tombstones of this version.
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see RecordsSnapshot
+ * @since Quark 3.0
+ */
+public record RecordsVersion(long sequence, String fileKey, long length, Tombstones tombstones) {
+}
@@ -0,0 +1,100 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Appends the records inserted into a table to its records file from a single writer.
+ * <br><br>
+ * <p>
+ * The insertions submitted by many threads are queued. The writer takes all the queued
+ * insertions at once, validates each of them separately and appends the valid ones
+ * with a single write and a single sync, so N small insertions cost one disk write.
+ * Each insertion completes through its own future, and an invalid insertion
+ * fails alone without failing the others written with it.
+ * <br><br>
+ * <p>
+ * Only one writer drains the queue of a table at a time. The writers run
+ * on virtual threads, which exist only while there are insertions to write.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see TableRecords#insertAsync(List)
+ * @since Quark 3.0
+ */
+final class RecordsWriter {
+    private static final Map<String, RecordsWriter> writers = new ConcurrentHashMap<>();
+    private static final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Records Writer").factory());
+    private final Queue<Insertion> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDraining = new AtomicBoolean();
+
+    private RecordsWriter() {
+    }
+
+    static RecordsWriter of(TableRecords records) {
+        return writers.computeIfAbsent(records.getFilename(), _ -> new RecordsWriter());
+    }
+
+    /**
+     * Drops the writer of the records. A writer still draining its queue writes
+     * the queued insertions, and the next insertion creates a new writer.
+     *
+     * @param records the records of the table.
+     */
+    static void forget(TableRecords records) {
+        writers.remove(records.getFilename());
+    }
+
+    CompletableFuture<Void> submit(TableRecords records, List<TableRecord> insertedRecords) {
+        var insertion = new Insertion(records, insertedRecords, new CompletableFuture<>());
+
+        queue.add(insertion);
+
+        if (isDraining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+
+        return insertion.future();
+    }
+
+    private void drain() {
+        do {
+            var insertions = new ArrayList<Insertion>();
+            Insertion insertion;
+
+            while ((insertion = queue.poll()) != null) {
+                insertions.add(insertion);
+            }
+
+            if (!insertions.isEmpty()) {
+                write(insertions);
+            }
+
+            isDraining.set(false);
+        } while (!queue.isEmpty() && isDraining.compareAndSet(false, true));
+    }
+
+    private static void write(List<Insertion> insertions) {
+        try {
+            insertions.getFirst().records().append(insertions);
+        } catch (RuntimeException exception) {
+            insertions.forEach(insertion -> insertion.future().completeExceptionally(exception));
+        }
+    }
+
+    /**
+     * Represents records waiting to be appended to the records file.
+     *
+     * @param records         the records of the table to insert into.
+     * @param insertedRecords the inserted records.
+     * @param future          the future completed when the records are written.
+     */
+    record Insertion(TableRecords records, List<TableRecord> insertedRecords, CompletableFuture<Void> future) {
+    }
+}
@@ -1,34 +1,72 @@
 package ru.anafro.quark.server.database.data.files;
 
 import ru.anafro.quark.server.database.data.ColumnDescription;
-import ru.anafro.quark.server.database.data.RecordField;
 import ru.anafro.quark.server.database.data.Table;
 import ru.anafro.quark.server.database.data.TableRecord;
-import ru.anafro.quark.server.database.data.exceptions.*;
+import ru.anafro.quark.server.database.data.exceptions.TableHeaderFileFailedException;
 import ru.anafro.quark.server.language.entities.ColumnEntity;
+import ru.anafro.quark.server.language.entities.Entity;
 import ru.anafro.quark.server.language.entities.ListEntity;
 import ru.anafro.quark.server.utils.collections.Lists;
 import ru.anafro.quark.server.utils.collections.Streams;
 import ru.anafro.quark.server.utils.files.File;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-
+import ru.anafro.quark.server.utils.files.FileStamp;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ru.anafro.quark.server.database.data.RecordFieldGenerator.generator;
 import static ru.anafro.quark.server.language.Expressions.eval;
 
 public class TableHeader {
     public static final String NAME = "Table's Header.qheader";
+    private static final Map<Path, ParsedHeader> parsedHeaders = new ConcurrentHashMap<>();
     private final Table table;
     private final File file;
     private List<ColumnDescription> columns;
+    private ColumnLayout layout;
+    private RecordPipeline pipeline;
 
     public TableHeader(Table table) {
         this.file = table.getDirectory().getFile(NAME);
         this.table = table;
-        this.columns = Streams.toModifiableList(eval(file.read()).tryGetValueAsListOf(ColumnEntity.class).orElseThrow().stream().map(ColumnEntity::getValue));
+
+        var stamp = FileStamp.of(file);
+        var parsedHeader = parsedHeaders.get(file.getPath());
+
+        if (parsedHeader == null || !parsedHeader.stamp().equals(stamp)) {
+            var lines = file.readLines();
+            var parsedColumns = Streams.toModifiableList(eval(lines.getFirst()).tryGetValueAsListOf(ColumnEntity.class).orElseThrow().stream().map(ColumnEntity::getValue));
+            var parsedLayout = ColumnLayout.parse(lines.subList(1, lines.size()), parsedColumns.size());
+
+            parsedHeader = new ParsedHeader(stamp, parsedColumns, parsedLayout, new RecordPipeline(parsedColumns));
+            parsedHeaders.put(file.getPath(), parsedHeader);
+
+            if (parsedLayout.needsMigration()) {
+                TableMigrationService.schedule(table);
+            }
+        }
+
+        this.columns = parsedHeader.copyColumns();
+        this.layout = parsedHeader.layout();
+        this.pipeline = parsedHeader.pipeline();
+    }
+
+    /**
+     * Drops the parsed header of the table kept between queries.
+     *
+     * @param table the table.
+     * @since Quark 3.0
+     */
+    public static void forget(Table table) {
+        parsedHeaders.remove(table.getDirectory().getFilePath(NAME));
     }
 
     public List<ColumnDescription> getColumns() {
@@ -37,6 +75,70 @@ public class TableHeader {
 
     public void setColumns(List<ColumnDescription> columns) {
         this.columns = columns;
+        this.pipeline = null;
+    }
+
+    /**
+     * Returns the positions of the column values in the lines
+     * of the records file.
+     *
+     * @return the layout.
+     * @since Quark 3.0
+     */
+    public ColumnLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Replaces the layout. Use it after the records file was rewritten.
+     *
+     * @param layout the new layout.
+     * @since Quark 3.0
+     */
+    public void setLayout(ColumnLayout layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Generates the value of a column for a record read from a line
+     * written before the column was added.
+     *
+     * @param columnIndex the index of the column.
+     * @param record      the record with the other fields read.
+     * @return the generated value.
+     * @since Quark 3.0
+     */
+    public Entity fillValueOf(int columnIndex, TableRecord record) {
+        var column = columns.get(columnIndex);
+        var fillExpression = layout.fillOf(layout.positionOf(columnIndex)).orElseThrow();
+
+        return generator(fillExpression).generate(record, column);
+    }
+
+    /**
+     * Makes a line of the records file from a record.
+     *
+     * @param record the record, which fields are in the header order.
+     * @return the line.
+     * @since Quark 3.0
+     */
+    public String toTableLine(TableRecord record) {
+        return layout.toTableLine(record);
+    }
+
+    /**
+     * Returns the header compiled for inserting records. The pipeline
+     * is shared by all the headers read from the same unchanged file.
+     *
+     * @return the pipeline.
+     * @since Quark 3.0
+     */
+    public RecordPipeline getPipeline() {
+        if (pipeline == null) {
+            pipeline = new RecordPipeline(columns);
+        }
+
+        return pipeline;
     }
 
     public Optional<ColumnDescription> getColumn(String columnName) {
@@ -52,73 +154,23 @@ public class TableHeader {
     }
 
     public void ensureRecordIsValid(TableRecord record) {
-        if (columnCount() != record.fieldCount()) {
-            throw new RecordFieldCountMismatchesTableHeaderException(table, record.fieldCount());
-        }
-
-        for (int index = 0; index < columns.size(); index++) {
-            var field = record.fieldAt(index);
-            var column = columnAt(index);
-            var columnName = column.name();
-
-            if (record.doesntHaveField(columnName) && column.isNotGenerated()) {
-                throw new RecordFieldMissingException(record, column, table);
-            }
-
-            if (!field.getColumnName().equals(columnName)) {
-                throw new RecordColumnsDisorderedException(record, column, table);
-            }
-
-            for (var modifierEntity : column.modifiers()) {
-                var modifier = modifierEntity.getModifier();
-                var modifierArguments = modifierEntity.getModifierArguments();
-                var fieldType = field.getEntity().getType();
-                var fieldValue = field.getEntity();
+        getPipeline().ensureRecordIsValid(table, record);
+    }
 
-                if (!modifier.isFieldValid(table, field, modifierArguments)) {
-                    throw new ColumnModifierValidityCheckFailedException(record, table, modifierEntity);
-                }
+    public void ensureRecordsAreValid(List<TableRecord> records) {
+        getPipeline().ensureRecordsAreValid(table, records);
+    }
 
-                if (!modifier.isTypeAllowed(fieldType)) {
-                    throw new ColumnModifierIsNotApplicableForProvidedTypeException(modifierEntity, fieldValue);
-                }
-            }
-        }
+    public void ensureChangedRecordsAreValid(List<TableRecord> records, String columnName) {
+        getPipeline().ensureChangedRecordsAreValid(table, records, columnName);
     }
 
     public void prepareRecord(TableRecord record) {
-        var fields = record.getFields();
-
-        if (fields.size() != columns.size() - columns.stream().filter(ColumnDescription::isGenerated).count()) {
-            throw new RecordFieldCountMismatchesTableHeaderException(table, fields.size());
-        }
-
-        var fieldIndex = new AtomicInteger();
-        for (var column : columns) {
-            column.tryGetGeneratingModifier().ifPresentOrElse(entity -> {
-                var field = new RecordField(column.name(), null);
-                var modifier = entity.getModifier();
-                var arguments = entity.getModifierArguments();
-
-                modifier.prepareField(table, field, arguments);
-
-                record.add(field);
-            }, () -> {
-                var field = fields.get(fieldIndex.getAndIncrement());
-                var value = field.getEntity();
-                var columnType = column.type();
-
-                if (columnType.canBeCastedFrom(value.getType())) {
-                    value = columnType.cast(value);
-                }
-
-                if (value.doesntHaveType(columnType)) {
-                    throw new RecordTypeMismatchesTableHeaderException(table, column, value);
-                }
+        getPipeline().prepareRecord(table, record);
+    }
 
-                field.set(value);
-            });
-        }
+    public void prepareRecords(List<TableRecord> records) {
+        getPipeline().prepareRecords(table, records);
     }
 
     public int columnCount() {
@@ -130,15 +182,63 @@ public class TableHeader {
     }
 
     public void addColumn(ColumnDescription columnDescription) {
+        addColumn(columnDescription, null);
+    }
+
+    /**
+     * Adds a column, which values are not stored in the records file yet.
+     * The values are generated on read until the records file is rewritten,
+     * so the fill expression must be a constant.
+     *
+     * @param columnDescription the column.
+     * @param fillExpression    the constant expression generating the values, or {@code null}
+     *                          if the records file is going to be rewritten with the values.
+     * @since Quark 3.0
+     */
+    public void addColumn(ColumnDescription columnDescription, String fillExpression) {
         columns.add(columnDescription);
+        layout = layout.withColumnAdded(fillExpression);
+        pipeline = null;
+    }
+
+    /**
+     * Deletes a column. The values of the column are skipped
+     * on read until the records file is rewritten.
+     *
+     * @param columnName the name of the column.
+     * @since Quark 3.0
+     */
+    public void deleteColumn(String columnName) {
+        var index = Lists.indexOfKey(columns, columnName, ColumnDescription::name);
+
+        columns.remove(index);
+        layout = layout.withColumnDeleted(index);
+        pipeline = null;
     }
 
     public void renameColumn(String columnName, String newName) {
         getColumn(columnName).orElseThrow().setName(newName);
+        pipeline = null;
     }
 
+    /**
+     * Saves the columns and the layout. Both are written to the same file,
+     * which replaces the previous one atomically, so a crash in the middle
+     * of saving leaves either the old header or the new one.
+     *
+     * @since Quark 3.0
+     */
     public void save() {
-        file.write(ListEntity.of(columns.stream().map(ColumnEntity::new).toList()).toInstructionForm());
+        var lines = Lists.<String>empty();
+
+        lines.add(ListEntity.of(columns.stream().map(ColumnEntity::new).toList()).toInstructionForm());
+        lines.addAll(layout.toLines());
+
+        write(String.join("\n", lines));
+
+        var savedColumns = columns.stream().map(ColumnDescription::copy).toList();
+        pipeline = new RecordPipeline(savedColumns);
+        parsedHeaders.put(file.getPath(), new ParsedHeader(FileStamp.of(file), savedColumns, layout, pipeline));
     }
 
     public Table getTable() {
@@ -154,24 +254,58 @@ public class TableHeader {
         return !hasColumn(columnName);
     }
 
+    /**
+     * Reorders the columns. Only the layout is changed,
+     * the records file stays the same.
+     *
+     * @param order the names of all the columns in the new order.
+     */
     public void reorderColumns(List<String> order) {
         var newOrder = Lists.<ColumnDescription>empty();
+        var previousIndexes = new int[order.size()];
+
+        for (int index = 0; index < order.size(); index++) {
+            var columnName = order.get(index);
 
-        for (var columnName : order) {
-            var column = getColumn(columnName).orElseThrow();
-            newOrder.add(column);
+            newOrder.add(getColumn(columnName).orElseThrow());
+            previousIndexes[index] = Lists.indexOfKey(columns, columnName, ColumnDescription::name);
         }
 
         this.columns = newOrder;
+        this.layout = layout.reorder(previousIndexes);
+        this.pipeline = null;
     }
 
     public void swapColumns(String firstColumnName, String secondColumnName) {
-        var newColumnOrder = new ArrayList<>(columns);
-        var firstIndex = Lists.indexOfKey(newColumnOrder, firstColumnName, ColumnDescription::name);
-        var secondIndex = Lists.indexOfKey(newColumnOrder, secondColumnName, ColumnDescription::name);
+        var newColumnOrder = new ArrayList<>(columns.stream().map(ColumnDescription::name).toList());
+        var firstIndex = newColumnOrder.indexOf(firstColumnName);
+        var secondIndex = newColumnOrder.indexOf(secondColumnName);
 
         Collections.swap(newColumnOrder, firstIndex, secondIndex);
+        reorderColumns(newColumnOrder);
+    }
 
-        this.columns = newColumnOrder;
+    private void write(String text) {
+        var writtenFile = Path.of(STR."\{file.getPath()}.writing");
+
+        try (var stream = new FileOutputStream(writtenFile.toFile()); var output = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
+            output.write(text);
+            output.flush();
+            stream.getFD().sync();
+        } catch (IOException exception) {
+            throw new TableHeaderFileFailedException(table, exception);
+        }
+
+        try {
+            Files.move(writtenFile, file.getPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new TableHeaderFileFailedException(table, exception);
+        }
+    }
+
+    private record ParsedHeader(FileStamp stamp, List<ColumnDescription> columns, ColumnLayout layout, RecordPipeline pipeline) {
+        private List<ColumnDescription> copyColumns() {
+            return Streams.toModifiableList(columns.stream().map(ColumnDescription::copy));
+        }
     }
 }
@@ -0,0 +1,76 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableName;
+import ru.anafro.quark.server.database.data.locks.TableLocks;
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.scheduling.Repeater;
+import ru.anafro.quark.server.utils.time.TimeSpan;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rewrites the records files of the tables which columns were added
+ * or deleted lazily, in background.
+ * <br><br>
+ * <p>
+ * Until a table is migrated, the values of its added columns are generated
+ * on every read and the values of its deleted columns stay in the file.
+ * A migration keeps the positions of the columns in the lines, so the table
+ * stays readable and changeable during it: only schema changes are waited for.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see ColumnLayout
+ * @since Quark 3.0
+ */
+public class TableMigrationService extends Repeater {
+    private static final Set<String> scheduledTableNames = ConcurrentHashMap.newKeySet();
+
+    public TableMigrationService() {
+        super(TimeSpan.seconds(1));
+    }
+
+    /**
+     * Schedules the migration of a table.
+     *
+     * @param table the table.
+     */
+    public static void schedule(Table table) {
+        scheduledTableNames.add(nameOf(table));
+    }
+
+    /**
+     * Migrates a table right away.
+     *
+     * @param table the table.
+     */
+    public static void migrate(Table table) {
+        scheduledTableNames.remove(nameOf(table));
+
+        try (var _ = TableLocks.changing(table)) {
+            table.getRecords().migrate();
+        }
+    }
+
+    @Override
+    public void performAction() {
+        for (var tableName : List.copyOf(scheduledTableNames)) {
+            scheduledTableNames.remove(tableName);
+
+            try {
+                if (Table.exists(tableName)) {
+                    migrate(Table.byName(tableName));
+                }
+            } catch (RuntimeException exception) {
+                Quark.logger().error(exception);
+            }
+        }
+    }
+
+    private static String nameOf(Table table) {
+        return new TableName(table.getDatabase().getName(), table.getName()).toCompoundedString();
+    }
+}
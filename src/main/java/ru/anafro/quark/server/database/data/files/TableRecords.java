@@ -4,19 +4,33 @@ import org.jetbrains.annotations.NotNull;
 import ru.anafro.quark.server.database.data.*;
 import ru.anafro.quark.server.database.data.exceptions.DatabaseFileNotFoundException;
 import ru.anafro.quark.server.database.data.exceptions.ReadingTheNextLineOfTableFileFailedException;
-import ru.anafro.quark.server.database.data.exceptions.RecordsFileInsertionFailedException;
 import ru.anafro.quark.server.database.data.exceptions.RecordsFileWritingFailedException;
+import ru.anafro.quark.server.database.data.indexes.TableIndexes;
 import ru.anafro.quark.server.database.data.structures.RecordCollection;
+import ru.anafro.quark.server.language.queries.RunningQueries;
 import ru.anafro.quark.server.utils.strings.TextBuffer;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
-import java.util.List;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class TableRecords implements Iterable<TableRecord> {
     public static final String NAME = "Table's Records.qrecords";
+    private static final int REWRITE_CHUNK_SIZE = 4096;
+    private static final Map<String, Object> writeLocks = new ConcurrentHashMap<>();
+    private static final Map<String, RecordsVersion> versions = new ConcurrentHashMap<>();
     private final String filename;
     private final File file;
     private final Table table;
@@ -39,15 +53,289 @@ public class TableRecords implements Iterable<TableRecord> {
         return table;
     }
 
-    public void change(TableRecordChanger changer, ExpressionTableRecordSelector selector) {
-        var records = table.all();
-        records.forEach(record -> {
-            if (selector.selects(record)) {
-                changer.change(record);
+    /**
+     * Returns the object to synchronize on while changing the records file
+     * or its layout. The object is shared by all the tables with the same name.
+     *
+     * @return the write lock.
+     * @since Quark 3.0
+     */
+    public Object getWriteLock() {
+        return writeLocks.computeIfAbsent(filename, _ -> new Object());
+    }
+
+    /**
+     * Drops the committed version and the writer of the table records kept
+     * in memory. The version will be read from the records file on the next use.
+     *
+     * @param table the table.
+     * @since Quark 3.0
+     */
+    public static void forget(Table table) {
+        versions.remove(table.getRecords().getFilename());
+        RecordsWriter.forget(table.getRecords());
+    }
+
+    /**
+     * Returns the last committed version of the records. If no version has been
+     * committed since the start, or the records file has been replaced outside,
+     * the version is read from the records file, after recovering the change
+     * left pending by a stopped server.
+     *
+     * @return the version.
+     * @since Quark 3.0
+     */
+    public RecordsVersion getVersion() {
+        var version = versions.get(filename);
+
+        if (version == null) {
+            PendingChange.recover(this);
+        }
+        var fileKey = getFileKey();
+        var length = file.length();
+
+        if (version != null && version.fileKey().equals(fileKey) && version.length() <= length) {
+            return version;
+        }
+
+        return new RecordsVersion(version == null ? 0 : version.sequence(), fileKey, length, Tombstones.of(this, fileKey));
+    }
+
+    /**
+     * Takes a snapshot of the last committed version of the records.
+     * The snapshot must be closed after reading.
+     *
+     * @return the snapshot.
+     * @since Quark 3.0
+     */
+    public RecordsSnapshot snapshot() {
+        while (true) {
+            var version = getVersion();
+
+            try {
+                var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+
+                if (version.fileKey().equals(getFileKey())) {
+                    return new RecordsSnapshot(this, version, channel);
+                }
+
+                channel.close();
+            } catch (IOException exception) {
+                throw new ReadingTheNextLineOfTableFileFailedException(this, exception);
             }
+        }
+    }
+
+    /**
+     * Reads the first record without reading the rest of the file.
+     *
+     * @return the first record, or nothing if the table is empty.
+     * @since Quark 3.0
+     */
+    public Optional<TableRecord> first() {
+        var firstLine = new String[1];
+
+        forEachLiveLine((lineNumber, line) -> {
+            firstLine[0] = line;
+            return false;
         });
 
-        save(records);
+        return Optional.ofNullable(firstLine[0]).map(line -> UntypedTableRecord.fromString(line).applyTypesFrom(table.getHeader()));
+    }
+
+    /**
+     * Returns the key identifying the records file. The key stays the same while
+     * records are appended to the file, and changes when the file is replaced.
+     *
+     * @return the key of the records file.
+     * @since Quark 3.0
+     */
+    public String getFileKey() {
+        try {
+            return String.valueOf(Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey());
+        } catch (IOException exception) {
+            throw new ReadingTheNextLineOfTableFileFailedException(this, exception);
+        }
+    }
+
+    /**
+     * Deletes the records by marking their lines with tombstones.
+     * The records file is not rewritten, the deleted records are
+     * skipped by readers until the table is vacuumed.
+     *
+     * @param selector the selector of the records to delete.
+     * @param limiter  the limiter of the records to delete.
+     * @return the deleted records.
+     * @since Quark 3.0
+     */
+    public List<TableRecord> delete(RecordLambda<Boolean> selector, RecordIterationLimiter limiter) {
+        var header = table.getHeader();
+        var deletedRecords = new ArrayList<TableRecord>();
+
+        synchronized (getWriteLock()) {
+            var deadLines = new BitSet();
+            var deadBytes = 0L;
+            String fileKey;
+
+            try (var snapshot = snapshot(); var reader = snapshot.reader()) {
+                fileKey = snapshot.getVersion().fileKey();
+
+                long lineNumber = 0;
+                String line;
+
+                while (limiter.fitsTheLimit() && (line = reader.readLine()) != null) {
+                    RunningQueries.checkpoint();
+
+                    if (line.isBlank()) {
+                        continue;
+                    }
+
+                    var currentLineNumber = lineNumber++;
+
+                    if (snapshot.getTombstones().isDead(currentLineNumber)) {
+                        continue;
+                    }
+
+                    var record = UntypedTableRecord.fromString(line).applyTypesFrom(header);
+
+                    if (!selector.apply(record)) {
+                        continue;
+                    }
+
+                    if (limiter.isSkipNeeded()) {
+                        limiter.skipped();
+                        continue;
+                    }
+
+                    limiter.selected();
+                    deadLines.set(Math.toIntExact(currentLineNumber));
+                    deadBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                    deletedRecords.add(record);
+                }
+            } catch (IOException exception) {
+                throw new ReadingTheNextLineOfTableFileFailedException(this, exception);
+            }
+
+            if (!deadLines.isEmpty()) {
+                Tombstones.add(this, fileKey, deadLines, deadBytes);
+                commit();
+            }
+
+            TableIndexes.of(this).recordsDeleted(deletedRecords);
+        }
+
+        return deletedRecords;
+    }
+
+    /**
+     * Returns how much of the records file is taken by the deleted records.
+     *
+     * @return the dead space.
+     * @since Quark 3.0
+     */
+    public DeadSpace getDeadSpace() {
+        var version = getVersion();
+        var tombstones = version.tombstones();
+
+        return new DeadSpace(tombstones.count(), tombstones.getDeadBytes(), version.length());
+    }
+
+    /**
+     * Changes the selected records. Only the changed records are written:
+     * their old lines are marked with tombstones, and the changed records
+     * are appended to the records file.
+     * <br><br>
+     * <p>
+     * Hence, the changed records move to the end of the table: the scans
+     * without an order, like {@code select from}, return them after
+     * the unchanged ones.
+     * <br><br>
+     * <p>
+     * The changed records are checked against the modifiers of the changed
+     * column before anything is written, and none of them is changed
+     * if any of them is invalid.
+     *
+     * @param changer  the changer.
+     * @param selector the selector of the records to change.
+     * @return the number of the changed records.
+     */
+    public int change(TableRecordChanger changer, TableRecordSelector selector) {
+        var header = table.getHeader();
+        var assignment = changer.prepare();
+        var previousRecords = new ArrayList<TableRecord>();
+        var changedRecords = new ArrayList<TableRecord>();
+
+        synchronized (getWriteLock()) {
+            var deadLines = new BitSet();
+            var deadBytes = 0L;
+            var changedLines = new TextBuffer();
+            String fileKey;
+
+            try (var snapshot = snapshot(); var reader = snapshot.reader()) {
+                fileKey = snapshot.getVersion().fileKey();
+
+                long lineNumber = 0;
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    RunningQueries.checkpoint();
+
+                    if (line.isBlank()) {
+                        continue;
+                    }
+
+                    var currentLineNumber = lineNumber++;
+
+                    if (snapshot.getTombstones().isDead(currentLineNumber)) {
+                        continue;
+                    }
+
+                    var record = UntypedTableRecord.fromString(line).applyTypesFrom(header);
+
+                    if (!selector.selects(record)) {
+                        continue;
+                    }
+
+                    previousRecords.add(record.copy());
+                    assignment.accept(record);
+                    changedRecords.add(record);
+                    changedLines.appendLine(header.toTableLine(record));
+                    deadLines.set(Math.toIntExact(currentLineNumber));
+                    deadBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                }
+            } catch (IOException exception) {
+                throw new ReadingTheNextLineOfTableFileFailedException(this, exception);
+            }
+
+            if (changedRecords.isEmpty()) {
+                return 0;
+            }
+
+            var indexes = TableIndexes.of(this);
+
+            indexes.ensureFresh();
+            indexes.recordsChanging(table, changer.column(), previousRecords);
+
+            try {
+                header.ensureChangedRecordsAreValid(changedRecords, changer.column());
+            } catch (RuntimeException exception) {
+                indexes.recordsInserted(previousRecords);
+                throw exception;
+            }
+
+            try {
+                appendReplacing(changedLines.toString(), Tombstones.adding(this, fileKey, deadLines, deadBytes));
+                commit();
+            } catch (RuntimeException exception) {
+                TableIndexes.forget(table);
+                throw exception;
+            }
+
+            indexes.recordsInserted(changedRecords);
+            indexes.recordsWritten();
+        }
+
+        return changedRecords.size();
     }
 
     @NotNull
@@ -57,28 +345,439 @@ public class TableRecords implements Iterable<TableRecord> {
     }
 
     public void insert(TableRecord record) {
-        table.getHeader().ensureRecordIsValid(record);
-        table.getHeader().prepareRecord(record);
-        try (var bufferedWriter = new BufferedWriter(new FileWriter(file, true))) {
-            bufferedWriter.write(record.toTableLine());
-            bufferedWriter.newLine();
+        insertAll(List.of(record));
+    }
+
+    /**
+     * Inserts several records at once. All the records are validated
+     * before any of them is written, so either all the records are
+     * inserted or none of them. The records are appended with a single
+     * write, which is synced to the disk before returning.
+     *
+     * @param records the records to insert.
+     * @since Quark 3.0
+     */
+    public void insertAll(List<TableRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        if (Thread.holdsLock(getWriteLock())) {
+            var insertion = new RecordsWriter.Insertion(this, records, new CompletableFuture<>());
+
+            append(List.of(insertion));
+            await(insertion.future());
+        } else {
+            await(insertAsync(records));
+        }
+    }
+
+    /**
+     * Submits the records to the single writer of the table, which appends them
+     * together with the records inserted by the other threads meanwhile.
+     * All the records are validated before any of them is written, so either
+     * all the records are inserted or none of them.
+     *
+     * @param records the records to insert.
+     * @return the future completed when the records are written and synced to the disk.
+     * @since Quark 3.0
+     */
+    public CompletableFuture<Void> insertAsync(List<TableRecord> records) {
+        if (records.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return RecordsWriter.of(this).submit(this, records);
+    }
+
+    /**
+     * Appends the valid insertions with a single write. Every insertion
+     * is validated against the records of the insertions before it.
+     *
+     * @param insertions the insertions.
+     */
+    void append(List<RecordsWriter.Insertion> insertions) {
+        synchronized (getWriteLock()) {
+            commitIfNeeded();
+            TableIndexes.of(this).ensureFresh();
+
+            var lines = new TextBuffer();
+            var validInsertions = new ArrayList<RecordsWriter.Insertion>(insertions.size());
+
+            for (var insertion : insertions) {
+                var header = insertion.records().getTable().getHeader();
+                var records = insertion.insertedRecords();
+
+                try {
+                    if (records.size() == 1) {
+                        header.ensureRecordIsValid(records.getFirst());
+                        header.prepareRecord(records.getFirst());
+                    } else {
+                        header.ensureRecordsAreValid(records);
+                        header.prepareRecords(records);
+                    }
+                } catch (RuntimeException exception) {
+                    insertion.future().completeExceptionally(exception);
+                    continue;
+                }
+
+                for (var record : records) {
+                    lines.appendLine(header.toTableLine(record));
+                }
+
+                TableIndexes.of(this).recordsInserted(records);
+                validInsertions.add(insertion);
+            }
+
+            if (validInsertions.isEmpty()) {
+                return;
+            }
+
+            try {
+                append(lines.toString());
+                commit();
+            } catch (RuntimeException exception) {
+                TableIndexes.forget(table);
+                throw exception;
+            }
+
+            TableIndexes.of(this).recordsWritten();
+
+            validInsertions.forEach(insertion -> insertion.future().complete(null));
+        }
+    }
+
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Writes a change of the records, which has already been made durable
+     * elsewhere, like in a transaction manifest, and commits it as the next version.
+     * The change is not written if the records file has been replaced or changed
+     * further since the change was made.
+     *
+     * @param change the change.
+     * @return {@code false} if the change does not apply to the records file anymore.
+     * @since Quark 3.0
+     */
+    public boolean apply(RecordsChange change) {
+        synchronized (getWriteLock()) {
+            PendingChange.recover(this);
+
+            if (change.doesntApplyTo(this)) {
+                return false;
+            }
+
+            truncate(change.getAppendedFrom());
+            append(change.getAppendedLines());
+            Tombstones.write(this, change.getTombstones());
+            commit();
+
+            return true;
+        }
+    }
+
+    /**
+     * Cuts the records file to the length, if it is longer.
+     * The caller must hold the write lock.
+     *
+     * @param length the length.
+     */
+    void truncate(long length) {
+        if (file.length() <= length) {
+            return;
+        }
+
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+            channel.force(true);
+        } catch (IOException exception) {
+            throw new RecordsFileWritingFailedException(this, exception);
+        }
+    }
+
+    /**
+     * Appends the lines and writes the tombstones as a single change,
+     * which is recovered on the next start if the server stops in the middle.
+     * The caller must hold the write lock.
+     *
+     * @param lines      the appended lines.
+     * @param tombstones the tombstones of the records file after the change.
+     * @see PendingChange
+     */
+    private void appendReplacing(String lines, Tombstones tombstones) {
+        var appendedFrom = file.length();
+        var pendingChange = new PendingChange(appendedFrom, appendedFrom + lines.getBytes(StandardCharsets.UTF_8).length, tombstones);
+
+        pendingChange.begin(this);
+        append(lines);
+        Tombstones.write(this, tombstones);
+        pendingChange.end(this);
+    }
+
+    private void append(String lines) {
+        try (var stream = new FileOutputStream(file, true); var bufferedWriter = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+            bufferedWriter.write(lines);
+            bufferedWriter.flush();
+            stream.getFD().sync();
         } catch (IOException exception) {
-            throw new RecordsFileInsertionFailedException(this, record, exception);
+            throw new RecordsFileWritingFailedException(this, exception);
+        }
+    }
+
+    /**
+     * Reads the records in chunks, so that only one chunk is kept in memory
+     * at once. The lines of a chunk are parsed in parallel.
+     *
+     * @param chunkSize the maximum number of records in a chunk.
+     * @param action    the action called for each chunk in the file order.
+     * @since Quark 3.0
+     */
+    public void forEachChunk(int chunkSize, Consumer<List<TableRecord>> action) {
+        forEachChunkWhile(chunkSize, chunk -> {
+            action.accept(chunk);
+            return true;
+        });
+    }
+
+    /**
+     * Reads the records in chunks until the action asks to stop,
+     * like when a limited selection has selected enough records.
+     *
+     * @param chunkSize the maximum number of records in a chunk.
+     * @param action    the action called for each chunk in the file order,
+     *                  returning {@code false} to stop reading.
+     * @since Quark 3.0
+     */
+    public void forEachChunkWhile(int chunkSize, Predicate<List<TableRecord>> action) {
+        var header = table.getHeader();
+        var lines = new ArrayList<String>(chunkSize);
+        var isStopped = new AtomicBoolean();
+
+        forEachLiveLine((lineNumber, line) -> {
+            lines.add(line);
+
+            if (lines.size() == chunkSize) {
+                var chunk = parseInParallel(lines, header);
+
+                lines.clear();
+
+                if (!action.test(chunk)) {
+                    isStopped.set(true);
+                    return false;
+                }
+            }
+
+            return true;
+        });
+
+        if (!isStopped.get() && !lines.isEmpty()) {
+            action.test(parseInParallel(lines, header));
         }
     }
 
+    private void forEachLiveLine(RecordsSnapshot.LiveLineAction action) {
+        try (var snapshot = snapshot()) {
+            snapshot.forEachLiveLine(action);
+        }
+    }
+
+    /**
+     * Commits the current state of the records file, unless it is committed already,
+     * so that the readers do not see the lines being appended before the next commit.
+     */
+    private void commitIfNeeded() {
+        if (getVersion() != versions.get(filename)) {
+            commit();
+        }
+    }
+
+    /**
+     * Commits the current state of the records file as the next version.
+     * Must be called by every writer at the end of its change, while
+     * it still holds the write lock.
+     *
+     * @return the committed version.
+     */
+    private RecordsVersion commit() {
+        var previousVersion = versions.get(filename);
+
+        return commit(previousVersion == null ? 1 : previousVersion.sequence() + 1);
+    }
+
+    /**
+     * Commits the current state of the records file as a version with the sequence number.
+     * The records rewritten without changes are committed with the same sequence number.
+     *
+     * @param sequence the sequence number.
+     * @return the committed version.
+     */
+    private RecordsVersion commit(long sequence) {
+        var fileKey = getFileKey();
+        var version = new RecordsVersion(sequence, fileKey, file.length(), Tombstones.of(this, fileKey));
+
+        versions.put(filename, version);
+        return version;
+    }
+
+    private static List<TableRecord> parseInParallel(List<String> lines, TableHeader header) {
+        return lines.parallelStream()
+                .map(UntypedTableRecord::fromString)
+                .map(record -> record.applyTypesFrom(header))
+                .toList();
+    }
+
     public void save(RecordCollection collection) {
-        try {
-            var lines = new TextBuffer();
+        synchronized (getWriteLock()) {
+            var savedFile = Path.of(STR."\{filename}.saving");
+
+            write(savedFile, collection);
+            install(savedFile, collection);
+        }
+    }
+
+    /**
+     * Replaces the records file with a file written with the records
+     * and commits the replaced records as the next version.
+     *
+     * @param newFile    the file with the records.
+     * @param collection the records in the file.
+     * @since Quark 3.0
+     */
+    public void install(Path newFile, RecordCollection collection) {
+        synchronized (getWriteLock()) {
+            replaceWith(newFile);
+            markLayoutMigrated(table.getHeader());
+            commit();
+            TableIndexes.of(this).recordsSaved(collection);
+        }
+    }
+
+    private void write(Path path, RecordCollection collection) {
+        var header = table.getHeader();
+        var lines = new TextBuffer();
+
+        for (var record : collection) {
+            lines.appendLine(header.toTableLine(record));
+        }
+
+        try (var stream = new FileOutputStream(path.toFile()); var writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+            writer.write(lines.toString());
+            writer.flush();
+            stream.getFD().sync();
+        } catch (IOException exception) {
+            throw new RecordsFileWritingFailedException(this, exception);
+        }
+    }
+
+    /**
+     * Rewrites the records file with the values generated for the lazily added
+     * columns and without the values of the deleted ones.
+     *
+     * @since Quark 3.0
+     */
+    public void migrate() {
+        synchronized (getWriteLock()) {
+            if (table.getHeader().getLayout().needsMigration()) {
+                rewrite();
+            }
+        }
+    }
 
-            for (var records : collection) {
-                lines.appendLine(records.toTableLine());
+    /**
+     * Rewrites the records file without the deleted records.
+     *
+     * @since Quark 3.0
+     */
+    public void vacuum() {
+        synchronized (getWriteLock()) {
+            if (!getVersion().tombstones().isEmpty()) {
+                rewrite();
             }
+        }
+    }
+
+    /**
+     * Deletes the tombstones left from the records file replaced
+     * by the last rewrite.
+     *
+     * @since Quark 3.0
+     */
+    public void deleteStaleTombstones() {
+        synchronized (getWriteLock()) {
+            Tombstones.deleteIfStale(this, getFileKey());
+        }
+    }
+
+    /**
+     * Rewrites the records chunk by chunk into a new file, which replaces
+     * the records file at the end, so the table can be read meanwhile.
+     * The new file contains only the live records, and the values of the
+     * lazily added columns are stored in it.
+     */
+    private void rewrite() {
+        var header = table.getHeader();
+        var rewrittenFile = Path.of(STR."\{filename}.rewriting");
+
+        try (var stream = new FileOutputStream(rewrittenFile.toFile()); var writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+            forEachChunk(REWRITE_CHUNK_SIZE, chunk -> {
+                try {
+                    for (var record : chunk) {
+                        writer.write(header.toTableLine(record));
+                        writer.newLine();
+                    }
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+
+            writer.flush();
+            stream.getFD().sync();
+        } catch (IOException | UncheckedIOException exception) {
+            throw new RecordsFileWritingFailedException(this, exception);
+        }
+
+        replaceWith(rewrittenFile);
+        markLayoutMigrated(header);
+        commit(getVersion().sequence());
+    }
 
-            Files.writeString(Path.of(file.getPath()), lines);
+    private void replaceWith(Path newFile) {
+        try {
+            Files.move(newFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException exception) {
             throw new RecordsFileWritingFailedException(this, exception);
         }
+
+        syncDirectory();
+    }
+
+    /**
+     * Makes the replacement of the records file durable. Some platforms
+     * can't open a directory to sync it, and the replacement is left
+     * to their file systems there.
+     */
+    private void syncDirectory() {
+        try (var directory = FileChannel.open(file.toPath().getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException _) {
+        }
+    }
+
+    private void markLayoutMigrated(TableHeader header) {
+        if (header.getLayout().needsMigration()) {
+            header.setLayout(header.getLayout().migrated());
+            header.save();
+        }
     }
 
     private static class InMemoryTableFileRecordIterator implements Iterable<TableRecord> {
@@ -86,13 +785,16 @@ public class TableRecords implements Iterable<TableRecord> {
         private final List<TableRecord> records;
 
         public InMemoryTableFileRecordIterator(TableRecords tableRecords) {
+            var header = tableRecords.getTable().getHeader();
+            var records = new ArrayList<TableRecord>();
+
+            tableRecords.forEachLiveLine((lineNumber, line) -> {
+                RunningQueries.checkpoint();
+                return records.add(UntypedTableRecord.fromString(line).applyTypesFrom(header));
+            });
+
             this.tableRecords = tableRecords;
-            this.records = new ru.anafro.quark.server.utils.files.File(tableRecords.getFile().toPath())
-                    .readLines()
-                    .stream()
-                    .map(UntypedTableRecord::fromString)
-                    .map(record -> record.applyTypesFrom(tableRecords.getTable().getHeader()))
-                    .toList();
+            this.records = records;
         }
 
         @NotNull
@@ -1,8 +1,6 @@
 package ru.anafro.quark.server.database.data.files;
 
 import ru.anafro.quark.server.database.data.Table;
-import ru.anafro.quark.server.database.data.exceptions.VariableFileWrongLinesCountException;
-import ru.anafro.quark.server.facade.Quark;
 import ru.anafro.quark.server.language.entities.Entity;
 import ru.anafro.quark.server.language.entities.NullEntity;
 import ru.anafro.quark.server.utils.files.File;
@@ -11,8 +9,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
-import static ru.anafro.quark.server.utils.objects.Nulls.byDefault;
-
 public class TableVariable {
     public static final String EXTENSION = ".qvariable";
     private final Table table;
@@ -26,24 +22,10 @@ public class TableVariable {
     }
 
     public <T extends Entity> Optional<T> get() {
-        if (file.doesntExist()) {
-            return Optional.empty();
-        }
-
-        var lines = file.readLines();
-
-        if (lines.size() != 2) {
-            throw new VariableFileWrongLinesCountException(this, lines.size());
-        }
-
-        var typeName = lines.get(0);
-        var entityExpression = lines.get(1);
-        var variableType = Quark.type(typeName);
-
         @SuppressWarnings("unchecked")
-        var variableContent = (T) variableType.makeEntity(entityExpression);
+        var value = (Optional<T>) store().get(name);
 
-        return Optional.of(variableContent);
+        return value;
     }
 
     public boolean isEmpty() {
@@ -55,16 +37,51 @@ public class TableVariable {
     }
 
     public <T extends Entity> void set(T newValue) {
-        var typeName = byDefault(newValue, Entity::getTypeName, "null");
-        var entityExpression = byDefault(newValue, Entity::toInstructionForm, new NullEntity(typeName));
-
-        file.write(STR."""
-                \{typeName}
-                \{entityExpression}""");
+        store().set(name, Objects.requireNonNullElseGet(newValue, NullEntity::any));
     }
 
+    /**
+     * Changes the value of the variable atomically. The changer may be
+     * called more than once if the variable is changed concurrently, so
+     * it must not have side effects.
+     *
+     * @param changer the function computing the new value from the current one.
+     * @param <T>     the type of the variable value.
+     */
     public <T extends Entity> void update(Function<T, T> changer) {
-        get().ifPresent(value -> this.set(changer.apply((T) value)));
+        while (true) {
+            var currentValue = this.<T>get();
+
+            if (currentValue.isEmpty()) {
+                return;
+            }
+
+            if (compareAndSet(currentValue.get(), changer.apply(currentValue.get()))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sets the new value only if the variable still has the expected one.
+     *
+     * @param expectedValue the expected value, or {@code null} if the variable is expected to be absent.
+     * @param newValue      the new value.
+     * @return {@code true} if the value has been set.
+     * @since Quark 3.0
+     */
+    public boolean compareAndSet(Entity expectedValue, Entity newValue) {
+        return store().compareAndSet(name, expectedValue, Objects.requireNonNullElseGet(newValue, NullEntity::any));
+    }
+
+    /**
+     * Writes the value of the variable to its file right away instead
+     * of waiting for the background write.
+     *
+     * @since Quark 3.0
+     */
+    public void flush() {
+        store().flush(name);
     }
 
     public Table getTable() {
@@ -80,7 +97,11 @@ public class TableVariable {
     }
 
     public void delete() {
-        file.delete();
+        store().delete(name);
+    }
+
+    private VariableStore store() {
+        return VariableStore.of(table);
     }
 
     @Override
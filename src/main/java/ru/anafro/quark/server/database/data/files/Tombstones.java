@@ -0,0 +1,204 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.exceptions.TombstonesFileFailedException;
+import ru.anafro.quark.server.utils.files.File;
+import ru.anafro.quark.server.utils.files.FileStamp;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the records of a table that have been deleted but are still
+ * present in the records file.
+ * <br><br>
+ * <p>
+ * Deleting records marks their positions among the lines of the records file,
+ * and readers skip the marked lines. The tombstones are bound to the records
+ * file they were made for: when the records file is replaced by a rewritten
+ * one, which never contains the deleted records, the old tombstones stop
+ * applying to it.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see VacuumService
+ * @since Quark 3.0
+ */
+public final class Tombstones {
+    public static final String NAME = "Table's Tombstones.qtombstones";
+    private static final Tombstones NONE = new Tombstones("", new BitSet(), 0);
+    private static final Map<Path, Loaded> loadedTombstones = new ConcurrentHashMap<>();
+    private final String recordsFileKey;
+    private final BitSet deadLines;
+    private final long deadBytes;
+
+    private Tombstones(String recordsFileKey, BitSet deadLines, long deadBytes) {
+        this.recordsFileKey = recordsFileKey;
+        this.deadLines = deadLines;
+        this.deadBytes = deadBytes;
+    }
+
+    /**
+     * Returns the tombstones of the records file.
+     *
+     * @param records        the records.
+     * @param recordsFileKey the key identifying the records file being read.
+     * @return the tombstones, which are empty if there are no tombstones for this records file.
+     */
+    public static Tombstones of(TableRecords records, String recordsFileKey) {
+        var tombstones = read(records);
+
+        return tombstones.recordsFileKey.equals(recordsFileKey) ? tombstones : NONE;
+    }
+
+    /**
+     * Marks more lines of the records file as deleted.
+     *
+     * @param records        the records.
+     * @param recordsFileKey the key identifying the records file.
+     * @param lines          the lines to mark.
+     * @param bytes          the number of bytes the lines take.
+     */
+    public static void add(TableRecords records, String recordsFileKey, BitSet lines, long bytes) {
+        write(records, adding(records, recordsFileKey, lines, bytes));
+    }
+
+    /**
+     * Makes the tombstones of the records file with more lines marked,
+     * without writing them.
+     *
+     * @param records        the records.
+     * @param recordsFileKey the key identifying the records file.
+     * @param lines          the lines to mark.
+     * @param bytes          the number of bytes the lines take.
+     * @return the tombstones to write with {@link #write(TableRecords, Tombstones)}.
+     */
+    static Tombstones adding(TableRecords records, String recordsFileKey, BitSet lines, long bytes) {
+        var current = of(records, recordsFileKey);
+        var deadLines = (BitSet) current.deadLines.clone();
+
+        deadLines.or(lines);
+        return new Tombstones(recordsFileKey, deadLines, current.deadBytes + bytes);
+    }
+
+    /**
+     * Deletes the tombstones file if its tombstones do not apply
+     * to the records file anymore.
+     *
+     * @param records        the records.
+     * @param recordsFileKey the key identifying the current records file.
+     */
+    public static void deleteIfStale(TableRecords records, String recordsFileKey) {
+        var tombstones = read(records);
+
+        if (tombstones != NONE && !tombstones.recordsFileKey.equals(recordsFileKey)) {
+            var file = fileOf(records);
+
+            file.delete();
+            loadedTombstones.remove(file.getPath());
+        }
+    }
+
+    public static void forget(Table table) {
+        loadedTombstones.remove(fileOf(table.getRecords()).getPath());
+    }
+
+    public boolean isDead(long line) {
+        return line < Integer.MAX_VALUE && deadLines.get((int) line);
+    }
+
+    public boolean isEmpty() {
+        return deadLines.isEmpty();
+    }
+
+    public int count() {
+        return deadLines.cardinality();
+    }
+
+    public long getDeadBytes() {
+        return deadBytes;
+    }
+
+    String getRecordsFileKey() {
+        return recordsFileKey;
+    }
+
+    private static Tombstones read(TableRecords records) {
+        var file = fileOf(records);
+        var stamp = FileStamp.of(file);
+        var loaded = loadedTombstones.get(file.getPath());
+
+        if (loaded != null && loaded.stamp().equals(stamp)) {
+            return loaded.tombstones();
+        }
+
+        var tombstones = NONE;
+
+        if (file.exists()) {
+            try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.getPath())))) {
+                tombstones = readFrom(input);
+                VacuumService.schedule(records.getTable());
+            } catch (IOException exception) {
+                throw new TombstonesFileFailedException(records, exception);
+            }
+        }
+
+        loadedTombstones.put(file.getPath(), new Loaded(stamp, tombstones));
+        return tombstones;
+    }
+
+    /**
+     * Reads the tombstones written with {@link #writeTo(DataOutputStream)},
+     * which must be the last thing in the input.
+     *
+     * @param input the input.
+     * @return the tombstones.
+     * @throws IOException if the input cannot be read.
+     */
+    static Tombstones readFrom(DataInputStream input) throws IOException {
+        var recordsFileKey = input.readUTF();
+        var deadBytes = input.readLong();
+        var deadLines = BitSet.valueOf(input.readAllBytes());
+
+        return new Tombstones(recordsFileKey, deadLines, deadBytes);
+    }
+
+    void writeTo(DataOutputStream output) throws IOException {
+        output.writeUTF(recordsFileKey);
+        output.writeLong(deadBytes);
+        output.write(deadLines.toByteArray());
+    }
+
+    static void write(TableRecords records, Tombstones tombstones) {
+        var file = fileOf(records);
+        var writtenFile = Path.of(STR."\{file.getPath()}.writing");
+
+        try (var stream = new FileOutputStream(writtenFile.toFile()); var output = new DataOutputStream(new BufferedOutputStream(stream))) {
+            tombstones.writeTo(output);
+            output.flush();
+            stream.getFD().sync();
+        } catch (IOException exception) {
+            throw new TombstonesFileFailedException(records, exception);
+        }
+
+        try {
+            Files.move(writtenFile, file.getPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new TombstonesFileFailedException(records, exception);
+        }
+
+        loadedTombstones.put(file.getPath(), new Loaded(FileStamp.of(file), tombstones));
+    }
+
+    private static File fileOf(TableRecords records) {
+        return records.getTable().getDirectory().getFile(NAME);
+    }
+
+    private record Loaded(FileStamp stamp, Tombstones tombstones) {
+    }
+}
@@ -0,0 +1,92 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableName;
+import ru.anafro.quark.server.database.data.locks.TableLocks;
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.scheduling.Repeater;
+import ru.anafro.quark.server.utils.time.TimeSpan;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rewrites the records files of the tables without their deleted
+ * records, in background.
+ * <br><br>
+ * <p>
+ * A table is vacuumed when the deleted records take at least the part
+ * of its records file set by the {@code vacuumThreshold} option of the
+ * configuration.
+ * <br><br>
+ * <p>
+ * Vacuuming locks the table only in the shared mode, like inserting records does.
+ * The readers keep reading their snapshots of the old records file until the new one
+ * replaces it, and the writers of the records wait for the rewrite in {@link TableRecords}.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Tombstones
+ * @since Quark 3.0
+ */
+public class VacuumService extends Repeater {
+    private static final Set<String> scheduledTableNames = ConcurrentHashMap.newKeySet();
+
+    public VacuumService() {
+        super(TimeSpan.seconds(1));
+    }
+
+    /**
+     * Makes the service check the dead space of a table.
+     *
+     * @param table the table.
+     */
+    public static void schedule(Table table) {
+        scheduledTableNames.add(nameOf(table));
+    }
+
+    /**
+     * Vacuums a table if the dead space of the table has reached the threshold.
+     *
+     * @param table     the table.
+     * @param threshold the part of the records file the deleted records must take.
+     * @return {@code true} if the table has been vacuumed.
+     */
+    public static boolean vacuumIfNeeded(Table table, double threshold) {
+        var records = table.getRecords();
+
+        try (var _ = TableLocks.changing(table)) {
+            var deadSpace = records.getDeadSpace();
+
+            records.deleteStaleTombstones();
+
+            if (deadSpace.deadRecords() == 0 || deadSpace.ratio() < threshold) {
+                return false;
+            }
+
+            records.vacuum();
+            return true;
+        }
+    }
+
+    @Override
+    public void performAction() {
+        var threshold = Quark.configuration().getVacuumThreshold();
+
+        for (var tableName : List.copyOf(scheduledTableNames)) {
+            try {
+                if (Table.doesntExist(tableName) || !vacuumIfNeeded(Table.byName(tableName), threshold)) {
+                    scheduledTableNames.remove(tableName);
+                }
+            } catch (RuntimeException exception) {
+                scheduledTableNames.remove(tableName);
+                Quark.logger().error(exception);
+            }
+        }
+    }
+
+    private static String nameOf(Table table) {
+        return new TableName(table.getDatabase().getName(), table.getName()).toCompoundedString();
+    }
+}
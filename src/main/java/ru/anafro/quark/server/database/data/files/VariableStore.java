@@ -0,0 +1,221 @@
+package ru.anafro.quark.server.database.data.files;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.exceptions.VariableFileWrongLinesCountException;
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.utils.files.Directory;
+import ru.anafro.quark.server.utils.files.File;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static ru.anafro.quark.server.utils.files.filters.ExtensionInclusionFileFilter.withExtension;
+
+/**
+ * Keeps the variables of a table in memory.
+ * <br><br>
+ * <p>
+ * The variables are read from the variable directory once, when the table
+ * variables are accessed for the first time. Changes are applied in memory
+ * and written to the files behind: a background thread writes the changed
+ * variables every {@link #WRITE_BEHIND_DELAY_MILLISECONDS} milliseconds, so
+ * several changes of the same variable in between cost one write. Call
+ * {@link #flush()} when a change must be on the disk before going on.
+ * All the stores are flushed on the shutdown.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class VariableStore {
+    public static final long WRITE_BEHIND_DELAY_MILLISECONDS = 200;
+    private static final Map<Path, VariableStore> stores = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "Variable Writer");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+    private final Table table;
+    private final Directory directory;
+    private final Map<String, Entity> values = new ConcurrentHashMap<>();
+    private final Set<String> changedNames = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded = false;
+
+    static {
+        writer.scheduleWithFixedDelay(VariableStore::flushAll, WRITE_BEHIND_DELAY_MILLISECONDS, WRITE_BEHIND_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(VariableStore::flushAll, "Variable Flush"));
+    }
+
+    private VariableStore(Table table, Path directoryPath) {
+        this.table = table;
+        this.directory = new Directory(directoryPath, withExtension("qvariable"));
+    }
+
+    public static VariableStore of(Table table) {
+        var directoryPath = directoryPathOf(table);
+        return stores.computeIfAbsent(directoryPath, _ -> new VariableStore(table, directoryPath));
+    }
+
+    /**
+     * Drops the variables of the table kept in memory without writing
+     * the pending changes. Call {@link #flush()} first if the table is
+     * moved rather than deleted.
+     *
+     * @param table the table.
+     */
+    public static void forget(Table table) {
+        var store = stores.remove(directoryPathOf(table));
+
+        if (store != null) {
+            store.discardChanges();
+        }
+    }
+
+    public static void flushAll() {
+        for (var store : stores.values()) {
+            try {
+                store.flush();
+            } catch (RuntimeException exception) {
+                Quark.logger().error(exception);
+            }
+        }
+    }
+
+    public Optional<Entity> get(String name) {
+        ensureLoaded();
+        return Optional.ofNullable(values.get(name));
+    }
+
+    public boolean has(String name) {
+        ensureLoaded();
+        return values.containsKey(name);
+    }
+
+    public List<String> names() {
+        ensureLoaded();
+        return values.keySet().stream().sorted().toList();
+    }
+
+    public void set(String name, Entity value) {
+        ensureLoaded();
+        values.put(name, value);
+        changedNames.add(name);
+    }
+
+    /**
+     * Changes the variable only if its current value is equal to the expected one.
+     *
+     * @param name          the name of the variable.
+     * @param expectedValue the expected current value, or {@code null} if the variable should not exist.
+     * @param newValue      the new value.
+     * @return {@code true} if the variable has been changed.
+     */
+    public boolean compareAndSet(String name, Entity expectedValue, Entity newValue) {
+        ensureLoaded();
+
+        var changed = expectedValue == null ? values.putIfAbsent(name, newValue) == null : values.replace(name, expectedValue, newValue);
+
+        if (changed) {
+            changedNames.add(name);
+        }
+
+        return changed;
+    }
+
+    public void delete(String name) {
+        ensureLoaded();
+        values.remove(name);
+        changedNames.add(name);
+    }
+
+    /**
+     * Writes all the pending changes to the variable files.
+     */
+    public synchronized void flush() {
+        for (var name : List.copyOf(changedNames)) {
+            write(name);
+        }
+    }
+
+    /**
+     * Writes the pending change of a single variable to its file.
+     *
+     * @param name the name of the variable.
+     */
+    public synchronized void flush(String name) {
+        if (changedNames.contains(name)) {
+            write(name);
+        }
+    }
+
+    private synchronized void discardChanges() {
+        changedNames.clear();
+    }
+
+    private void write(String name) {
+        changedNames.remove(name);
+
+        var file = fileOf(name);
+        var value = values.get(name);
+
+        if (value == null) {
+            file.delete();
+            return;
+        }
+
+        file.write(STR."""
+                \{value.getTypeName()}
+                \{value.toInstructionForm()}""");
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+
+            if (directory.exists()) {
+                directory.files().forEach(file -> {
+                    var name = file.getNameWithoutExtension();
+                    values.put(name, read(name, file));
+                });
+            }
+
+            loaded = true;
+        }
+    }
+
+    private Entity read(String name, File file) {
+        var lines = file.readLines();
+
+        if (lines.size() != 2) {
+            throw new VariableFileWrongLinesCountException(new TableVariable(table, name), lines.size());
+        }
+
+        var typeName = lines.get(0);
+        var entityExpression = lines.get(1);
+
+        return Quark.type(typeName).makeEntity(entityExpression);
+    }
+
+    private File fileOf(String name) {
+        return directory.getFile(name + TableVariable.EXTENSION);
+    }
+
+    private static Path directoryPathOf(Table table) {
+        return table.getDirectory().getFilePath(VariableDirectory.NAME).toAbsolutePath().normalize();
+    }
+}
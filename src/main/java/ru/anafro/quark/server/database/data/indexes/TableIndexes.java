@@ -0,0 +1,162 @@
+package ru.anafro.quark.server.database.data.indexes;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.database.data.exceptions.UniqueIndexBuildFailedException;
+import ru.anafro.quark.server.database.data.files.TableRecords;
+import ru.anafro.quark.server.utils.files.File;
+import ru.anafro.quark.server.utils.files.FileStamp;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the indexes of a single table.
+ * <br><br>
+ * <p>
+ * {@link Table} objects are created for every query, so the indexes are
+ * kept in a process-wide registry keyed by the path of the records file.
+ * An index is built from the records file when it is needed for the
+ * first time, and then maintained by {@link TableRecords} on every insert
+ * and save. If the records file is modified by anything else, the change
+ * of its size or modification time makes the indexes rebuilt.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class TableIndexes {
+    private static final Map<String, TableIndexes> registry = new ConcurrentHashMap<>();
+    private final File recordsFile;
+    private final Map<String, UniqueIndex> uniqueIndexes = new ConcurrentHashMap<>();
+    private FileStamp stamp;
+
+    private TableIndexes(String recordsFilename) {
+        this.recordsFile = new File(recordsFilename);
+        this.stamp = FileStamp.of(recordsFile);
+    }
+
+    public static TableIndexes of(Table table) {
+        return of(table.getRecords());
+    }
+
+    public static TableIndexes of(TableRecords records) {
+        return registry.computeIfAbsent(records.getFilename(), TableIndexes::new);
+    }
+
+    /**
+     * Drops the indexes of the table. Must be called when the table
+     * is deleted or moved.
+     *
+     * @param table the table.
+     */
+    public static void forget(Table table) {
+        registry.remove(table.getRecords().getFilename());
+    }
+
+    /**
+     * Returns the unique index of the column, building it from the
+     * table records if it was not built yet.
+     *
+     * @param table      the table owning the column.
+     * @param columnName the name of the column.
+     * @return the index.
+     * @throws UniqueIndexBuildFailedException if a record of the table doesn't have the column.
+     */
+    public synchronized UniqueIndex getUniqueIndex(Table table, String columnName) {
+        ensureFresh();
+
+        var index = uniqueIndexes.get(columnName);
+
+        if (index == null) {
+            index = new UniqueIndex(columnName);
+
+            if (!index.rebuild(table.getRecords())) {
+                throw new UniqueIndexBuildFailedException(table, columnName);
+            }
+
+            uniqueIndexes.put(columnName, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Drops the indexes if the records file was modified by anything else
+     * since the last write made through {@link TableRecords}. A writer must
+     * call it before it changes the records file, and then {@link #recordsWritten()}
+     * after, so that refreshing the stamp never hides such a modification.
+     */
+    public synchronized void ensureFresh() {
+        var currentStamp = FileStamp.of(recordsFile);
+
+        if (!currentStamp.equals(stamp)) {
+            uniqueIndexes.clear();
+            stamp = currentStamp;
+        }
+    }
+
+    public synchronized void recordsInserted(Iterable<TableRecord> records) {
+        for (var record : records) {
+            uniqueIndexes.values().removeIf(index -> !index.add(record));
+        }
+    }
+
+    public synchronized void recordsDeleted(Iterable<TableRecord> records) {
+        for (var record : records) {
+            uniqueIndexes.values().forEach(index -> index.remove(record));
+        }
+    }
+
+    /**
+     * Builds the unique indexes of the table which were not built yet. Must be called
+     * before the indexes are changed ahead of the records file, like while the changes
+     * of a transaction are replayed, because an index built later would be read
+     * from the records file without those changes.
+     *
+     * @param table the table.
+     */
+    public synchronized void buildUniqueIndexes(Table table) {
+        for (var column : table.columns()) {
+            if (column.hasModifier("unique")) {
+                getUniqueIndex(table, column.name());
+            }
+        }
+    }
+
+    /**
+     * Removes the values of the records about to be changed, so that the changed
+     * records are checked without their own previous values. The unique index
+     * of the changed column is built first if it was not built yet, because
+     * building it later would read the previous values from the records file.
+     *
+     * @param table      the table.
+     * @param columnName the name of the changed column.
+     * @param records    the records before the change.
+     */
+    public synchronized void recordsChanging(Table table, String columnName, Iterable<TableRecord> records) {
+        if (table.getColumn(columnName).filter(column -> column.hasModifier("unique")).isPresent()) {
+            getUniqueIndex(table, columnName);
+        }
+
+        recordsDeleted(records);
+    }
+
+    /**
+     * Rebuilds the indexes after the records file was rewritten with the records.
+     *
+     * @param records all the records of the table.
+     */
+    public synchronized void recordsSaved(Iterable<TableRecord> records) {
+        uniqueIndexes.values().removeIf(index -> !index.rebuild(records));
+        stamp = FileStamp.of(recordsFile);
+    }
+
+    /**
+     * Remembers the stamp of the records file after a write, which changes
+     * were already applied to the indexes.
+     */
+    public synchronized void recordsWritten() {
+        stamp = FileStamp.of(recordsFile);
+    }
+}
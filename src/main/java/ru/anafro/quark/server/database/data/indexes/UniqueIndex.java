@@ -0,0 +1,93 @@
+package ru.anafro.quark.server.database.data.indexes;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.language.entities.Entity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a multiset of the values of a single column, used to
+ * check whether a value is already present in the table
+ * without scanning its records.
+ * <br><br>
+ * <p>
+ * The copies of a value are counted, because a unique column can still
+ * hold duplicates written before the column became unique or appended
+ * to the records file externally. Deleting one of them must not make
+ * the value look absent while the others are still in the table.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class UniqueIndex {
+    private final String columnName;
+    private final Map<Entity, Integer> counts = new ConcurrentHashMap<>();
+
+    public UniqueIndex(String columnName) {
+        this.columnName = columnName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public boolean contains(Entity value) {
+        return counts.containsKey(value);
+    }
+
+    public boolean doesntContain(Entity value) {
+        return !contains(value);
+    }
+
+    /**
+     * Adds the value of the indexed column of the record.
+     *
+     * @param record the record to index.
+     * @return {@code false} if the record doesn't have the indexed column.
+     */
+    public boolean add(TableRecord record) {
+        if (record.doesntHaveField(columnName)) {
+            return false;
+        }
+
+        counts.merge(record.getField(columnName).getEntity(), 1, Integer::sum);
+        return true;
+    }
+
+    /**
+     * Removes a copy of the value of the indexed column of a deleted record.
+     * The value stays indexed while other records still have it.
+     *
+     * @param record the deleted record.
+     */
+    public void remove(TableRecord record) {
+        if (record.hasField(columnName)) {
+            counts.computeIfPresent(record.getField(columnName).getEntity(), (_, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Replaces the indexed values with the values of the records.
+     *
+     * @param records the records to index.
+     * @return {@code false} if any of the records doesn't have the indexed column,
+     * in this case the index must not be used anymore.
+     */
+    public boolean rebuild(Iterable<TableRecord> records) {
+        counts.clear();
+
+        for (var record : records) {
+            if (!add(record)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int size() {
+        return counts.size();
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Contains the in-memory indexes built over the table records.
+ * Indexes are derived data: they are never stored in the table
+ * directory and are rebuilt from the records file when needed.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.database.data.indexes;
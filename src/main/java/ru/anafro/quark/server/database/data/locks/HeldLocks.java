@@ -0,0 +1,32 @@
+package ru.anafro.quark.server.database.data.locks;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * The locks acquired by a {@link LockRequest}. Use it
+ * in a try-with-resources statement to release the locks.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class HeldLocks implements AutoCloseable {
+    private final List<Lock> locks;
+
+    HeldLocks(List<Lock> locks) {
+        this.locks = locks;
+    }
+
+    /**
+     * Releases the locks in the reverse order of acquiring.
+     */
+    @Override
+    public void close() {
+        for (int index = locks.size() - 1; index >= 0; index--) {
+            locks.get(index).unlock();
+        }
+
+        locks.clear();
+    }
+}
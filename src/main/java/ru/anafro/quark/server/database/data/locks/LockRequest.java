@@ -0,0 +1,126 @@
+package ru.anafro.quark.server.database.data.locks;
+
+import ru.anafro.quark.server.database.data.TableName;
+import ru.anafro.quark.server.database.data.exceptions.LockUpgradeException;
+import ru.anafro.quark.server.database.data.files.TableRecords;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Collects the databases and tables an instruction reads and changes,
+ * and acquires their locks at once.
+ * <br><br>
+ * <p>
+ * The locks are always acquired in the order of their stripes, whatever order
+ * they were requested in. Because of that, two instructions locking the same
+ * tables, like {@code clone table} from the first table to the second and from
+ * the second to the first, can never wait for each other forever.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class LockRequest {
+    private final Map<Integer, Boolean> stripes = new TreeMap<>();
+    private final Map<Integer, String> stripeKeys = new HashMap<>();
+
+    LockRequest() {
+    }
+
+    public LockRequest read(TableName tableName) {
+        readDatabase(tableName.getDatabaseName());
+        return add(TableLocks.tableKeyOf(tableName), false);
+    }
+
+    public LockRequest read(String compoundedTableName) {
+        return read(new TableName(compoundedTableName));
+    }
+
+    public LockRequest write(TableName tableName) {
+        readDatabase(tableName.getDatabaseName());
+        return add(TableLocks.tableKeyOf(tableName), true);
+    }
+
+    public LockRequest write(String compoundedTableName) {
+        return write(new TableName(compoundedTableName));
+    }
+
+    /**
+     * Requests a table which records are inserted, changed or deleted, but which
+     * header stays the same. The readers of the records read committed snapshots,
+     * and the writers of the records wait for each other in {@link TableRecords},
+     * so such a table is locked in the shared mode and only waits for the schema
+     * changes of the table.
+     *
+     * @param tableName the name of the table.
+     * @return this request.
+     */
+    public LockRequest change(TableName tableName) {
+        return read(tableName);
+    }
+
+    public LockRequest change(String compoundedTableName) {
+        return change(new TableName(compoundedTableName));
+    }
+
+    public LockRequest readDatabase(String databaseName) {
+        return add(TableLocks.databaseKeyOf(databaseName), false);
+    }
+
+    public LockRequest writeDatabase(String databaseName) {
+        return add(TableLocks.databaseKeyOf(databaseName), true);
+    }
+
+    public boolean isEmpty() {
+        return stripes.isEmpty();
+    }
+
+    /**
+     * Acquires the requested locks, waiting for the other threads
+     * to release them if needed.
+     *
+     * @return the held locks to release after the work is done.
+     * @throws LockUpgradeException if the current thread already reads a table it requests to write.
+     */
+    public HeldLocks acquire() {
+        var acquiredLocks = new ArrayList<Lock>(stripes.size());
+
+        try {
+            stripes.forEach((stripe, isWritten) -> {
+                var lock = TableLocks.stripeAt(stripe);
+
+                if (isWritten && !lock.isWriteLockedByCurrentThread() && lock.getReadHoldCount() > 0) {
+                    throw new LockUpgradeException(stripeKeys.get(stripe));
+                }
+
+                var acquiredLock = isWritten ? lock.writeLock() : lock.readLock();
+
+                acquiredLock.lock();
+                acquiredLocks.add(acquiredLock);
+            });
+        } catch (RuntimeException exception) {
+            new HeldLocks(acquiredLocks).close();
+            throw exception;
+        }
+
+        return new HeldLocks(acquiredLocks);
+    }
+
+    private LockRequest add(String key, boolean isWritten) {
+        var stripe = TableLocks.stripeOf(key);
+
+        stripes.merge(stripe, isWritten, Boolean::logicalOr);
+
+        if (isWritten) {
+            stripeKeys.put(stripe, key);
+        } else {
+            stripeKeys.putIfAbsent(stripe, key);
+        }
+
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+package ru.anafro.quark.server.database.data.locks;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableName;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Holds the process-wide read-write locks of the databases and the tables.
+ * <br><br>
+ * <p>
+ * The locks are striped: a lock is picked by the hash of the database or table
+ * name from a fixed set, so no lock is ever created or dropped when the tables are
+ * created, renamed or deleted. Two tables sharing a stripe are only written
+ * one at a time, which is the price for that.
+ * <br><br>
+ * <p>
+ * Locking a table also locks its database for reading, so that the instructions
+ * changing a whole database, like {@code delete database}, wait for the instructions
+ * working with its tables.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see LockRequest
+ * @since Quark 3.0
+ */
+public final class TableLocks {
+    private static final int STRIPE_COUNT = 256;
+    private static final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[STRIPE_COUNT];
+
+    static {
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            stripes[index] = new ReentrantReadWriteLock();
+        }
+    }
+
+    private TableLocks() {
+    }
+
+    /**
+     * Starts a request of the locks, which are acquired
+     * together by {@link LockRequest#acquire()}.
+     *
+     * @return the empty request.
+     */
+    public static LockRequest request() {
+        return new LockRequest();
+    }
+
+    public static HeldLocks reading(Table table) {
+        return request().read(nameOf(table)).acquire();
+    }
+
+    /**
+     * Locks a table which records are changed, but which header stays the same.
+     *
+     * @param table the table.
+     * @return the held locks.
+     * @see LockRequest#change(TableName)
+     */
+    public static HeldLocks changing(Table table) {
+        return request().change(nameOf(table)).acquire();
+    }
+
+    public static HeldLocks writing(Table table) {
+        return request().write(nameOf(table)).acquire();
+    }
+
+    static int stripeOf(String key) {
+        var hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), STRIPE_COUNT);
+    }
+
+    static ReentrantReadWriteLock stripeAt(int index) {
+        return stripes[index];
+    }
+
+    static String databaseKeyOf(String databaseName) {
+        return STR."database \{databaseName}";
+    }
+
+    static String tableKeyOf(TableName tableName) {
+        return STR."table \{tableName.toCompoundedString()}";
+    }
+
+    private static TableName nameOf(Table table) {
+        return new TableName(table.getDatabase().getName(), table.getName());
+    }
+}
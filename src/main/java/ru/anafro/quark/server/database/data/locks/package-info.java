@@ -0,0 +1,10 @@
+/**
+ * Contains the locks coordinating the concurrent access to the databases
+ * and their tables. Every instruction declares the tables it reads and
+ * changes, and holds the locks of these tables while it runs.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.database.data.locks;
@@ -6,18 +6,19 @@ import ru.anafro.quark.server.database.data.RecordField;
 import ru.anafro.quark.server.database.data.Table;
 import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArguments;
 
+import java.util.regex.Pattern;
+
 public abstract class AbstractRegexColumnModifier extends ColumnModifier {
-    private final String regex;
+    private final Pattern pattern;
 
     public AbstractRegexColumnModifier(String name, String regex) {
         super(ColumnModifierApplicationPriority.HIGH, name, false, "str");
-        this.regex = regex;
+        this.pattern = Pattern.compile(regex);
     }
 
-
     @Override
     public boolean isFieldValid(Table table, RecordField field, InstructionEntityConstructorArguments arguments) {
-        return field.getEntity().valueAs(String.class).matches(regex);
+        return pattern.matcher(field.getEntity().valueAs(String.class)).matches();
     }
 
     @Override
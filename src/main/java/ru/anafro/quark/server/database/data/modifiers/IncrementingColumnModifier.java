@@ -4,15 +4,20 @@ import ru.anafro.quark.server.database.data.ColumnModifier;
 import ru.anafro.quark.server.database.data.ColumnModifierApplicationPriority;
 import ru.anafro.quark.server.database.data.RecordField;
 import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.sequences.TableSequences;
 import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArguments;
 import ru.anafro.quark.server.language.entities.IntegerEntity;
 
+import java.util.List;
+
 /**
  * Represents the {@code incrementing} column modifier.
+ * The values are taken from the column sequence.
  *
  * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
- * @version Quark 1.1
+ * @version Quark 3.0
  * @since Quark 1.1
+ * @see ru.anafro.quark.server.database.data.sequences.Sequence
  */
 public class IncrementingColumnModifier extends ColumnModifier {
 
@@ -33,14 +38,22 @@ public class IncrementingColumnModifier extends ColumnModifier {
 
     @Override
     public void prepareField(Table table, RecordField field, InstructionEntityConstructorArguments arguments) {
-        var columnName = field.getColumnName();
-        var nextInt = table.getVariable(STR."Last-Generated (\{columnName})");
+        var sequence = TableSequences.of(table).getSequence(table, field.getColumnName());
+
+        field.set(IntegerEntity.of(sequence.next()));
+    }
 
-        if (nextInt.isEmpty()) {
-            nextInt.set(1);
+    @Override
+    public void prepareFields(Table table, List<RecordField> fields, InstructionEntityConstructorArguments arguments) {
+        if (fields.isEmpty()) {
+            return;
         }
 
-        field.set(nextInt.get().orElseThrow());
-        nextInt.update(IntegerEntity::incremented);
+        var sequence = TableSequences.of(table).getSequence(table, fields.getFirst().getColumnName());
+        var firstValue = sequence.reserve(fields.size());
+
+        for (int index = 0; index < fields.size(); index++) {
+            fields.get(index).set(IntegerEntity.of(firstValue + index));
+        }
     }
 }
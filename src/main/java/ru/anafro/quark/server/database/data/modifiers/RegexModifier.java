@@ -5,6 +5,7 @@ import ru.anafro.quark.server.database.data.ColumnModifierApplicationPriority;
 import ru.anafro.quark.server.database.data.RecordField;
 import ru.anafro.quark.server.database.data.Table;
 import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArguments;
+import ru.anafro.quark.server.utils.strings.Regexes;
 
 public class RegexModifier extends ColumnModifier {
     public RegexModifier() {
@@ -13,7 +14,7 @@ public class RegexModifier extends ColumnModifier {
 
     @Override
     public boolean isFieldValid(Table table, RecordField field, InstructionEntityConstructorArguments arguments) {
-        return field.getEntity().valueAs(String.class).matches(arguments.getString("regex"));
+        return Regexes.matches(field.getEntity().valueAs(String.class), arguments.getString("regex"));
     }
 
     @Override
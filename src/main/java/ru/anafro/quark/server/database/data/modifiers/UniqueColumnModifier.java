@@ -1,18 +1,20 @@
 package ru.anafro.quark.server.database.data.modifiers;
 
-import ru.anafro.quark.server.database.data.ColumnModifier;
-import ru.anafro.quark.server.database.data.ColumnModifierApplicationPriority;
-import ru.anafro.quark.server.database.data.RecordField;
-import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.*;
+import ru.anafro.quark.server.database.data.indexes.TableIndexes;
+import ru.anafro.quark.server.language.entities.Entity;
 import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArguments;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.HashSet;
+import java.util.List;
 
 /**
  * Represents the {@code require unique} column modifier.
+ * The values are looked up in the unique index of the column
+ * instead of scanning the table records.
  *
  * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
- * @version Quark 1.1
+ * @version Quark 3.0
  * @since Quark 1.1
  */
 public class UniqueColumnModifier extends ColumnModifier {
@@ -22,15 +24,29 @@ public class UniqueColumnModifier extends ColumnModifier {
 
     @Override
     public boolean isFieldValid(Table table, RecordField field, InstructionEntityConstructorArguments arguments) {
-        var valueAlreadyExists = new AtomicBoolean(true);
+        var index = TableIndexes.of(table).getUniqueIndex(table, field.getColumnName());
 
-        table.all().forEach(record -> {
-            if (record.getField(field.getColumnName()).getEntity().equals(field.getEntity())) {
-                valueAlreadyExists.set(false);
+        return index.doesntContain(valueOf(table, field));
+    }
+
+    @Override
+    public int indexOfInvalidField(Table table, List<RecordField> fields, InstructionEntityConstructorArguments arguments) {
+        if (fields.isEmpty()) {
+            return -1;
+        }
+
+        var index = TableIndexes.of(table).getUniqueIndex(table, fields.getFirst().getColumnName());
+        var insertedValues = new HashSet<Entity>();
+
+        for (int fieldIndex = 0; fieldIndex < fields.size(); fieldIndex++) {
+            var value = valueOf(table, fields.get(fieldIndex));
+
+            if (index.contains(value) || !insertedValues.add(value)) {
+                return fieldIndex;
             }
-        });
+        }
 
-        return valueAlreadyExists.get();
+        return -1;
     }
 
     @Override
@@ -38,4 +54,13 @@ public class UniqueColumnModifier extends ColumnModifier {
         // Nothing.
     }
 
+    private static Entity valueOf(Table table, RecordField field) {
+        var value = field.getEntity();
+
+        return table.getColumn(field.getColumnName())
+                .map(ColumnDescription::type)
+                .filter(type -> value.doesntHaveType(type) && type.canCast(value))
+                .<Entity>map(type -> type.cast(value))
+                .orElse(value);
+    }
 }
@@ -0,0 +1,83 @@
+package ru.anafro.quark.server.database.data.sequences;
+
+import ru.anafro.quark.server.database.data.exceptions.SequenceExhaustedException;
+import ru.anafro.quark.server.database.data.files.TableVariable;
+import ru.anafro.quark.server.language.entities.IntegerEntity;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a sequence of integers, generating the values of an {@code incrementing} column.
+ * <br><br>
+ * <p>
+ * The values are handed out from memory. The sequence variable stores the first
+ * value that was not reserved yet, and the sequence reserves values in blocks of
+ * {@link #RESERVATION_BLOCK_SIZE}, writing the variable once per block. A value is
+ * never handed out before its block is written, so a restart continues from the
+ * end of the last reserved block: the values may have gaps, but never repeat.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class Sequence {
+    public static final int RESERVATION_BLOCK_SIZE = 1000;
+    public static final int FIRST_VALUE = 1;
+    private final TableVariable variable;
+    private final AtomicLong nextValue;
+    private volatile long reservedUntil;
+
+    public Sequence(TableVariable variable) {
+        var storedValue = variable.<IntegerEntity>get().map(IntegerEntity::getValue).orElse(FIRST_VALUE);
+
+        this.variable = variable;
+        this.nextValue = new AtomicLong(storedValue);
+        this.reservedUntil = storedValue;
+    }
+
+    /**
+     * Returns the next value of the sequence.
+     *
+     * @return the value.
+     */
+    public int next() {
+        return reserve(1);
+    }
+
+    /**
+     * Reserves several consecutive values at once.
+     *
+     * @param count the number of values to reserve.
+     * @return the first of the reserved values.
+     */
+    public int reserve(int count) {
+        var firstValue = nextValue.getAndAdd(count);
+        var end = firstValue + count;
+
+        if (end > reservedUntil) {
+            reserveUntil(end);
+        }
+
+        return toInt(firstValue);
+    }
+
+    private synchronized void reserveUntil(long end) {
+        if (end <= reservedUntil) {
+            return;
+        }
+
+        var newReservation = end + RESERVATION_BLOCK_SIZE;
+
+        variable.set(IntegerEntity.of(toInt(newReservation)));
+        variable.flush();
+        reservedUntil = newReservation;
+    }
+
+    private int toInt(long value) {
+        if (value > Integer.MAX_VALUE) {
+            throw new SequenceExhaustedException(variable.getName(), value);
+        }
+
+        return (int) value;
+    }
+}
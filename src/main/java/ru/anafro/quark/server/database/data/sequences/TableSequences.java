@@ -0,0 +1,47 @@
+package ru.anafro.quark.server.database.data.sequences;
+
+import ru.anafro.quark.server.database.data.Table;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the sequences of the {@code incrementing} columns of a single table.
+ * Like the indexes, the sequences are kept in a process-wide registry keyed
+ * by the path of the table directory, since {@link Table} objects are created
+ * for every query.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class TableSequences {
+    private static final Map<String, TableSequences> registry = new ConcurrentHashMap<>();
+    private final Map<String, Sequence> sequences = new ConcurrentHashMap<>();
+
+    public static TableSequences of(Table table) {
+        return registry.computeIfAbsent(keyOf(table), _ -> new TableSequences());
+    }
+
+    /**
+     * Drops the sequences of the table. The sequences will be loaded
+     * from the table variables again on the next use.
+     *
+     * @param table the table.
+     */
+    public static void forget(Table table) {
+        registry.remove(keyOf(table));
+    }
+
+    public static String variableNameOf(String columnName) {
+        return STR."Last-Generated (\{columnName})";
+    }
+
+    public Sequence getSequence(Table table, String columnName) {
+        return sequences.computeIfAbsent(columnName, _ -> new Sequence(table.getVariable(variableNameOf(columnName))));
+    }
+
+    private static String keyOf(Table table) {
+        return table.getDirectory().getPath().toAbsolutePath().toString();
+    }
+}
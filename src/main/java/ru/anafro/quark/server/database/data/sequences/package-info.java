@@ -0,0 +1,9 @@
+/**
+ * Contains the sequences generating the values
+ * of the {@code incrementing} columns.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.database.data.sequences;
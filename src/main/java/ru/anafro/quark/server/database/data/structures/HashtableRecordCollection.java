@@ -5,6 +5,7 @@ import ru.anafro.quark.server.database.data.RecordIterationLimiter;
 import ru.anafro.quark.server.database.data.RecordLambda;
 import ru.anafro.quark.server.database.data.TableRecord;
 import ru.anafro.quark.server.database.data.TableRecordFinder;
+import ru.anafro.quark.server.language.queries.RunningQueries;
 import ru.anafro.quark.server.utils.collections.Lists;
 import ru.anafro.quark.server.utils.integers.Integers;
 
@@ -37,6 +38,8 @@ public class HashtableRecordCollection extends RecordCollection {
         var collection = new LinearRecordCollection();
 
         for (var record : this) {
+            RunningQueries.checkpoint();
+
             if (limiter.fitsTheLimit()) {
                 if (limiter.isSkipNeeded()) {
                     limiter.skipped();
@@ -61,6 +64,8 @@ public class HashtableRecordCollection extends RecordCollection {
                 while (iterator().hasNext() && limiter.fitsTheLimit()) {
                     var record = iterator.next();
 
+                    RunningQueries.checkpoint();
+
                     if (selectionCondition.apply(record)) {
                         if (limiter.isSkipNeeded()) {
                             limiter.skipped();
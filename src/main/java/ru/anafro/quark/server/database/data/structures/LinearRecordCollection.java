@@ -5,9 +5,11 @@ import ru.anafro.quark.server.database.data.RecordIterationLimiter;
 import ru.anafro.quark.server.database.data.RecordLambda;
 import ru.anafro.quark.server.database.data.TableRecord;
 import ru.anafro.quark.server.database.data.TableRecordFinder;
+import ru.anafro.quark.server.language.queries.RunningQueries;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -32,9 +34,15 @@ public class LinearRecordCollection extends RecordCollection {
 
     @Override
     public RecordCollection select(Function<TableRecord, Boolean> selectionCondition, RecordIterationLimiter limiter) {
+        if (ParallelRecordScans.isWorthIt(records.size())) {
+            return limit(ParallelRecordScans.select(records, selectionCondition), limiter);
+        }
+
         var collection = new LinearRecordCollection();
 
         for (var record : this) {
+            RunningQueries.checkpoint();
+
             if (!selectionCondition.apply(record)) {
                 continue;
             }
@@ -61,6 +69,8 @@ public class LinearRecordCollection extends RecordCollection {
         while (iterator.hasNext() && limiter.fitsTheLimit()) {
             var record = iterator.next();
 
+            RunningQueries.checkpoint();
+
             if (selectionCondition.apply(record)) {
                 if (limiter.isSkipNeeded()) {
                     limiter.skipped();
@@ -77,9 +87,20 @@ public class LinearRecordCollection extends RecordCollection {
         return records.size();
     }
 
+    @Override
+    public int count(Function<TableRecord, Boolean> selectionCondition) {
+        if (ParallelRecordScans.isWorthIt(records.size())) {
+            return ParallelRecordScans.count(records, selectionCondition);
+        }
+
+        return super.count(selectionCondition);
+    }
+
     @Override
     public Optional<TableRecord> find(TableRecordFinder finder) {
         for (var record : records) {
+            RunningQueries.checkpoint();
+
             if (finder.apply(record)) {
                 return Optional.of(record);
             }
@@ -90,6 +111,18 @@ public class LinearRecordCollection extends RecordCollection {
 
     @Override
     public void exclude(TableRecordFinder finder) {
-        remove(finder, RecordIterationLimiter.UNLIMITED);
+        remove(finder, RecordIterationLimiter.unlimited());
+    }
+
+    private static LinearRecordCollection limit(List<TableRecord> selectedRecords, RecordIterationLimiter limiter) {
+        var collection = new LinearRecordCollection();
+        var from = Math.min(limiter.getSkip(), selectedRecords.size());
+        var to = from + Math.min(limiter.getLimit(), selectedRecords.size() - from);
+
+        collection.records.addAll(selectedRecords.subList(from, to));
+        limiter.skipped(from);
+        limiter.selected(to - from);
+
+        return collection;
     }
 }
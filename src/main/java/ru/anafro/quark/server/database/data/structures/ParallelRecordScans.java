@@ -0,0 +1,176 @@
+package ru.anafro.quark.server.database.data.structures;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.queries.RunningQueries;
+import ru.anafro.quark.server.language.queries.RunningQuery;
+import ru.anafro.quark.server.networking.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Evaluates a selection condition against the records of a large collection
+ * on several threads of the common {@link ForkJoinPool}.
+ * <br><br>
+ * <p>
+ * The records are split in halves until a range is small enough to be scanned
+ * by one thread. The selected records of the ranges are joined back in the order
+ * of the records, so a scan selects the same records in the same order as
+ * a scan on one thread does. Collections smaller than
+ * {@link Configuration#getParallelScanThreshold()} are not worth it,
+ * as splitting them costs more than scanning. The threads scanning
+ * the ranges stop when the query running the scan is cancelled.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+final class ParallelRecordScans {
+    private static final int MIN_RANGE_SIZE = 1024;
+    private static final int RANGES_PER_THREAD = 4;
+
+    private ParallelRecordScans() {
+    }
+
+    static boolean isWorthIt(int recordCount) {
+        return recordCount >= getThreshold() && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Selects the records matching the selection condition.
+     *
+     * @param records            the records to scan.
+     * @param selectionCondition the selection condition.
+     * @return the selected records in the order of the scanned ones.
+     */
+    static List<TableRecord> select(List<TableRecord> records, Function<TableRecord, Boolean> selectionCondition) {
+        return ForkJoinPool.commonPool().invoke(new SelectionTask(records, selectionCondition, RunningQueries.current().orElse(null), 0, records.size(), rangeSizeOf(records)));
+    }
+
+    /**
+     * Counts the records matching the selection condition.
+     *
+     * @param records            the records to scan.
+     * @param selectionCondition the selection condition.
+     * @return the number of the selected records.
+     */
+    static int count(List<TableRecord> records, Function<TableRecord, Boolean> selectionCondition) {
+        return ForkJoinPool.commonPool().invoke(new CountingTask(records, selectionCondition, RunningQueries.current().orElse(null), 0, records.size(), rangeSizeOf(records)));
+    }
+
+    private static int getThreshold() {
+        var configuration = Quark.configuration();
+
+        if (configuration == null) {
+            return Configuration.DEFAULT_PARALLEL_SCAN_THRESHOLD;
+        }
+
+        return configuration.getParallelScanThreshold();
+    }
+
+    private static void ensureIsNotStopped(RunningQuery query) {
+        if (query != null) {
+            query.ensureIsNotStopped();
+        }
+    }
+
+    private static int rangeSizeOf(List<TableRecord> records) {
+        return Math.max(MIN_RANGE_SIZE, records.size() / (ForkJoinPool.getCommonPoolParallelism() * RANGES_PER_THREAD));
+    }
+
+    private static final class SelectionTask extends RecursiveTask<List<TableRecord>> {
+        private final List<TableRecord> records;
+        private final Function<TableRecord, Boolean> selectionCondition;
+        private final RunningQuery query;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        private SelectionTask(List<TableRecord> records, Function<TableRecord, Boolean> selectionCondition, RunningQuery query, int from, int to, int rangeSize) {
+            this.records = records;
+            this.selectionCondition = selectionCondition;
+            this.query = query;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected List<TableRecord> compute() {
+            if (to - from <= rangeSize) {
+                var selectedRecords = new ArrayList<TableRecord>();
+
+                for (int index = from; index < to; index++) {
+                    var record = records.get(index);
+
+                    ensureIsNotStopped(query);
+
+                    if (selectionCondition.apply(record)) {
+                        selectedRecords.add(record);
+                    }
+                }
+
+                return selectedRecords;
+            }
+
+            var middle = (from + to) >>> 1;
+            var left = new SelectionTask(records, selectionCondition, query, from, middle, rangeSize);
+            var right = new SelectionTask(records, selectionCondition, query, middle, to, rangeSize);
+
+            left.fork();
+            var rightRecords = right.compute();
+            var leftRecords = left.join();
+
+            leftRecords.addAll(rightRecords);
+
+            return leftRecords;
+        }
+    }
+
+    private static final class CountingTask extends RecursiveTask<Integer> {
+        private final List<TableRecord> records;
+        private final Function<TableRecord, Boolean> selectionCondition;
+        private final RunningQuery query;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        private CountingTask(List<TableRecord> records, Function<TableRecord, Boolean> selectionCondition, RunningQuery query, int from, int to, int rangeSize) {
+            this.records = records;
+            this.selectionCondition = selectionCondition;
+            this.query = query;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= rangeSize) {
+                var count = 0;
+
+                for (int index = from; index < to; index++) {
+                    ensureIsNotStopped(query);
+
+                    if (selectionCondition.apply(records.get(index))) {
+                        count++;
+                    }
+                }
+
+                return count;
+            }
+
+            var middle = (from + to) >>> 1;
+            var left = new CountingTask(records, selectionCondition, query, from, middle, rangeSize);
+            var right = new CountingTask(records, selectionCondition, query, middle, to, rangeSize);
+
+            left.fork();
+
+            return right.compute() + left.join();
+        }
+    }
+}
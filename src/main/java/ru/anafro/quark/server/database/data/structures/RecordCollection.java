@@ -48,6 +48,17 @@ public abstract class RecordCollection implements Iterable<TableRecord> {
 
     public abstract int count();
 
+    /**
+     * Counts the records selected by the selection condition.
+     *
+     * @param selectionCondition the condition of the records to count.
+     * @return the number of the selected records.
+     * @since Quark 3.0
+     */
+    public int count(Function<TableRecord, Boolean> selectionCondition) {
+        return select(selectionCondition, RecordIterationLimiter.unlimited()).count();
+    }
+
     public abstract Optional<TableRecord> find(TableRecordFinder finder);
 
     /**
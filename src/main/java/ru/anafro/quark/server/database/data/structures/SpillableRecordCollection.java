@@ -0,0 +1,127 @@
+package ru.anafro.quark.server.database.data.structures;
+
+import org.jetbrains.annotations.NotNull;
+import ru.anafro.quark.server.database.data.RecordIterationLimiter;
+import ru.anafro.quark.server.database.data.RecordLambda;
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.database.data.TableRecordFinder;
+import ru.anafro.quark.server.database.data.files.TableHeader;
+import ru.anafro.quark.server.database.memory.MemoryBudget;
+import ru.anafro.quark.server.database.memory.SpillableList;
+import ru.anafro.quark.server.language.queries.RunningQueries;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Buffers the records selected by a query. The records exceeding the memory
+ * budget of the query are spilled to a temporary file in the format
+ * of the records file of their table, and read back when they are iterated.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see MemoryBudget
+ * @since Quark 3.0
+ */
+public class SpillableRecordCollection extends RecordCollection {
+    private final TableHeader header;
+    private SpillableList<TableRecord> records;
+
+    public SpillableRecordCollection(TableHeader header) {
+        this.header = header;
+        this.records = new SpillableList<>(new TableRecordCodec(header));
+    }
+
+    @NotNull
+    @Override
+    public Iterator<TableRecord> iterator() {
+        return records.iterator();
+    }
+
+    @Override
+    public ArrayList<TableRecord> toList() {
+        return new ArrayList<>(records);
+    }
+
+    @Override
+    public void add(TableRecord record) {
+        records.add(record);
+    }
+
+    @Override
+    public RecordCollection select(Function<TableRecord, Boolean> selectionCondition, RecordIterationLimiter limiter) {
+        var collection = new SpillableRecordCollection(header);
+
+        for (var record : this) {
+            RunningQueries.checkpoint();
+
+            if (!selectionCondition.apply(record)) {
+                continue;
+            }
+
+            if (!limiter.fitsTheLimit()) {
+                break;
+            }
+
+            if (limiter.isSkipNeeded()) {
+                limiter.skipped();
+            } else {
+                collection.add(record);
+                limiter.selected();
+            }
+        }
+
+        return collection;
+    }
+
+    @Override
+    public void remove(RecordLambda<Boolean> selectionCondition, RecordIterationLimiter limiter) {
+        var remainingRecords = new SpillableList<>(new TableRecordCodec(header));
+
+        for (var record : records) {
+            RunningQueries.checkpoint();
+
+            if (limiter.fitsTheLimit() && selectionCondition.apply(record)) {
+                if (limiter.isSkipNeeded()) {
+                    limiter.skipped();
+                } else {
+                    limiter.selected();
+                    continue;
+                }
+            }
+
+            remainingRecords.add(record);
+        }
+
+        records = remainingRecords;
+    }
+
+    @Override
+    public int count() {
+        return records.size();
+    }
+
+    @Override
+    public Optional<TableRecord> find(TableRecordFinder finder) {
+        for (var record : records) {
+            RunningQueries.checkpoint();
+
+            if (finder.apply(record)) {
+                return Optional.of(record);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void exclude(TableRecordFinder finder) {
+        remove(finder, RecordIterationLimiter.unlimited());
+    }
+
+    public boolean isSpilled() {
+        return records.isSpilled();
+    }
+}
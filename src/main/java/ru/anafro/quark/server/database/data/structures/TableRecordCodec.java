@@ -0,0 +1,49 @@
+package ru.anafro.quark.server.database.data.structures;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.database.data.UntypedTableRecord;
+import ru.anafro.quark.server.database.data.files.TableHeader;
+import ru.anafro.quark.server.database.memory.SpillCodec;
+
+/**
+ * Writes the records spilled to the disk as the lines of a records file of their table.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see SpillableRecordCollection
+ * @since Quark 3.0
+ */
+final class TableRecordCodec implements SpillCodec<TableRecord> {
+    private static final long RECORD_OVERHEAD = 48;
+    private static final long FIELD_OVERHEAD = 64;
+    private final TableHeader header;
+
+    TableRecordCodec(TableHeader header) {
+        this.header = header;
+    }
+
+    @Override
+    public String encode(TableRecord record) {
+        return header.toTableLine(record);
+    }
+
+    @Override
+    public TableRecord decode(String line) {
+        return UntypedTableRecord.fromString(line).applyTypesFrom(header);
+    }
+
+    @Override
+    public long estimateSize(TableRecord record) {
+        var size = RECORD_OVERHEAD;
+
+        for (var field : record) {
+            size += FIELD_OVERHEAD;
+
+            if (field.getEntity().getValue() instanceof String string) {
+                size += 2L * string.length();
+            }
+        }
+
+        return size;
+    }
+}
@@ -0,0 +1,200 @@
+package ru.anafro.quark.server.database.data.transactions;
+
+import ru.anafro.quark.server.database.data.*;
+import ru.anafro.quark.server.database.data.files.RecordsChange;
+import ru.anafro.quark.server.database.data.indexes.TableIndexes;
+import ru.anafro.quark.server.language.queries.RunningQueries;
+import ru.anafro.quark.server.utils.strings.TextBuffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Represents the records of a table while the changes of a transaction
+ * are replayed on them on commit.
+ * <br><br>
+ * <p>
+ * The records are read from the records file only when a change has to select
+ * them, so a transaction which only inserts records never reads the table.
+ * Only the difference is written: the lines of the deleted and changed records
+ * are marked with tombstones, and the changed and inserted records are appended.
+ * <br><br>
+ * <p>
+ * Every change is checked against the state left by the changes before it,
+ * as the table indexes are updated while the changes are replayed. Hence,
+ * a record can be inserted after deleting the record it would repeat a unique
+ * value of. The indexes must be forgotten if the replayed changes are not written.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Transaction
+ * @since Quark 3.0
+ */
+final class ReplayedTable {
+    private final Table table;
+    private final TableIndexes indexes;
+    private final List<Line> lines = new ArrayList<>();
+    private final BitSet deadLines = new BitSet();
+    private String recordsFileKey;
+    private long deadBytes;
+    private boolean isRead;
+
+    ReplayedTable(Table table) {
+        this.table = table;
+        this.indexes = TableIndexes.of(table);
+        this.recordsFileKey = table.getRecords().getFileKey();
+
+        indexes.ensureFresh();
+        indexes.buildUniqueIndexes(table);
+    }
+
+    Table getTable() {
+        return table;
+    }
+
+    void insert(List<TableRecord> records) {
+        var header = table.getHeader();
+
+        header.ensureRecordsAreValid(records);
+        header.prepareRecords(records);
+        indexes.recordsInserted(records);
+
+        for (var record : records) {
+            lines.add(new Line(record));
+        }
+    }
+
+    void change(TableRecordSelector selector, TableRecordChanger changer) {
+        read();
+
+        var assignment = changer.prepare();
+        var previousRecords = new ArrayList<TableRecord>();
+        var changedRecords = new ArrayList<TableRecord>();
+        var changedLines = new ArrayList<Line>();
+
+        for (var line : lines) {
+            RunningQueries.checkpoint();
+
+            if (selector.selects(line.record)) {
+                previousRecords.add(line.record.copy());
+                assignment.accept(line.record);
+                changedRecords.add(line.record);
+                changedLines.add(line);
+            }
+        }
+
+        if (changedRecords.isEmpty()) {
+            return;
+        }
+
+        indexes.recordsChanging(table, changer.column(), previousRecords);
+        table.getHeader().ensureChangedRecordsAreValid(changedRecords, changer.column());
+        indexes.recordsInserted(changedRecords);
+        changedLines.forEach(this::bury);
+    }
+
+    void delete(RecordLambda<Boolean> selector, RecordIterationLimiter limiter) {
+        read();
+
+        var deletedRecords = new ArrayList<TableRecord>();
+        var liveLines = new ArrayList<Line>(lines.size());
+
+        for (var line : lines) {
+            RunningQueries.checkpoint();
+
+            if (limiter.fitsTheLimit() && selector.apply(line.record)) {
+                if (limiter.isSkipNeeded()) {
+                    limiter.skipped();
+                } else {
+                    limiter.selected();
+                    deletedRecords.add(line.record);
+                    bury(line);
+                    continue;
+                }
+            }
+
+            liveLines.add(line);
+        }
+
+        lines.clear();
+        lines.addAll(liveLines);
+        indexes.recordsDeleted(deletedRecords);
+    }
+
+    /**
+     * Makes the change of the records file with the replayed changes.
+     * The caller must hold the write lock of the records.
+     *
+     * @return the change.
+     */
+    RecordsChange toRecordsChange() {
+        var header = table.getHeader();
+        var appendedLines = new TextBuffer();
+
+        for (var line : lines) {
+            if (line.isAppended()) {
+                appendedLines.appendLine(header.toTableLine(line.record));
+            }
+        }
+
+        return RecordsChange.of(table.getRecords(), recordsFileKey, appendedLines.toString(), deadLines, deadBytes);
+    }
+
+    private void read() {
+        if (isRead) {
+            return;
+        }
+
+        var header = table.getHeader();
+        var readLines = new ArrayList<Line>();
+
+        try (var snapshot = table.getRecords().snapshot()) {
+            recordsFileKey = snapshot.getVersion().fileKey();
+            snapshot.forEachLiveLine((lineNumber, line) -> readLines.add(new Line(
+                    lineNumber,
+                    line.getBytes(StandardCharsets.UTF_8).length + 1,
+                    UntypedTableRecord.fromString(line).applyTypesFrom(header)
+            )));
+        }
+
+        lines.addAll(0, readLines);
+        isRead = true;
+    }
+
+    /**
+     * Marks the line of a deleted or changed record with a tombstone.
+     * A changed record stays in the lines and is appended with its new values.
+     */
+    private void bury(Line line) {
+        if (line.isAppended()) {
+            return;
+        }
+
+        deadLines.set(Math.toIntExact(line.number));
+        deadBytes += line.bytes;
+        line.number = Line.APPENDED;
+    }
+
+    private static final class Line {
+        private static final long APPENDED = -1;
+        private final long bytes;
+        private final TableRecord record;
+        private long number;
+
+        private Line(long number, long bytes, TableRecord record) {
+            this.number = number;
+            this.bytes = bytes;
+            this.record = record;
+        }
+
+        private Line(TableRecord record) {
+            this(APPENDED, 0, record);
+        }
+
+        private boolean isAppended() {
+            return number == APPENDED;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.anafro.quark.server.database.data.transactions;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The scope of a transaction, owned by the token or the thread running in it.
+ * <br><br>
+ * <p>
+ * A request naming no session runs in an anonymous session of its own, which
+ * never sees a transaction. Beginning a transaction there issues a new session
+ * name, which the next requests of the same token send to run in the transaction.
+ * A transaction can only be used by the owner of the session which has begun it.
+ *
+ * @param name        the name of the session.
+ * @param owner       the token or the thread the session belongs to.
+ * @param isAnonymous whether the session is used by a single request only.
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Transactions
+ * @since Quark 3.0
+ */
+public record Session(String name, String owner, boolean isAnonymous) {
+    private static final AtomicLong lastAnonymousId = new AtomicLong();
+
+    public static Session named(String name, String owner) {
+        return new Session(name, owner, false);
+    }
+
+    public static Session anonymous(String owner) {
+        return new Session(STR."Request \{lastAnonymousId.incrementAndGet()}", owner, true);
+    }
+
+    static Session ofCurrentThread() {
+        var name = STR."Thread \{Thread.currentThread().threadId()}";
+
+        return named(name, name);
+    }
+
+    static String issueName() {
+        return UUID.randomUUID().toString();
+    }
+
+    public boolean isOwnedBy(String owner) {
+        return this.owner.equals(owner);
+    }
+}
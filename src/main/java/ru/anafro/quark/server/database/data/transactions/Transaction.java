@@ -0,0 +1,184 @@
+package ru.anafro.quark.server.database.data.transactions;
+
+import ru.anafro.quark.server.database.data.*;
+import ru.anafro.quark.server.database.data.exceptions.ColumnNotFoundException;
+import ru.anafro.quark.server.database.data.exceptions.TableNotFoundException;
+import ru.anafro.quark.server.database.data.exceptions.TransactionConflictException;
+import ru.anafro.quark.server.database.data.files.RecordsChange;
+import ru.anafro.quark.server.database.data.indexes.TableIndexes;
+import ru.anafro.quark.server.database.data.locks.TableLocks;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Collects the record changes of several instructions and applies them
+ * to the tables at once on {@link #commit()}.
+ * <br><br>
+ * <p>
+ * The changes are kept in memory as the write set of each table until the commit,
+ * so the instructions of the transaction do not see the changes made by the previous
+ * ones. On commit, the changes are replayed on every changed table in the order
+ * they were made, and each of them is checked against the state left by the previous
+ * ones. A failed change, like an inserted record breaking a modifier, leaves all
+ * the tables as they were.
+ * <br><br>
+ * <p>
+ * Only the difference is written to the records files: the changed and inserted records
+ * are appended, and the lines of the changed and deleted ones are marked with tombstones.
+ * The differences of all the tables are written to a {@link TransactionManifest} first,
+ * so if the server stops while they are written, the rest of them are written on start.
+ * <br><br>
+ * <p>
+ * The transaction remembers the committed version of each table it has changed.
+ * If another instruction has changed the records of the table since then,
+ * the commit fails with {@link TransactionConflictException}.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Transactions
+ * @since Quark 3.0
+ */
+public final class Transaction {
+    private final String session;
+    private final String owner;
+    private final Map<String, WriteSet> writeSets = new LinkedHashMap<>();
+    private volatile long lastUsedNanos = System.nanoTime();
+
+    Transaction(String session, String owner) {
+        this.session = session;
+        this.owner = owner;
+    }
+
+    public String getSession() {
+        return session;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    void touch() {
+        lastUsedNanos = System.nanoTime();
+    }
+
+    boolean isIdleFor(long nanos) {
+        return System.nanoTime() - lastUsedNanos > nanos;
+    }
+
+    public void insert(Table table, List<TableRecord> records) {
+        var insertedRecords = List.copyOf(records);
+
+        writeSetOf(table).changes.add(replayedTable -> replayedTable.insert(insertedRecords));
+    }
+
+    public void change(Table table, TableRecordSelector selector, TableRecordChanger changer) {
+        if (table.canNotUse(changer)) {
+            throw new ColumnNotFoundException(table, changer.column());
+        }
+
+        writeSetOf(table).changes.add(replayedTable -> replayedTable.change(selector, changer));
+    }
+
+    public void delete(Table table, RecordLambda<Boolean> selector, RecordIterationLimiter limiter) {
+        writeSetOf(table).changes.add(replayedTable -> replayedTable.delete(selector, limiter));
+    }
+
+    public int countChanges() {
+        return writeSets.values().stream().mapToInt(writeSet -> writeSet.changes.size()).sum();
+    }
+
+    /**
+     * Applies the changes to the tables. The tables are locked for writing
+     * until all of them are changed.
+     *
+     * @throws TransactionConflictException if a table has been changed by someone else since the transaction changed it.
+     */
+    public void commit() {
+        var locks = TableLocks.request();
+        var replayedTables = new ArrayList<ReplayedTable>();
+        var orderedWriteSets = writeSets.values().stream()
+                .sorted(Comparator.comparing(writeSet -> writeSet.tableName.toCompoundedString()))
+                .toList();
+
+        orderedWriteSets.forEach(writeSet -> locks.write(writeSet.tableName));
+
+        try (var _ = locks.acquire()) {
+            commit(orderedWriteSets, 0, replayedTables);
+        } catch (RuntimeException exception) {
+            replayedTables.forEach(replayedTable -> TableIndexes.forget(replayedTable.getTable()));
+            throw exception;
+        }
+    }
+
+    /**
+     * Holds the write locks of the records of the write sets starting from the index,
+     * one in another, and writes the changes when all the write locks are held.
+     */
+    private void commit(List<WriteSet> orderedWriteSets, int index, List<ReplayedTable> replayedTables) {
+        if (index < orderedWriteSets.size()) {
+            var writeSet = orderedWriteSets.get(index);
+            var table = tableOf(writeSet);
+
+            synchronized (table.getRecords().getWriteLock()) {
+                ensureNotChangedBySomeoneElse(table, writeSet);
+
+                var replayedTable = new ReplayedTable(table);
+
+                replayedTables.add(replayedTable);
+                writeSet.changes.forEach(change -> change.accept(replayedTable));
+                commit(orderedWriteSets, index + 1, replayedTables);
+            }
+
+            return;
+        }
+
+        var changes = new LinkedHashMap<String, RecordsChange>();
+
+        for (var replayedTable : replayedTables) {
+            var table = replayedTable.getTable();
+            changes.put(new TableName(table.getDatabase().getName(), table.getName()).toCompoundedString(), replayedTable.toRecordsChange());
+        }
+
+        var manifest = new TransactionManifest(changes);
+
+        manifest.write();
+        manifest.apply();
+        manifest.delete();
+
+        replayedTables.forEach(replayedTable -> TableIndexes.of(replayedTable.getTable()).recordsWritten());
+    }
+
+    private static void ensureNotChangedBySomeoneElse(Table table, WriteSet writeSet) {
+        if (table.getRecords().getVersion().sequence() != writeSet.sequence) {
+            throw new TransactionConflictException(writeSet.tableName);
+        }
+    }
+
+    private WriteSet writeSetOf(Table table) {
+        var tableName = new TableName(table.getDatabase().getName(), table.getName());
+
+        return writeSets.computeIfAbsent(tableName.toCompoundedString(), _ -> new WriteSet(tableName, table.getRecords().getVersion().sequence()));
+    }
+
+    private static Table tableOf(WriteSet writeSet) {
+        var compoundedName = writeSet.tableName.toCompoundedString();
+
+        if (Table.doesntExist(compoundedName)) {
+            throw new TableNotFoundException(writeSet.tableName);
+        }
+
+        return Table.byName(compoundedName);
+    }
+
+    private static final class WriteSet {
+        private final TableName tableName;
+        private final long sequence;
+        private final List<Consumer<ReplayedTable>> changes = new ArrayList<>();
+
+        private WriteSet(TableName tableName, long sequence) {
+            this.tableName = tableName;
+            this.sequence = sequence;
+        }
+    }
+}
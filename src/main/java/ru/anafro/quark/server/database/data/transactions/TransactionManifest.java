@@ -0,0 +1,155 @@
+package ru.anafro.quark.server.database.data.transactions;
+
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.exceptions.TransactionManifestFailedException;
+import ru.anafro.quark.server.database.data.files.RecordsChange;
+import ru.anafro.quark.server.database.data.indexes.TableIndexes;
+import ru.anafro.quark.server.files.TransactionsDirectory;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Represents the changes of the tables a transaction commits, written
+ * to a file before any of them is applied.
+ * <br><br>
+ * <p>
+ * The transaction is committed once its manifest is written: if the server
+ * stops while the changes are applied to the tables, the rest of them are
+ * applied from the manifest on the next start. The manifest is deleted
+ * when all the changes are applied.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see RecordsChange
+ * @since Quark 3.0
+ */
+final class TransactionManifest {
+    private static final String EXTENSION = ".qmanifest";
+    private final Path path;
+    private final Map<String, RecordsChange> changes;
+
+    private TransactionManifest(Path path, Map<String, RecordsChange> changes) {
+        this.path = path;
+        this.changes = changes;
+    }
+
+    TransactionManifest(Map<String, RecordsChange> changes) {
+        this(TransactionsDirectory.getInstance().getFilePath(STR."\{UUID.randomUUID()}\{EXTENSION}"), changes);
+    }
+
+    /**
+     * Applies the changes of the manifests left by a stopped server,
+     * and deletes the manifests. Must be called on startup,
+     * before the tables are used.
+     */
+    static void recoverAll() {
+        var directory = TransactionsDirectory.getInstance();
+
+        if (directory.doesntExist()) {
+            return;
+        }
+
+        for (var file : directory) {
+            var fileName = file.getPath().getFileName().toString();
+
+            if (fileName.endsWith(EXTENSION)) {
+                read(file.getPath()).recover();
+                file.delete();
+            } else if (fileName.endsWith(".writing")) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Writes the manifest durably. The transaction is committed after this.
+     */
+    void write() {
+        var writtenFile = Path.of(STR."\{path}.writing");
+
+        try {
+            Files.createDirectories(path.getParent());
+        } catch (IOException exception) {
+            throw new TransactionManifestFailedException(path, exception);
+        }
+
+        try (var stream = new FileOutputStream(writtenFile.toFile()); var output = new DataOutputStream(new BufferedOutputStream(stream))) {
+            output.writeInt(changes.size());
+
+            for (var entry : changes.entrySet()) {
+                output.writeUTF(entry.getKey());
+                entry.getValue().writeTo(output);
+            }
+
+            output.flush();
+            stream.getFD().sync();
+        } catch (IOException exception) {
+            throw new TransactionManifestFailedException(path, exception);
+        }
+
+        try {
+            Files.move(writtenFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new TransactionManifestFailedException(path, exception);
+        }
+
+        syncDirectory();
+    }
+
+    /**
+     * Applies the changes to the tables. The caller must hold
+     * the write locks of the tables.
+     */
+    void apply() {
+        changes.forEach((tableName, change) -> Table.byName(tableName).getRecords().apply(change));
+    }
+
+    private void recover() {
+        changes.forEach((tableName, change) -> {
+            if (Table.exists(tableName)) {
+                var table = Table.byName(tableName);
+
+                table.getRecords().apply(change);
+                TableIndexes.forget(table);
+            }
+        });
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            throw new TransactionManifestFailedException(path, exception);
+        }
+    }
+
+    private static TransactionManifest read(Path path) {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            var changes = new LinkedHashMap<String, RecordsChange>();
+            var changeCount = input.readInt();
+
+            for (int index = 0; index < changeCount; index++) {
+                changes.put(input.readUTF(), RecordsChange.readFrom(input));
+            }
+
+            return new TransactionManifest(path, changes);
+        } catch (IOException exception) {
+            throw new TransactionManifestFailedException(path, exception);
+        }
+    }
+
+    private void syncDirectory() {
+        try (var directory = FileChannel.open(path.getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException _) {
+        }
+    }
+}
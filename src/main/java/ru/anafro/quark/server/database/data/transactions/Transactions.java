@@ -0,0 +1,166 @@
+package ru.anafro.quark.server.database.data.transactions;
+
+import ru.anafro.quark.server.database.data.exceptions.SessionBelongsToAnotherOwnerException;
+import ru.anafro.quark.server.database.data.exceptions.TransactionAlreadyStartedException;
+import ru.anafro.quark.server.database.data.exceptions.TransactionNotStartedException;
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.networking.Configuration;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the transactions of the sessions.
+ * <br><br>
+ * <p>
+ * A session is the scope of a transaction: the instructions run in the same
+ * session see the same transaction. The requests sent to the server are run
+ * in the session named in the request, or in an anonymous session of their own.
+ * Everything else, like the console or the plugins, is run in the session
+ * of its thread. A transaction belongs to the token or the thread which
+ * has begun it, and nobody else can use it through its session.
+ * <br><br>
+ * <p>
+ * The transactions left neither committed nor rolled back expire after
+ * {@link Configuration#getTransactionTimeout()} of not being used.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Session
+ * @since Quark 3.0
+ */
+public final class Transactions {
+    private static final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Session> session = ThreadLocal.withInitial(Session::ofCurrentThread);
+
+    private Transactions() {
+    }
+
+    /**
+     * Finishes writing the transactions which were committed
+     * by a stopped server. Must be called on startup,
+     * before the tables are used.
+     */
+    public static void recover() {
+        TransactionManifest.recoverAll();
+    }
+
+    /**
+     * Runs an action in a session.
+     *
+     * @param session the session.
+     * @param action  the action.
+     */
+    public static void runInSession(Session session, Runnable action) {
+        var previousSession = Transactions.session.get();
+        Transactions.session.set(session);
+
+        try {
+            action.run();
+        } finally {
+            Transactions.session.set(previousSession);
+        }
+    }
+
+    public static String currentSession() {
+        return session.get().name();
+    }
+
+    /**
+     * Returns the transaction of the current session.
+     *
+     * @return the transaction, or nothing if the session has not begun one.
+     * @throws SessionBelongsToAnotherOwnerException if the transaction of the session belongs to someone else.
+     */
+    public static Optional<Transaction> current() {
+        var currentSession = session.get();
+
+        if (currentSession.isAnonymous()) {
+            return Optional.empty();
+        }
+
+        evictExpired();
+
+        return Optional.ofNullable(transactions.get(currentSession.name())).map(transaction -> ownedBy(currentSession, transaction));
+    }
+
+    /**
+     * Begins a transaction in the current session. Beginning it in an anonymous
+     * session issues a new session, named by {@link Transaction#getSession()}.
+     *
+     * @return the begun transaction.
+     * @throws TransactionAlreadyStartedException    if the session has already begun a transaction.
+     * @throws SessionBelongsToAnotherOwnerException if the session belongs to someone else.
+     */
+    public static Transaction begin() {
+        var currentSession = session.get();
+        var sessionName = currentSession.isAnonymous() ? Session.issueName() : currentSession.name();
+        var transaction = new Transaction(sessionName, currentSession.owner());
+
+        evictExpired();
+
+        var startedTransaction = transactions.putIfAbsent(sessionName, transaction);
+
+        if (startedTransaction != null) {
+            ownedBy(currentSession, startedTransaction);
+            throw new TransactionAlreadyStartedException(sessionName);
+        }
+
+        return transaction;
+    }
+
+    /**
+     * Ends the transaction of the current session without applying it.
+     * Use {@link Transaction#commit()} on the returned transaction to apply it.
+     *
+     * @return the ended transaction.
+     * @throws TransactionNotStartedException        if the session has no transaction.
+     * @throws SessionBelongsToAnotherOwnerException if the transaction of the session belongs to someone else.
+     */
+    public static Transaction end() {
+        var sessionName = currentSession();
+        var transaction = current().orElseThrow(() -> new TransactionNotStartedException(sessionName));
+
+        if (!transactions.remove(sessionName, transaction)) {
+            throw new TransactionNotStartedException(sessionName);
+        }
+
+        return transaction;
+    }
+
+    /**
+     * Returns how long a transaction can stay unused before it expires,
+     * set by the {@code transactionTimeout} option of the configuration.
+     *
+     * @return the timeout in milliseconds, or 0 if the transactions never expire.
+     */
+    public static long getTimeout() {
+        var configuration = Quark.configuration();
+
+        if (configuration == null) {
+            return Configuration.DEFAULT_TRANSACTION_TIMEOUT;
+        }
+
+        return configuration.getTransactionTimeout();
+    }
+
+    private static Transaction ownedBy(Session session, Transaction transaction) {
+        if (!session.isOwnedBy(transaction.getOwner())) {
+            throw new SessionBelongsToAnotherOwnerException(session.name());
+        }
+
+        transaction.touch();
+
+        return transaction;
+    }
+
+    private static void evictExpired() {
+        var timeout = getTimeout();
+
+        if (timeout > 0) {
+            transactions.values().removeIf(transaction -> transaction.isIdleFor(TimeUnit.MILLISECONDS.toNanos(timeout)));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Contains the transactions, which apply the changes of several
+ * instructions to the tables at once, or do not apply them at all.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.database.data.transactions;
@@ -0,0 +1,177 @@
+package ru.anafro.quark.server.database.data.transfer;
+
+import ru.anafro.quark.server.database.data.transfer.exceptions.MalformedTransferRowException;
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.utils.strings.TextBuffer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the CSV format as described in RFC 4180. The first row
+ * contains the column names. An empty unquoted cell stands for null,
+ * and an empty string is written as {@code ""}.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class CsvRecordFormat implements RecordFormat {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    @Override
+    public String getName() {
+        return "csv";
+    }
+
+    @Override
+    public List<String> readHeader(BufferedReader reader) throws IOException {
+        var row = readRow(reader);
+
+        if (row == null) {
+            return List.of();
+        }
+
+        return parseCells(row).stream().map(cell -> cell == null ? "" : cell.strip()).toList();
+    }
+
+    @Override
+    public String readRow(BufferedReader reader) throws IOException {
+        var line = reader.readLine();
+
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+
+        if (line == null) {
+            return null;
+        }
+
+        var row = new StringBuilder(line);
+
+        while (hasOpenQuote(row)) {
+            var nextLine = reader.readLine();
+
+            if (nextLine == null) {
+                throw new MalformedTransferRowException(row.toString(), "The quoted cell is not closed.");
+            }
+
+            row.append('\n').append(nextLine);
+        }
+
+        return row.toString();
+    }
+
+    @Override
+    public RowDecoder decoder(List<String> header, List<String> columns) {
+        var cellIndexes = columns.stream().mapToInt(header::indexOf).toArray();
+
+        return row -> {
+            var cells = parseCells(row);
+
+            if (cells.size() != header.size()) {
+                throw new MalformedTransferRowException(row, STR."Expected \{header.size()} cells, but there are \{cells.size()}.");
+            }
+
+            var values = new ArrayList<String>(cellIndexes.length);
+
+            for (var cellIndex : cellIndexes) {
+                values.add(cellIndex == -1 ? null : cells.get(cellIndex));
+            }
+
+            return values;
+        };
+    }
+
+    @Override
+    public String encodeHeader(List<String> columns) {
+        var buffer = new TextBuffer();
+
+        for (int index = 0; index < columns.size(); index++) {
+            if (index != 0) {
+                buffer.append(SEPARATOR);
+            }
+
+            buffer.append(quote(columns.get(index)));
+        }
+
+        return buffer.toString();
+    }
+
+    @Override
+    public String encodeRow(List<String> columns, List<Entity> values) {
+        var buffer = new TextBuffer();
+
+        for (int index = 0; index < values.size(); index++) {
+            if (index != 0) {
+                buffer.append(SEPARATOR);
+            }
+
+            var text = RecordFormat.textOf(values.get(index));
+
+            if (text != null) {
+                buffer.append(quote(text));
+            }
+        }
+
+        return buffer.toString();
+    }
+
+    private static String quote(String text) {
+        if (!text.isEmpty() && text.chars().noneMatch(character -> character == SEPARATOR || character == QUOTE || character == '\n' || character == '\r')) {
+            return text;
+        }
+
+        return STR."\{QUOTE}\{text.replace("\"", "\"\"")}\{QUOTE}";
+    }
+
+    private static boolean hasOpenQuote(CharSequence row) {
+        var quotes = 0;
+
+        for (int index = 0; index < row.length(); index++) {
+            if (row.charAt(index) == QUOTE) {
+                quotes++;
+            }
+        }
+
+        return quotes % 2 != 0;
+    }
+
+    private static List<String> parseCells(String row) {
+        var cells = new ArrayList<String>();
+        var cell = new StringBuilder();
+        var quoted = false;
+        var insideQuotes = false;
+
+        for (int index = 0; index < row.length(); index++) {
+            var character = row.charAt(index);
+
+            if (insideQuotes) {
+                if (character != QUOTE) {
+                    cell.append(character);
+                } else if (index + 1 < row.length() && row.charAt(index + 1) == QUOTE) {
+                    cell.append(QUOTE);
+                    index++;
+                } else {
+                    insideQuotes = false;
+                }
+            } else if (character == QUOTE) {
+                quoted = true;
+                insideQuotes = true;
+            } else if (character == SEPARATOR) {
+                cells.add(quoted || !cell.isEmpty() ? cell.toString() : null);
+                cell.setLength(0);
+                quoted = false;
+            } else {
+                cell.append(character);
+            }
+        }
+
+        cells.add(quoted || !cell.isEmpty() ? cell.toString() : null);
+
+        return cells;
+    }
+}
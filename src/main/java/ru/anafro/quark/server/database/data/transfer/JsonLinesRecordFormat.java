@@ -0,0 +1,97 @@
+package ru.anafro.quark.server.database.data.transfer;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import ru.anafro.quark.server.database.data.transfer.exceptions.MalformedTransferRowException;
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.utils.strings.TextBuffer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the JSON Lines format: each line is a JSON object
+ * with the column names as keys. Numbers and booleans are written
+ * as JSON numbers and booleans, and other values as strings.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class JsonLinesRecordFormat implements RecordFormat {
+
+    @Override
+    public String getName() {
+        return "jsonl";
+    }
+
+    @Override
+    public List<String> readHeader(BufferedReader reader) {
+        return null;
+    }
+
+    @Override
+    public String readRow(BufferedReader reader) throws IOException {
+        var line = reader.readLine();
+
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+
+        return line;
+    }
+
+    @Override
+    public RowDecoder decoder(List<String> header, List<String> columns) {
+        return row -> {
+            try {
+                var object = new JSONObject(row);
+                var values = new ArrayList<String>(columns.size());
+
+                for (var column : columns) {
+                    var value = object.opt(column);
+                    values.add(value == null || JSONObject.NULL.equals(value) ? null : value.toString());
+                }
+
+                return values;
+            } catch (JSONException exception) {
+                throw new MalformedTransferRowException(row, exception.getMessage());
+            }
+        };
+    }
+
+    @Override
+    public String encodeHeader(List<String> columns) {
+        return null;
+    }
+
+    @Override
+    public String encodeRow(List<String> columns, List<Entity> values) {
+        var buffer = new TextBuffer();
+        buffer.append('{');
+
+        for (int index = 0; index < values.size(); index++) {
+            if (index != 0) {
+                buffer.append(',');
+            }
+
+            var value = values.get(index);
+            var text = RecordFormat.textOf(value);
+
+            buffer.append(JSONObject.quote(columns.get(index))).append(':');
+
+            if (text == null) {
+                buffer.append("null");
+            } else if (value.getValue() instanceof Number || value.getValue() instanceof Boolean) {
+                buffer.append(text);
+            } else {
+                buffer.append(JSONObject.quote(text));
+            }
+        }
+
+        buffer.append('}');
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package ru.anafro.quark.server.database.data.transfer;
+
+import ru.anafro.quark.server.database.data.transfer.exceptions.RecordFormatNotFoundException;
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.language.entities.NullEntity;
+import ru.anafro.quark.server.language.entities.StringEntity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Represents a text format the records are imported from and exported to.
+ * <br><br>
+ * <p>
+ * Reading rows must be sequential, because a row may span several lines, but
+ * decoding and encoding rows does not depend on the other rows, so importers
+ * and exporters may decode and encode many rows in parallel.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public interface RecordFormat {
+    static RecordFormat byName(String formatName) {
+        return switch (formatName.toLowerCase(Locale.ROOT)) {
+            case "csv" -> new CsvRecordFormat();
+            case "jsonl", "json lines", "ndjson" -> new JsonLinesRecordFormat();
+            default -> throw new RecordFormatNotFoundException(formatName);
+        };
+    }
+
+    static RecordFormat byFilename(String filename) {
+        var dotIndex = filename.lastIndexOf('.');
+        return byName(dotIndex == -1 ? filename : filename.substring(dotIndex + 1));
+    }
+
+    String getName();
+
+    /**
+     * Reads the column names the rows are described with,
+     * if the format stores them once before the rows.
+     *
+     * @param reader the reader of the file.
+     * @return the column names, or {@code null} if the rows name their values by their own.
+     */
+    List<String> readHeader(BufferedReader reader) throws IOException;
+
+    /**
+     * Reads the next row without decoding it.
+     *
+     * @param reader the reader of the file.
+     * @return the row, or {@code null} if there are no rows left.
+     */
+    String readRow(BufferedReader reader) throws IOException;
+
+    /**
+     * Creates a decoder of the rows. A decoder must be safe to use
+     * from several threads at once.
+     *
+     * @param header  the column names read by {@link #readHeader(BufferedReader)}.
+     * @param columns the names of the columns to decode.
+     * @return the decoder.
+     */
+    RowDecoder decoder(List<String> header, List<String> columns);
+
+    /**
+     * Encodes the column names the rows are described with.
+     *
+     * @param columns the column names.
+     * @return the encoded header line, or {@code null} if the format doesn't have a header.
+     */
+    String encodeHeader(List<String> columns);
+
+    String encodeRow(List<String> columns, List<Entity> values);
+
+    /**
+     * Returns the textual form of a value, the one that the type of
+     * the value accepts in {@link ru.anafro.quark.server.language.types.EntityType#makeEntity(String)}.
+     *
+     * @param value the value.
+     * @return the textual form, or {@code null} for null.
+     */
+    static String textOf(Entity value) {
+        return switch (value) {
+            case NullEntity _ -> null;
+            case StringEntity string -> string.getValue();
+            default -> value.toRecordForm();
+        };
+    }
+
+    @FunctionalInterface
+    interface RowDecoder {
+
+        /**
+         * Decodes the values of a row.
+         *
+         * @param row the row.
+         * @return the values in the textual form returned by {@link #textOf(Entity)},
+         * in the order of the columns.
+         */
+        List<String> decode(String row);
+    }
+}
@@ -0,0 +1,77 @@
+package ru.anafro.quark.server.database.data.transfer;
+
+import ru.anafro.quark.server.database.data.RecordField;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.transfer.exceptions.TransferFileException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Exports the records of a table to a file.
+ * <br><br>
+ * <p>
+ * The records file is read in chunks of {@link #CHUNK_SIZE} records, so the
+ * memory used does not depend on the size of the table. The records of a chunk
+ * are encoded in parallel and written in the table order.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class TableExporter {
+    public static final int CHUNK_SIZE = 4096;
+    private final Table table;
+    private final Path path;
+    private final RecordFormat format;
+
+    public TableExporter(Table table, Path path, RecordFormat format) {
+        this.table = table;
+        this.path = path;
+        this.format = format;
+    }
+
+    /**
+     * Exports the records. The file is overwritten if it exists.
+     *
+     * @param progress called with the number of the records exported so far after each chunk.
+     * @return the number of the exported records.
+     */
+    public long exportRecords(LongConsumer progress) {
+        var columns = table.getColumnOrder();
+        var exportedRecords = new AtomicLong();
+
+        try (var writer = Files.newBufferedWriter(path)) {
+            var header = format.encodeHeader(columns);
+
+            if (header != null) {
+                writer.write(header);
+                writer.newLine();
+            }
+
+            table.getRecords().forEachChunk(CHUNK_SIZE, records -> {
+                var rows = records.parallelStream()
+                        .map(record -> format.encodeRow(columns, record.getFields().stream().map(RecordField::getEntity).toList()))
+                        .toList();
+
+                try {
+                    for (var row : rows) {
+                        writer.write(row);
+                        writer.newLine();
+                    }
+                } catch (IOException exception) {
+                    throw new TransferFileException(path, exception);
+                }
+
+                progress.accept(exportedRecords.addAndGet(rows.size()));
+            });
+        } catch (IOException exception) {
+            throw new TransferFileException(path, exception);
+        }
+
+        return exportedRecords.get();
+    }
+}
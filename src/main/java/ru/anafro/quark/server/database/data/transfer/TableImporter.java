@@ -0,0 +1,116 @@
+package ru.anafro.quark.server.database.data.transfer;
+
+import ru.anafro.quark.server.database.data.ColumnDescription;
+import ru.anafro.quark.server.database.data.RecordField;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.database.data.transfer.exceptions.MalformedTransferRowException;
+import ru.anafro.quark.server.database.data.transfer.exceptions.TransferFileException;
+import ru.anafro.quark.server.language.entities.NullEntity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Imports records from a file to a table.
+ * <br><br>
+ * <p>
+ * The file is read in chunks of {@link #CHUNK_SIZE} rows, so the memory used
+ * does not depend on the size of the file. The rows of a chunk are decoded in
+ * parallel and then inserted with {@link Table#insertAll(List)}, which validates
+ * them against the table header and the column modifiers. If a chunk is invalid,
+ * the import stops, and the chunks inserted before it stay in the table.
+ * <br><br>
+ * <p>
+ * Generated columns are generated again, even if the file contains them.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class TableImporter {
+    public static final int CHUNK_SIZE = 4096;
+    private final Table table;
+    private final Path path;
+    private final RecordFormat format;
+
+    public TableImporter(Table table, Path path, RecordFormat format) {
+        this.table = table;
+        this.path = path;
+        this.format = format;
+    }
+
+    /**
+     * Imports the records.
+     *
+     * @param progress called with the number of the records imported so far after each chunk.
+     * @return the number of the imported records.
+     */
+    public long importRecords(LongConsumer progress) {
+        var columns = table.getHeader().getPipeline().getInsertedColumns();
+        var columnNames = columns.stream().map(ColumnDescription::name).toList();
+        var importedRecords = 0L;
+
+        try (var reader = Files.newBufferedReader(path)) {
+            var header = format.readHeader(reader);
+
+            if (header != null && !header.isEmpty()) {
+                for (var columnName : columnNames) {
+                    if (!header.contains(columnName)) {
+                        throw new MalformedTransferRowException(String.join(",", header), STR."The column '\{columnName}' is missing.");
+                    }
+                }
+            }
+
+            var decoder = format.decoder(header, columnNames);
+            var rows = new ArrayList<String>(CHUNK_SIZE);
+            String row;
+
+            while ((row = format.readRow(reader)) != null) {
+                rows.add(row);
+
+                if (rows.size() == CHUNK_SIZE) {
+                    importedRecords += insertChunk(rows, decoder, columns);
+                    rows.clear();
+                    progress.accept(importedRecords);
+                }
+            }
+
+            if (!rows.isEmpty()) {
+                importedRecords += insertChunk(rows, decoder, columns);
+                progress.accept(importedRecords);
+            }
+        } catch (IOException exception) {
+            throw new TransferFileException(path, exception);
+        }
+
+        return importedRecords;
+    }
+
+    private int insertChunk(List<String> rows, RecordFormat.RowDecoder decoder, List<ColumnDescription> columns) {
+        var records = rows.parallelStream()
+                .map(row -> toRecord(decoder.decode(row), columns))
+                .toList();
+
+        table.insertAll(records);
+
+        return records.size();
+    }
+
+    private static TableRecord toRecord(List<String> values, List<ColumnDescription> columns) {
+        var fields = new ArrayList<RecordField>(columns.size());
+
+        for (int index = 0; index < columns.size(); index++) {
+            var column = columns.get(index);
+            var value = values.get(index);
+
+            fields.add(new RecordField(column.name(), value == null ? NullEntity.of(column.getTypeName()) : column.type().makeEntity(value)));
+        }
+
+        return new TableRecord(fields);
+    }
+}
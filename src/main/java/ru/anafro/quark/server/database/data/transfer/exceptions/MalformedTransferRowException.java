@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.transfer.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class MalformedTransferRowException extends DatabaseException {
+    public MalformedTransferRowException(String row, String reason) {
+        super(STR."The row '\{row}' cannot be imported. \{reason}");
+    }
+}
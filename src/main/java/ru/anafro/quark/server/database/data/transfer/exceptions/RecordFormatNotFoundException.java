@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.transfer.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class RecordFormatNotFoundException extends DatabaseException {
+    public RecordFormatNotFoundException(String formatName) {
+        super(STR."There is no record format '\{formatName}'. Use 'csv' or 'jsonl'.");
+    }
+}
@@ -0,0 +1,12 @@
+package ru.anafro.quark.server.database.data.transfer.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+import java.nio.file.Path;
+
+public class TransferFileException extends DatabaseException {
+    public TransferFileException(Path path, Throwable causedBy) {
+        super(STR."Transferring records through the file \{path} is failed, because of \{causedBy.getClass().getSimpleName()}: \{causedBy.getMessage()}");
+        initCause(causedBy);
+    }
+}
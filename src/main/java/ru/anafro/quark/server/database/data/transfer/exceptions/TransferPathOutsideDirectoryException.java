@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.database.data.transfer.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class TransferPathOutsideDirectoryException extends DatabaseException {
+    public TransferPathOutsideDirectoryException(String path) {
+        super(STR."The path '\{path}' leads outside the Transfers folder. Use a path relative to it.");
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Contains all the exceptions can happen on importing
+ * and exporting records.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.database.data.transfer.exceptions;
@@ -0,0 +1,10 @@
+/**
+ * Contains the classes importing records to tables from
+ * files and exporting them to files in common formats,
+ * like CSV and JSON Lines.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.database.data.transfer;
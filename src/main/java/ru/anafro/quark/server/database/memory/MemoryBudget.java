@@ -0,0 +1,104 @@
+package ru.anafro.quark.server.database.memory;
+
+import ru.anafro.quark.server.language.queries.RunningQueries;
+import ru.anafro.quark.server.language.queries.RunningQuery;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the memory a query can hold in its results.
+ * <br><br>
+ * <p>
+ * The collections buffering the results of a query, like the selected records
+ * and the rows of a table view, reserve the estimated sizes of their elements
+ * before keeping them in memory. When the budget is exceeded, they keep
+ * the following elements in temporary files instead of failing.
+ * The sizes are estimated, so the budget is approximate.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see SpillableList
+ * @since Quark 3.0
+ */
+public final class MemoryBudget {
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
+    private static final MemoryBudget UNLIMITED = new MemoryBudget(0);
+    private final long limit;
+    private final AtomicLong reserved = new AtomicLong();
+
+    private MemoryBudget(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param limit the number of bytes which can be reserved, or 0 if the budget is unlimited.
+     * @return the budget.
+     */
+    public static MemoryBudget bytes(long limit) {
+        return limit > 0 ? new MemoryBudget(limit) : UNLIMITED;
+    }
+
+    public static MemoryBudget megabytes(long limit) {
+        return bytes(limit * BYTES_IN_MEGABYTE);
+    }
+
+    public static MemoryBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Returns the budget of the query run by the current thread,
+     * or an unlimited one outside the queries.
+     *
+     * @return the budget.
+     */
+    public static MemoryBudget current() {
+        return RunningQueries.current().map(RunningQuery::getMemoryBudget).orElse(UNLIMITED);
+    }
+
+    /**
+     * Reserves memory, if the budget has enough of it left.
+     *
+     * @param bytes the number of bytes to reserve.
+     * @return whether the memory is reserved.
+     */
+    public boolean tryReserve(long bytes) {
+        if (isUnlimited()) {
+            return true;
+        }
+
+        while (true) {
+            var reservedBytes = reserved.get();
+
+            if (reservedBytes + bytes > limit) {
+                return false;
+            }
+
+            if (reserved.compareAndSet(reservedBytes, reservedBytes + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long bytes) {
+        if (isUnlimited()) {
+            return;
+        }
+
+        reserved.addAndGet(-bytes);
+    }
+
+    public boolean isUnlimited() {
+        return limit == 0;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    public long getReservedBytes() {
+        return reserved.get();
+    }
+}
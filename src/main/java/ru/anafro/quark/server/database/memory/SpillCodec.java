@@ -0,0 +1,30 @@
+package ru.anafro.quark.server.database.memory;
+
+/**
+ * Writes the elements of a {@link SpillableList} to the lines of its temporary file
+ * and reads them back.
+ *
+ * @param <T> the type of the elements.
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public interface SpillCodec<T> {
+    /**
+     * Writes an element to a line.
+     *
+     * @param element the element.
+     * @return the line without line breaks.
+     */
+    String encode(T element);
+
+    T decode(String line);
+
+    /**
+     * Estimates how many bytes of memory an element takes.
+     *
+     * @param element the element.
+     * @return the estimated size.
+     */
+    long estimateSize(T element);
+}
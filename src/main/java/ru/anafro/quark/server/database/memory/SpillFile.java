@@ -0,0 +1,120 @@
+package ru.anafro.quark.server.database.memory;
+
+import ru.anafro.quark.server.database.memory.exceptions.SpillFailedException;
+import ru.anafro.quark.server.files.TemporaryDirectory;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * A temporary file keeping the lines spilled by a {@link SpillableList}.
+ * Any line can be read back by its index.
+ * <br><br>
+ * <p>
+ * The file is deleted once the list spilling to it is no longer reachable,
+ * so the results of a query can be read after the query has finished.
+ */
+final class SpillFile {
+    private static final Cleaner cleaner = Cleaner.create();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long[] offsets = new long[1024];
+    private int lineCount = 0;
+    private long length = 0;
+
+    private SpillFile(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    static SpillFile create(Object owner) {
+        try {
+            var path = TemporaryDirectory.getInstance().createTemporaryFile("spill-");
+            var file = new SpillFile(FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE));
+
+            cleaner.register(owner, new Closer(file.channel));
+
+            return file;
+        } catch (IOException exception) {
+            throw new SpillFailedException(exception);
+        }
+    }
+
+    synchronized void append(String line) {
+        var bytes = line.getBytes(StandardCharsets.UTF_8);
+
+        if (lineCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        offsets[lineCount++] = length;
+        length += bytes.length;
+
+        try {
+            if (bytes.length > buffer.remaining()) {
+                flush();
+            }
+
+            if (bytes.length > buffer.capacity()) {
+                write(ByteBuffer.wrap(bytes));
+            } else {
+                buffer.put(bytes);
+            }
+        } catch (IOException exception) {
+            throw new SpillFailedException(exception);
+        }
+    }
+
+    synchronized String read(int index) {
+        var from = offsets[index];
+        var to = index + 1 < lineCount ? offsets[index + 1] : length;
+        var bytes = ByteBuffer.allocate(Math.toIntExact(to - from));
+
+        try {
+            flush();
+
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, from + bytes.position()) < 0) {
+                    throw new IOException("The temporary file is shorter than the lines written to it.");
+                }
+            }
+        } catch (IOException exception) {
+            throw new SpillFailedException(exception);
+        }
+
+        return new String(bytes.array(), StandardCharsets.UTF_8);
+    }
+
+    synchronized int getLineCount() {
+        return lineCount;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes, channel.size());
+        }
+    }
+
+    private record Closer(FileChannel channel) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                channel.close();
+            } catch (IOException _) {
+                // The file is deleted on the next startup.
+            }
+        }
+    }
+}
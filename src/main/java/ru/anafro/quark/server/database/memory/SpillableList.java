@@ -0,0 +1,82 @@
+package ru.anafro.quark.server.database.memory;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * A list buffering the results of a query, which keeps its elements in memory
+ * while the memory budget of the query allows it, and writes the following ones
+ * to a temporary file under the {@code Temporary} folder.
+ * <br><br>
+ * <p>
+ * Elements can only be appended. The spilled elements are read back from the file
+ * when they are accessed, so a big result costs disk reads instead of an
+ * {@link OutOfMemoryError} taking down the whole server. The reserved memory
+ * is held until the query ends.
+ *
+ * @param <T> the type of the elements.
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see MemoryBudget
+ * @since Quark 3.0
+ */
+public final class SpillableList<T> extends AbstractList<T> {
+    private final SpillCodec<T> codec;
+    private final MemoryBudget budget;
+    private final ArrayList<T> elements = new ArrayList<>();
+    private SpillFile file = null;
+
+    /**
+     * Creates a list limited by the memory budget of the query run by the current thread.
+     *
+     * @param codec the codec of the spilled elements.
+     */
+    public SpillableList(SpillCodec<T> codec) {
+        this(codec, MemoryBudget.current());
+    }
+
+    public SpillableList(SpillCodec<T> codec, MemoryBudget budget) {
+        this.codec = codec;
+        this.budget = budget;
+    }
+
+    @Override
+    public boolean add(T element) {
+        if (file == null) {
+            if (budget.tryReserve(codec.estimateSize(element))) {
+                elements.add(element);
+                modCount++;
+
+                return true;
+            }
+
+            file = SpillFile.create(this);
+        }
+
+        file.append(codec.encode(element));
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+
+        if (index < elements.size()) {
+            return elements.get(index);
+        }
+
+        return codec.decode(file.read(index - elements.size()));
+    }
+
+    @Override
+    public int size() {
+        return elements.size() + (file == null ? 0 : file.getLineCount());
+    }
+
+    public boolean isSpilled() {
+        return file != null;
+    }
+}
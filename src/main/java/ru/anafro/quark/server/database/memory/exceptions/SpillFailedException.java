@@ -0,0 +1,11 @@
+package ru.anafro.quark.server.database.memory.exceptions;
+
+import ru.anafro.quark.server.database.data.exceptions.DatabaseFileException;
+
+public class SpillFailedException extends DatabaseFileException {
+    public SpillFailedException(Throwable causedBy) {
+        super(STR."Spilling the query results to a temporary file is failed, because of \{causedBy.getClass().getSimpleName()}: \{causedBy.getMessage()}");
+
+        initCause(causedBy);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Contains the memory budgets of the queries and the collections
+ * spilling their elements to temporary files when a budget is exceeded.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.database.memory;
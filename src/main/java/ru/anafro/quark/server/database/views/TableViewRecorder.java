@@ -1,12 +1,16 @@
 package ru.anafro.quark.server.database.views;
 
-import ru.anafro.quark.server.utils.collections.Lists;
-
-import java.util.ArrayList;
+import ru.anafro.quark.server.database.memory.SpillableList;
 
+/**
+ * Collects the rows of a table view. The rows exceeding the memory budget
+ * of the query are spilled to a temporary file.
+ *
+ * @see SpillableList
+ */
 public class TableViewRecorder {
     private final TableViewHeader header;
-    private final ArrayList<TableViewRow> rows = Lists.empty();
+    private final SpillableList<TableViewRow> rows = new SpillableList<>(new TableViewRowCodec());
 
     public TableViewRecorder(TableViewHeader header) {
         this.header = header;
@@ -0,0 +1,38 @@
+package ru.anafro.quark.server.database.views;
+
+import org.json.JSONArray;
+import ru.anafro.quark.server.database.memory.SpillCodec;
+
+/**
+ * Writes the rows of a table view spilled to the disk as JSON arrays of their cells.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see TableViewRecorder
+ * @since Quark 3.0
+ */
+final class TableViewRowCodec implements SpillCodec<TableViewRow> {
+    private static final long ROW_OVERHEAD = 32;
+    private static final long CELL_OVERHEAD = 48;
+
+    @Override
+    public String encode(TableViewRow row) {
+        return new JSONArray(row.cells()).toString();
+    }
+
+    @Override
+    public TableViewRow decode(String line) {
+        return new TableViewRow(new JSONArray(line).toList().toArray());
+    }
+
+    @Override
+    public long estimateSize(TableViewRow row) {
+        var size = ROW_OVERHEAD;
+
+        for (var cell : row.cells()) {
+            size += CELL_OVERHEAD + 2L * cell.length();
+        }
+
+        return size;
+    }
+}
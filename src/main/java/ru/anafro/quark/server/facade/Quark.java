@@ -7,11 +7,14 @@ import ru.anafro.quark.server.console.exceptions.CommandSyntaxException;
 import ru.anafro.quark.server.database.data.ColumnModifier;
 import ru.anafro.quark.server.database.data.ColumnModifierList;
 import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.files.TableMigrationService;
+import ru.anafro.quark.server.database.data.files.VacuumService;
 import ru.anafro.quark.server.database.data.modifiers.*;
 import ru.anafro.quark.server.database.data.schemes.ScheduledCommandsTableScheme;
 import ru.anafro.quark.server.database.data.schemes.ScheduledQueriesTableScheme;
 import ru.anafro.quark.server.database.data.schemes.TableSchemeList;
 import ru.anafro.quark.server.database.data.schemes.TokensTableScheme;
+import ru.anafro.quark.server.database.data.transactions.Transactions;
 import ru.anafro.quark.server.database.exceptions.DatabaseException;
 import ru.anafro.quark.server.database.exceptions.QuerySyntaxException;
 import ru.anafro.quark.server.database.views.TableView;
@@ -21,12 +24,14 @@ import ru.anafro.quark.server.development.HotReloadService;
 import ru.anafro.quark.server.documentation.DocumentationGenerator;
 import ru.anafro.quark.server.exceptions.QuarkException;
 import ru.anafro.quark.server.exceptions.QuarkExceptionHandler;
+import ru.anafro.quark.server.files.TemporaryDirectory;
+import ru.anafro.quark.server.language.CompiledQuery;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionList;
 import ru.anafro.quark.server.language.InstructionResult;
+import ru.anafro.quark.server.language.Query;
 import ru.anafro.quark.server.language.constructors.*;
 import ru.anafro.quark.server.language.constructors.columns.*;
-import ru.anafro.quark.server.language.constructors.mapping.types.Conditions;
 import ru.anafro.quark.server.language.constructors.mapping.types.Dates;
 import ru.anafro.quark.server.language.constructors.modifiers.*;
 import ru.anafro.quark.server.language.entities.Entity;
@@ -44,6 +49,8 @@ import ru.anafro.quark.server.networking.Server;
 import ru.anafro.quark.server.plugins.Plugin;
 import ru.anafro.quark.server.plugins.PluginManager;
 import ru.anafro.quark.server.plugins.events.Event;
+import ru.anafro.quark.server.scheduling.CommandRepeater;
+import ru.anafro.quark.server.scheduling.Scheduler;
 import ru.anafro.quark.server.scheduling.ServiceLoader;
 import ru.anafro.quark.server.security.Token;
 import ru.anafro.quark.server.security.TokenPermission;
@@ -63,6 +70,9 @@ import ru.anafro.quark.server.utils.runtime.ExitCodes;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import static ru.anafro.quark.server.database.data.Table.systemTable;
 import static ru.anafro.quark.server.utils.collections.Collections.list;
@@ -158,6 +168,13 @@ public final class Quark {
      * @since Quark 1.1
      */
     private static final ServiceLoader serviceLoader = new ServiceLoader();
+    /**
+     * Runs the background services, the scheduled queries
+     * and the scheduled commands.
+     *
+     * @since Quark 3.0
+     */
+    private static final Scheduler scheduler = new Scheduler();
     /**
      * Contains all the default table schemes of Quark.
      *
@@ -186,6 +203,12 @@ public final class Quark {
      * @since Quark 1.1
      */
     private static boolean isRun = false;
+    /**
+     * Runs the queries started with {@link Quark#queryAsync(String)}.
+     *
+     * @since Quark 3.0
+     */
+    private static volatile Executor queryExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     static {
         initialize();
@@ -219,10 +242,12 @@ public final class Quark {
         initializeDebuggers();
         initializeHashingFunctions();
         initializeServer();
+        recoverTransactions();
         initializeSchemes();
         repairDirectories();
         initializeServices();
         generateDocumentation();
+        freezeRegistries();
     }
 
     /**
@@ -274,6 +299,16 @@ public final class Quark {
         DocumentationGenerator.generate();
     }
 
+    private static void freezeRegistries() {
+        types.freeze();
+        modifiers.freeze();
+        constructors.freeze();
+        instructions.freeze();
+        commands.freeze();
+        hashingFunctions.forIntegers().freeze();
+        hashingFunctions.forStrings().freeze();
+    }
+
     private static void initializeDefaultExceptionHandler() {
         Thread.setDefaultUncaughtExceptionHandler(new QuarkExceptionHandler());
     }
@@ -283,9 +318,10 @@ public final class Quark {
     }
 
     private static void initializeServices() {
-        serviceManager = new ServiceManager(server, commandLoop, Application.getJarFile().makeModificationWatcherService(new HotReloadService()));
         serviceLoader.load();
-        serviceManager.addAll(serviceLoader);
+        scheduler.scheduleAll(new TableMigrationService(), new VacuumService());
+        scheduler.scheduleAll(serviceLoader);
+        serviceManager = new ServiceManager(server, commandLoop, Application.getJarFile().makeModificationWatcherService(new HotReloadService()), scheduler);
     }
 
     private static void initializeServer() {
@@ -351,7 +387,6 @@ public final class Quark {
     private static void initializeEntityConstructors() {
         constructors.supplement(
                 Math.class,
-                Conditions.class,
                 Integers.class,
                 Dates.class
         );
@@ -365,6 +400,7 @@ public final class Quark {
                 new ConcatConstructor(),
                 new SelectorConstructor(),
                 new AndConstructor(),
+                new IfConstructor(),
                 new CapitalizeConstructor(),
                 new InvertCaseConstructor(),
                 new CountConstructor(),
@@ -501,9 +537,12 @@ public final class Quark {
                 new DeleteFromInstruction(),
                 new DeleteTableInstruction(),
                 new EvalInstruction(),
+                new ExportFromInstruction(),
                 new FactoryResetInstruction(),
                 new GrantTokenInstruction(),
+                new ImportIntoInstruction(),
                 new InsertIntoInstruction(),
+                new InsertManyIntoInstruction(),
                 new ListColumnsInstruction(),
                 new ListDatabasesInstruction(),
                 new ListTablesInstruction(),
@@ -530,6 +569,7 @@ public final class Quark {
                 new ListPluginsInstruction(),
                 new FindInInstruction(),
                 new CountInInstruction(),
+                new GetDeadSpaceInInstruction(),
                 new DescribeModifiersOfInstruction(),
                 new ClearScheduledCommandsInstruction(),
                 new ClearScheduledQueriesInstruction(),
@@ -539,7 +579,12 @@ public final class Quark {
                 new DeleteVariableInInstruction(),
                 new ExcludeFromInstruction(),
                 new GetVersionInstruction(),
-                new VarInstruction()
+                new VarInstruction(),
+                new BeginInstruction(),
+                new CommitInstruction(),
+                new RollbackInstruction(),
+                new CancelQueryInstruction(),
+                new ListRunningQueriesInstruction()
         );
     }
 
@@ -604,6 +649,10 @@ public final class Quark {
         );
     }
 
+    private static void recoverTransactions() {
+        Transactions.recover();
+    }
+
     private static void initializeSchemes() {
         schemes.add(
                 new TokensTableScheme(),
@@ -624,6 +673,7 @@ public final class Quark {
 
     private static void loadPlugins() {
         pluginManager.load();
+        pluginManager.freeze();
     }
 
     private static void enablePlugins() {
@@ -795,13 +845,50 @@ public final class Quark {
      * @since Quark 1.1
      */
     public static InstructionResult query(String query) {
-        var lexer = server.getLexer();
-        var parser = server.getParser();
-        var tokens = lexer.lex(query);
-        var instruction = parser.parse(tokens);
-        var arguments = parser.getArguments();
+        return Query.make(query).execute();
+    }
 
-        return instruction.execute(arguments);
+    /**
+     * Runs a single instruction written in Quark QL without waiting for it.
+     * The instruction runs on the query executor, which starts a virtual thread
+     * for each query unless another one is set with {@link Quark#setQueryExecutor(Executor)}.
+     * <br><br>
+     * <p>
+     * The instruction runs outside the transaction of the calling thread.
+     *
+     * @param query a single instruction that should be executed.
+     * @return the future completed with the result of instruction execution.
+     * @see Quark#query(String)
+     * @since Quark 3.0
+     */
+    public static CompletableFuture<InstructionResult> queryAsync(String query) {
+        return CompletableFuture.supplyAsync(() -> query(query), queryExecutor);
+    }
+
+    /**
+     * Runs several independent instructions written in Quark QL at the same time.
+     *
+     * @param queries the instructions that should be executed.
+     * @return the future completed with the results of instruction execution
+     * in the order of the instructions, when all of them are executed.
+     * @see Quark#queryAsync(String)
+     * @since Quark 3.0
+     */
+    public static CompletableFuture<List<InstructionResult>> queryAllAsync(List<String> queries) {
+        var results = queries.stream().map(Quark::queryAsync).toList();
+
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(_ -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Sets the executor running the queries started with {@link Quark#queryAsync(String)}.
+     *
+     * @param executor the query executor.
+     * @since Quark 3.0
+     */
+    public static void setQueryExecutor(Executor executor) {
+        queryExecutor = executor;
     }
 
     /**
@@ -1092,8 +1179,8 @@ public final class Quark {
      * @author Anatoly Frolov <contact@anafro.ru>
      * @since Quark 2.0
      */
-    public static ServiceLoader scheduler() {
-        return serviceLoader;
+    public static Scheduler scheduler() {
+        return scheduler;
     }
 
     public static HashMap<String, Entity> variables() {
@@ -1101,7 +1188,7 @@ public final class Quark {
     }
 
     public static Entity variable(String name) {
-        return variables.getOrDefault(name, new NullEntity());
+        return variables.getOrDefault(name, NullEntity.any());
     }
 
     /**
@@ -1154,6 +1241,7 @@ public final class Quark {
     }
 
     public static void repairDirectories() {
+        TemporaryDirectory.getInstance().delete();
         FileSystem.createDirectoriesIfMissing(
                 "Plugins",
                 "Databases",
@@ -1161,7 +1249,10 @@ public final class Quark {
                 "Commands",
                 "Trash",
                 "Scripts",
-                "Assets"
+                "Assets",
+                "Temporary",
+                "Transfers",
+                "Transactions"
         );
     }
 
@@ -1229,11 +1320,29 @@ public final class Quark {
         configuration.save();
     }
 
+    /**
+     * Schedules a command to run with a period. The command is parsed
+     * right away, so a malformed one is reported here and never scheduled.
+     *
+     * @param command the command.
+     * @param period  the period in milliseconds.
+     * @since Quark 1.1
+     */
     public static void scheduleCommand(String command, long period) {
+        CommandRepeater.parse(command);
         systemTable("Scheduled Commands").insert(command, period);
     }
 
+    /**
+     * Schedules a query to run with a period. The query is parsed
+     * right away, so a malformed one is reported here and never scheduled.
+     *
+     * @param query  the query.
+     * @param period the period in milliseconds.
+     * @since Quark 1.1
+     */
     public static void scheduleQuery(String query, long period) {
+        CompiledQuery.compile(query);
         systemTable("Scheduled Queries").insert(query, period);
     }
 
@@ -0,0 +1,35 @@
+package ru.anafro.quark.server.files;
+
+import ru.anafro.quark.server.utils.files.Directory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Represents the folder of the temporary files of Quark,
+ * like the query results spilled to the disk.
+ * <br><br>
+ * <p>
+ * The temporary files are deleted when they are no longer used,
+ * and the ones left by a crashed server are deleted on startup.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class TemporaryDirectory extends Directory {
+    private static final TemporaryDirectory instance = new TemporaryDirectory();
+
+    public TemporaryDirectory() {
+        super("Temporary");
+    }
+
+    public static TemporaryDirectory getInstance() {
+        return instance;
+    }
+
+    public Path createTemporaryFile(String prefix) throws IOException {
+        return Files.createTempFile(Files.createDirectories(getPath()), prefix, ".tmp");
+    }
+}
@@ -0,0 +1,27 @@
+package ru.anafro.quark.server.files;
+
+import ru.anafro.quark.server.utils.files.Directory;
+
+/**
+ * Represents the folder of the manifests of the transactions being committed.
+ * <br><br>
+ * <p>
+ * A manifest stays in the folder only while its transaction is written
+ * to the tables, and the manifests left by a crashed server are finished
+ * on startup.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class TransactionsDirectory extends Directory {
+    private static final TransactionsDirectory instance = new TransactionsDirectory();
+
+    public TransactionsDirectory() {
+        super("Transactions");
+    }
+
+    public static TransactionsDirectory getInstance() {
+        return instance;
+    }
+}
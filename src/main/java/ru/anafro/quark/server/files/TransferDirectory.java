@@ -0,0 +1,67 @@
+package ru.anafro.quark.server.files;
+
+import ru.anafro.quark.server.database.data.transfer.exceptions.TransferFileException;
+import ru.anafro.quark.server.database.data.transfer.exceptions.TransferPathOutsideDirectoryException;
+import ru.anafro.quark.server.utils.files.Directory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Represents the folder of the files records are imported from and exported to.
+ * <br><br>
+ * <p>
+ * The paths of {@code import into} and {@code export from} are resolved against
+ * this folder, so a token allowed to transfer records can neither read nor overwrite
+ * any other file of the server, like the configuration or the tokens.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class TransferDirectory extends Directory {
+    private static final TransferDirectory instance = new TransferDirectory();
+
+    public TransferDirectory() {
+        super("Transfers");
+    }
+
+    public static TransferDirectory getInstance() {
+        return instance;
+    }
+
+    /**
+     * Resolves a path of a transfer file against this folder.
+     *
+     * @param path the path relative to this folder.
+     * @return the absolute path of the file.
+     * @throws TransferPathOutsideDirectoryException if the path is absolute, or leads outside this folder.
+     */
+    public Path resolve(String path) {
+        var relativePath = Path.of(path);
+        var directoryPath = getPath().toAbsolutePath().normalize();
+        var resolvedPath = directoryPath.resolve(relativePath).normalize();
+
+        if (relativePath.isAbsolute() || !resolvedPath.startsWith(directoryPath) || resolvedPath.equals(directoryPath)) {
+            throw new TransferPathOutsideDirectoryException(path);
+        }
+
+        try {
+            var realDirectoryPath = Files.createDirectories(directoryPath).toRealPath();
+            var existingPath = resolvedPath;
+
+            while (Files.notExists(existingPath)) {
+                existingPath = existingPath.getParent();
+            }
+
+            if (!existingPath.toRealPath().startsWith(realDirectoryPath)) {
+                throw new TransferPathOutsideDirectoryException(path);
+            }
+        } catch (IOException exception) {
+            throw new TransferFileException(resolvedPath, exception);
+        }
+
+        return resolvedPath;
+    }
+}
@@ -0,0 +1,79 @@
+package ru.anafro.quark.server.language;
+
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.lexer.tokens.ConstructorNameInstructionToken;
+import ru.anafro.quark.server.language.lexer.tokens.InstructionToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A query lexed and parsed once, to be run many times, like a scheduled query.
+ * <br><br>
+ * <p>
+ * The constructors of a query are called while it is parsed. When all the called
+ * constructors are deterministic, the parsed instruction and arguments are kept
+ * and reused by every run. Otherwise, only the tokens are kept, and the query is
+ * parsed again before every run, so {@code @random between} or {@code @now}
+ * give a new value each time. The registries of instructions and constructors
+ * are frozen once Quark is initialized, so the parsed form never gets stale.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see ru.anafro.quark.server.language.entities.EntityConstructor#isDeterministic()
+ * @since Quark 3.0
+ */
+public final class CompiledQuery {
+    private final String text;
+    private final List<InstructionToken> tokens;
+    private final Query query;
+
+    private CompiledQuery(String text, List<InstructionToken> tokens, Query query) {
+        this.text = text;
+        this.tokens = tokens;
+        this.query = query;
+    }
+
+    /**
+     * Lexes and parses a query.
+     *
+     * @param text the query.
+     * @return the compiled query.
+     * @throws ru.anafro.quark.server.exceptions.QuarkException if the query is malformed.
+     */
+    public static CompiledQuery compile(String text) {
+        var tokens = List.copyOf(Quark.server().getLexer().lex(text));
+        var query = parse(tokens);
+
+        if (tokens.stream().allMatch(CompiledQuery::isDeterministic)) {
+            return new CompiledQuery(text, tokens, query);
+        }
+
+        return new CompiledQuery(text, tokens, null);
+    }
+
+    public InstructionResult execute() {
+        var query = this.query == null ? parse(tokens) : this.query;
+
+        return query.execute();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isParsedOnce() {
+        return query != null;
+    }
+
+    private static Query parse(List<InstructionToken> tokens) {
+        var parser = Quark.server().getParser();
+        var instruction = parser.parse(new ArrayList<>(tokens));
+
+        return new Query(instruction, parser.getArguments());
+    }
+
+    private static boolean isDeterministic(InstructionToken token) {
+        return !(token instanceof ConstructorNameInstructionToken constructorToken) || constructorToken.getConstructor().isDeterministic();
+    }
+}
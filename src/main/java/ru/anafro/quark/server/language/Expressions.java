@@ -1,8 +1,16 @@
 package ru.anafro.quark.server.language;
 
 import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.language.expressions.CompiledExpression;
+import ru.anafro.quark.server.language.expressions.ExpressionCompiler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Expressions {
+    private static final int COMPILED_EXPRESSIONS_CACHE_SIZE = 1024;
+    private static final Map<String, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
+
     public static <T extends Entity> T eval(Class<T> type, String entityToEval) {
         var query = Query.make(STR."eval \{entityToEval};");
         return query.arguments().get(type, "entity");
@@ -11,4 +19,30 @@ public final class Expressions {
     public static Entity eval(String entityToEval) {
         return eval(Entity.class, entityToEval);
     }
+
+    /**
+     * Compiles an expression, which may contain column references like {@code :name},
+     * or returns the expression compiled earlier. Use it when the same expression
+     * is evaluated for many records.
+     *
+     * @param expression the expression to compile.
+     * @return the compiled expression.
+     * @since Quark 3.0
+     */
+    public static CompiledExpression compile(String expression) {
+        var compiledExpression = compiledExpressions.get(expression);
+
+        if (compiledExpression != null) {
+            return compiledExpression;
+        }
+
+        if (compiledExpressions.size() >= COMPILED_EXPRESSIONS_CACHE_SIZE) {
+            compiledExpressions.clear();
+        }
+
+        compiledExpression = ExpressionCompiler.compile(expression);
+        compiledExpressions.put(expression, compiledExpression);
+
+        return compiledExpression;
+    }
 }
@@ -1,9 +1,12 @@
 package ru.anafro.quark.server.language;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
+import ru.anafro.quark.server.database.data.locks.TableLocks;
 import ru.anafro.quark.server.database.exceptions.DatabaseException;
 import ru.anafro.quark.server.database.views.TableView;
 import ru.anafro.quark.server.exceptions.QuarkException;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.queries.exceptions.QueryCancelledException;
 import ru.anafro.quark.server.utils.exceptions.Exceptions;
 import ru.anafro.quark.server.utils.strings.TextBuffer;
 
@@ -77,6 +80,21 @@ public abstract class Instruction {
      */
     protected abstract void performAction(InstructionArguments arguments, InstructionResultRecorder result);
 
+    /**
+     * Requests the locks of the databases and tables this instruction reads
+     * or changes. The locks are held while the instruction runs, so the
+     * instructions reading the same tables run in parallel, and the instructions
+     * changing them run one at a time. Instructions not working with tables
+     * do not need to override it.
+     *
+     * @param arguments the arguments this instruction will be run with.
+     * @param locks     the lock request to add the databases and tables to.
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+    }
+
     /**
      * Executes the instruction with arguments.
      *
@@ -89,9 +107,17 @@ public abstract class Instruction {
         try {
             ensureArgumentsAreValid(arguments);
             var resultRecorder = new InstructionResultRecorder();
-            this.performAction(arguments, resultRecorder);
+            var locks = TableLocks.request();
+
+            requestLocks(arguments, locks);
+
+            try (var _ = locks.acquire()) {
+                this.performAction(arguments, resultRecorder);
+            }
 
             return resultRecorder.collectResult();
+        } catch (QueryCancelledException exception) {
+            return new InstructionResult(ResponseStatus.CANCELLED, exception.getMessage(), 0, TableView.empty());
         } catch (QuarkException exception) {
             return new InstructionResult(ResponseStatus.SYNTAX_ERROR, exception.getMessage(), 0, TableView.empty());
         } catch (Exception exception) {
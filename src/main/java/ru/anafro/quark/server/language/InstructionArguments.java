@@ -79,6 +79,10 @@ public class InstructionArguments implements Iterable<InstructionArgument> {
         return new RecordIterationLimiter(skip, limit);
     }
 
+    public Optional<String> tryGetString(String argumentName) {
+        return this.tryGet(StringEntity.class, argumentName).map(StringEntity::getValue);
+    }
+
     public Optional<Integer> tryGetInt(String argumentName) {
         return this.tryGet(IntegerEntity.class, argumentName).map(IntegerEntity::getValue);
     }
@@ -196,6 +200,10 @@ public class InstructionArguments implements Iterable<InstructionArgument> {
         return new TableRecord(table.getHeader(), this.get(RecordEntity.class, "record").getValues());
     }
 
+    public List<TableRecord> getRecords(Table table) {
+        return getList(RecordEntity.class, "records").stream().map(record -> new TableRecord(table.getHeader(), record.getValues())).toList();
+    }
+
     public Stream<InstructionArgument> stream() {
         return arguments.stream();
     }
@@ -1,6 +1,8 @@
 package ru.anafro.quark.server.language;
 
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.queries.RunningQueries;
+import ru.anafro.quark.server.utils.time.TimeSpan;
 
 public record Query(Instruction instruction, InstructionArguments arguments) {
 
@@ -15,6 +17,17 @@ public record Query(Instruction instruction, InstructionArguments arguments) {
     }
 
     public InstructionResult execute() {
-        return instruction.execute(arguments);
+        return execute(RunningQueries.getDefaultTimeout());
+    }
+
+    /**
+     * Runs the query, stopping it when it runs longer than the timeout.
+     *
+     * @param timeout how long the query can run, or an instant time span to run it as long as it needs.
+     * @return the result of the query.
+     * @since Quark 3.0
+     */
+    public InstructionResult execute(TimeSpan timeout) {
+        return RunningQueries.run(instruction.getName(), timeout, () -> instruction.execute(arguments));
     }
 }
@@ -1,5 +1,5 @@
 package ru.anafro.quark.server.language;
 
 public enum ResponseStatus {
-    OK, SYNTAX_ERROR, SERVER_ERROR, MIDDLEWARE_ERROR, BAD_REQUEST
+    OK, SYNTAX_ERROR, SERVER_ERROR, MIDDLEWARE_ERROR, BAD_REQUEST, CANCELLED
 }
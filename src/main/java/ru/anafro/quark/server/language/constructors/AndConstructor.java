@@ -2,8 +2,8 @@ package ru.anafro.quark.server.language.constructors;
 
 import ru.anafro.quark.server.language.entities.BooleanEntity;
 import ru.anafro.quark.server.language.entities.Entity;
-import ru.anafro.quark.server.language.entities.EntityConstructor;
-import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArguments;
+import ru.anafro.quark.server.language.entities.LazyConstructorArguments;
+import ru.anafro.quark.server.language.entities.LazyEntityConstructor;
 
 import static ru.anafro.quark.server.language.entities.InstructionEntityConstructorParameter.varargs;
 import static ru.anafro.quark.server.language.entities.InstructionEntityConstructorReturnDescription.returns;
@@ -29,7 +29,7 @@ import static ru.anafro.quark.server.language.entities.InstructionEntityConstruc
  * @version Quark 1.1
  * @since Quark 1.1
  */
-public class AndConstructor extends EntityConstructor {
+public class AndConstructor extends LazyEntityConstructor {
 
     /**
      * Creates a new instance of the "and" constructor
@@ -71,19 +71,23 @@ public class AndConstructor extends EntityConstructor {
      * Quark.constructors().get("and").getSyntax();
      * }
      * </pre>
+     * <br><br>
+     * <p>
+     * The operands are evaluated one by one, and the evaluation stops
+     * as soon as the result is known.
      *
      * @param arguments the arguments this constructor needs to be invoked with.
      * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
      * @since Quark 1.1
      */
     @Override
-    protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        boolean result = true;
-
-        for (var untypedBoolean : arguments.getList(BooleanEntity.class, "booleans")) {
-            result = result && untypedBoolean.getValue();
+    protected Entity invokeLazily(LazyConstructorArguments arguments) {
+        for (int index = 0; index < arguments.count(); index++) {
+            if (!arguments.getBoolean(index)) {
+                return BooleanEntity.of(false);
+            }
         }
 
-        return new BooleanEntity(result);
+        return BooleanEntity.of(true);
     }
 }
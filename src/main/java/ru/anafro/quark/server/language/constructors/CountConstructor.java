@@ -78,6 +78,6 @@ public class CountConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new IntegerEntity(arguments.getList("list to count elements").size());
+        return IntegerEntity.of(arguments.getList("list to count elements").size());
     }
 }
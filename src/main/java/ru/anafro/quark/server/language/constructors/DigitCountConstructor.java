@@ -79,6 +79,6 @@ public class DigitCountConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new IntegerEntity(Integers.countDigits(arguments.getInt("integer")));
+        return IntegerEntity.of(Integers.countDigits(arguments.getInt("integer")));
     }
 }
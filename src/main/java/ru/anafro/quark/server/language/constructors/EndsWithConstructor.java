@@ -82,6 +82,6 @@ public class EndsWithConstructor extends EntityConstructor {
         var string = arguments.getString("string");
         var suffix = arguments.getString("suffix");
 
-        return new BooleanEntity(string.endsWith(suffix));
+        return BooleanEntity.of(string.endsWith(suffix));
     }
 }
@@ -78,6 +78,6 @@ public class FromBinaryStringConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new IntegerEntity(Integer.parseInt(arguments.getString("binary string to convert to integer"), 2));
+        return IntegerEntity.of(Integer.parseInt(arguments.getString("binary string to convert to integer"), 2));
     }
 }
@@ -78,6 +78,6 @@ public class FromHexStringConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new IntegerEntity(Integer.parseInt(arguments.getString("hex string to convert to integer"), 16));
+        return IntegerEntity.of(Integer.parseInt(arguments.getString("hex string to convert to integer"), 16));
     }
 }
@@ -78,6 +78,6 @@ public class FromOctalStringConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new IntegerEntity(Integer.parseInt(arguments.getString("octal string to convert to integer"), 8));
+        return IntegerEntity.of(Integer.parseInt(arguments.getString("octal string to convert to integer"), 8));
     }
 }
@@ -79,6 +79,6 @@ public class GreaterOrEqualsConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new BooleanEntity(arguments.getFloat("first number") >= arguments.getFloat("second number"));
+        return BooleanEntity.of(arguments.getFloat("first number") >= arguments.getFloat("second number"));
     }
 }
@@ -0,0 +1,87 @@
+package ru.anafro.quark.server.language.constructors;
+
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.language.entities.LazyConstructorArguments;
+import ru.anafro.quark.server.language.entities.LazyEntityConstructor;
+
+import static ru.anafro.quark.server.language.entities.InstructionEntityConstructorParameter.required;
+import static ru.anafro.quark.server.language.entities.InstructionEntityConstructorReturnDescription.returns;
+
+/**
+ * This class represents the "if" constructor of Quark QL.
+ * <br><br>
+ * <p>
+ * Note that you should not create instances of this class
+ * by your own. Instead, use {@code Quark.constructors().get("if"); }
+ * to get an instance of this class.
+ *
+ * <br><br>
+ * <p>
+ * You can check out the syntax of this constructor by running
+ * <pre>
+ * {@code
+ * Quark.constructors().get("if").getSyntax();
+ * }
+ * </pre>
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public class IfConstructor extends LazyEntityConstructor {
+
+    /**
+     * Creates a new instance of the "if" constructor
+     * representing object.
+     * <br><br>
+     * <p>
+     * Note that you should not create instances of this class
+     * by your own. Instead, use Quark.constructors().get("if");
+     * to get an instance of this class.
+     * <br><br>
+     * <p>
+     * You can check out the syntax of this constructor by running
+     * <pre>
+     * {@code
+     * Quark.constructors().get("if").getSyntax();
+     * }
+     * </pre>
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public IfConstructor() {
+        super(
+                "if",
+
+                returns("the chosen value", "any"),
+
+                required("condition", "boolean"),
+                required("value if true", "?"),
+                required("value if false", "?")
+        );
+    }
+
+    /**
+     * Invokes the @if constructor programmatically with arguments.
+     * <br><br>
+     * <p>
+     * You can check out the syntax of this constructor by running
+     * <pre>
+     * {@code
+     * Quark.constructors().get("if").getSyntax();
+     * }
+     * </pre>
+     * <br><br>
+     * <p>
+     * Only the chosen value is evaluated.
+     *
+     * @param arguments the arguments this constructor needs to be invoked with.
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    @Override
+    protected Entity invokeLazily(LazyConstructorArguments arguments) {
+        return arguments.getBoolean(0) ? arguments.get(1) : arguments.get(2);
+    }
+}
@@ -78,6 +78,6 @@ public class IsStringEmptyConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new BooleanEntity(arguments.getString("string").isEmpty());
+        return BooleanEntity.of(arguments.getString("string").isEmpty());
     }
 }
@@ -78,6 +78,6 @@ public class LengthConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new IntegerEntity(arguments.getString("string to count characters in").length());
+        return IntegerEntity.of(arguments.getString("string to count characters in").length());
     }
 }
@@ -4,6 +4,7 @@ import ru.anafro.quark.server.language.entities.BooleanEntity;
 import ru.anafro.quark.server.language.entities.Entity;
 import ru.anafro.quark.server.language.entities.EntityConstructor;
 import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArguments;
+import ru.anafro.quark.server.utils.strings.Regexes;
 
 import static ru.anafro.quark.server.language.entities.InstructionEntityConstructorParameter.required;
 import static ru.anafro.quark.server.language.entities.InstructionEntityConstructorReturnDescription.returns;
@@ -79,6 +80,6 @@ public class MatchesConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new BooleanEntity(arguments.getString("string to check").matches(arguments.getString("regex lambda")));
+        return BooleanEntity.of(Regexes.matches(arguments.getString("string to check"), arguments.getString("regex lambda")));
     }
 }
@@ -75,6 +75,6 @@ public class NoConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new BooleanEntity(false);
+        return BooleanEntity.of(false);
     }
 }
@@ -78,6 +78,6 @@ public class NotConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new BooleanEntity(!arguments.getBoolean("boolean to invert"));
+        return BooleanEntity.of(!arguments.getBoolean("boolean to invert"));
     }
 }
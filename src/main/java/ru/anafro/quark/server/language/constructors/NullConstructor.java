@@ -27,6 +27,6 @@ public class NullConstructor extends EntityConstructor {
             typeOfNull = arguments.getString("type of null");
         }
 
-        return new NullEntity(typeOfNull);
+        return NullEntity.of(typeOfNull);
     }
 }
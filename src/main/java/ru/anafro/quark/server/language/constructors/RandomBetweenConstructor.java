@@ -65,6 +65,11 @@ public class RandomBetweenConstructor extends EntityConstructor {
         );
     }
 
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
     /**
      * Invokes the @random between constructor programmatically with arguments.
      * <br><br>
@@ -85,6 +90,6 @@ public class RandomBetweenConstructor extends EntityConstructor {
         var min = arguments.getInt("inclusive min");
         var max = arguments.getInt("exclusive max");
 
-        return new IntegerEntity(random.nextInt(min, max));
+        return IntegerEntity.of(random.nextInt(min, max));
     }
 }
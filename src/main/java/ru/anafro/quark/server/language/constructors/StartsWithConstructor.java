@@ -82,6 +82,6 @@ public class StartsWithConstructor extends EntityConstructor {
         var string = arguments.getString("string");
         var prefix = arguments.getString("prefix");
 
-        return new BooleanEntity(string.startsWith(prefix));
+        return BooleanEntity.of(string.startsWith(prefix));
     }
 }
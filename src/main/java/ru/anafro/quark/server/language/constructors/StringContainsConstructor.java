@@ -82,6 +82,6 @@ public class StringContainsConstructor extends EntityConstructor {
         var string = arguments.getString("string where to search");
         var entry = arguments.getString("searching string");
 
-        return new BooleanEntity(string.contains(entry));
+        return BooleanEntity.of(string.contains(entry));
     }
 }
@@ -86,7 +86,7 @@ public class ToIntConstructor extends EntityConstructor {
         var string = arguments.getString("string to convert to integer");
 
         if (Validators.validate(string, Validators.INTEGER_STRING)) {
-            return new IntegerEntity(Converter.toInteger(string));
+            return IntegerEntity.of(Converter.toInteger(string));
         }
 
         return Entity.wrap(arguments.tryGetInt("default integer value if conversation fails").orElseThrow(() -> {
@@ -17,6 +17,11 @@ public class VarConstructor extends EntityConstructor {
         );
     }
 
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
         return Quark.variable(arguments.getString("variable name"));
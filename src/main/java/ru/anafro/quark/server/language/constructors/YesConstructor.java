@@ -75,6 +75,6 @@ public class YesConstructor extends EntityConstructor {
      */
     @Override
     protected Entity invoke(InstructionEntityConstructorArguments arguments) {
-        return new BooleanEntity(true);
+        return BooleanEntity.of(true);
     }
 }
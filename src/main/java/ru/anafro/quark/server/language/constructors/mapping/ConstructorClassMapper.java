@@ -4,7 +4,9 @@ import ru.anafro.quark.server.language.entities.*;
 import ru.anafro.quark.server.language.types.EntityType;
 import ru.anafro.quark.server.utils.reflection.Reflection;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -30,26 +32,49 @@ public final class ConstructorClassMapper {
                 return null;
             }
 
+            var handle = getHandle(method);
+
             return new EntityConstructor(constructorName, returns(constructorName, returnType), parameters.toArray(InstructionEntityConstructorParameter[]::new)) {
 
+                /**
+                 * A method without parameters, like {@code now} or {@code random},
+                 * returns something different on every call, or it would be a constant.
+                 */
+                @Override
+                public boolean isDeterministic() {
+                    return method.getParameterCount() != 0;
+                }
+
                 @Override
                 protected Entity invoke(InstructionEntityConstructorArguments arguments) {
                     var parameters1 = getParameters();
 
                     for (var parameter : parameters1) {
                         if (parameter.isRequired() && arguments.doesntHave(parameter.name())) {
-                            arguments.add(parameter.name(), new NullEntity(parameter.type()));
+                            arguments.add(parameter.name(), NullEntity.of(parameter.type()));
                         }
                     }
 
-                    var nativeArguments = arguments.getArgumentsAsList().stream().map(argument -> argument.getEntity().getValue()).toArray();
+                    var nativeArguments = arguments.toList().stream().map(Entity::getValue).toArray();
 
-                    return Entity.wrap(Reflection.invokeStatically(method, nativeArguments));
+                    if (handle == null) {
+                        return Entity.wrap(Reflection.invokeStatically(method, nativeArguments));
+                    }
+
+                    return Entity.wrap(Reflection.invokeSpreading(handle, nativeArguments));
                 }
             };
         }).filter(Objects::nonNull).toArray(EntityConstructor[]::new);
     }
 
+    private static MethodHandle getHandle(Method method) {
+        if (!Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())) {
+            return null;
+        }
+
+        return Reflection.getSpreadingHandle(method);
+    }
+
     private static EntityConstructor.Meta getMeta(Method method) {
         return method.getAnnotation(EntityConstructor.Meta.class);
     }
@@ -1,11 +1,16 @@
 package ru.anafro.quark.server.language.entities;
 
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
+
 public class AnyEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("any");
     private final Entity entity;
 
     @SuppressWarnings("unused")
     public AnyEntity(Entity entity) {
-        super("any");
+        super(TYPE);
 
         this.entity = entity;
     }
@@ -2,15 +2,31 @@ package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class BooleanEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("boolean");
     private final boolean value;
 
     public BooleanEntity(boolean value) {
-        super("boolean");
+        super(TYPE);
         this.value = value;
     }
 
+    /**
+     * Returns the shared boolean entity. Boolean entities are immutable,
+     * so there is no need to create a new one for every value.
+     *
+     * @param value the boolean value.
+     * @return the shared entity with this value.
+     * @since Quark 3.0
+     */
+    public static BooleanEntity of(boolean value) {
+        return value ? Canonical.YES : Canonical.NO;
+    }
+
     @Override
     public Boolean getValue() {
         return value;
@@ -42,4 +58,9 @@ public class BooleanEntity extends Entity {
     public int hashCode() {
         return Quark.stringHashingFunction().hash(Boolean.toString(value));
     }
+
+    private static final class Canonical {
+        private static final BooleanEntity YES = new BooleanEntity(true);
+        private static final BooleanEntity NO = new BooleanEntity(false);
+    }
 }
@@ -4,12 +4,16 @@ import ru.anafro.quark.server.database.data.TableRecordChanger;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.exceptions.TypeCanNotBeUsedInRecordsException;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class ChangerEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("changer");
     private final TableRecordChanger changer;
 
     public ChangerEntity(TableRecordChanger changer) {
-        super("changer");
+        super(TYPE);
         this.changer = changer;
     }
 
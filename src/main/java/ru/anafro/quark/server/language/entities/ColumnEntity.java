@@ -4,12 +4,16 @@ import ru.anafro.quark.server.database.data.ColumnDescription;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.exceptions.TypeCanNotBeUsedInRecordsException;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class ColumnEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("column");
     private final ColumnDescription columnDescription;
 
     public ColumnEntity(ColumnDescription columnDescription) {
-        super("column");
+        super(TYPE);
         this.columnDescription = columnDescription;
     }
 
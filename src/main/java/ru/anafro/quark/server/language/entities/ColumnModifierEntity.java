@@ -4,15 +4,19 @@ import ru.anafro.quark.server.database.data.ColumnModifier;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.exceptions.TypeCanNotBeUsedInRecordsException;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
 
 import java.util.Objects;
 
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
+
 public class ColumnModifierEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("modifier");
     private final ColumnModifier modifier;
     private final InstructionEntityConstructorArguments modifierArguments;
 
     public ColumnModifierEntity(ColumnModifier modifier, InstructionEntityConstructorArguments modifierArguments) {
-        super("modifier");
+        super(TYPE);
 
         Objects.requireNonNull(modifier, "Modifier should be present when creating ColumnModifierEntity");
 
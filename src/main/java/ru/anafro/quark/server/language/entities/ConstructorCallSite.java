@@ -0,0 +1,209 @@
+package ru.anafro.quark.server.language.entities;
+
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.entities.exceptions.ConstructorEvaluationException;
+import ru.anafro.quark.server.language.types.EntityType;
+
+import java.util.ArrayList;
+import java.util.function.IntFunction;
+
+import static ru.anafro.quark.server.utils.strings.English.pluralize;
+import static ru.anafro.quark.server.utils.strings.English.withArticle;
+
+/**
+ * A constructor invocation with its parameter binding resolved in advance.
+ * <br><br>
+ * <p>
+ * {@link EntityConstructor#eval(InstructionEntityConstructorArguments)} looks up
+ * parameters by name, resolves their types through the type registry and checks
+ * casts on every call. A call site does all of it once, when the expression
+ * containing the call is built, so that evaluating the same call for every
+ * record of a table only coerces the arguments that are not constant and runs
+ * {@link EntityConstructor#invoke(InstructionEntityConstructorArguments)} with
+ * the arguments bound to the parameters by their positions.
+ * <br><br>
+ * <p>
+ * Create call sites with {@link EntityConstructor#bind(int)}.
+ *
+ * @since Quark 3.0
+ */
+public final class ConstructorCallSite {
+    private final EntityConstructor constructor;
+    private final Binding[] bindings;
+    private final boolean[] constant;
+    private final Binding varargs;
+    private final int varargsPosition;
+    private final String[] names;
+
+    ConstructorCallSite(EntityConstructor constructor, int argumentCount) {
+        var parameters = constructor.getParameters();
+        var regularParameterCount = parameters.hasVarargs() ? parameters.count() - 1 : parameters.count();
+
+        if (argumentCount > regularParameterCount && !parameters.hasVarargs()) {
+            throw new ConstructorEvaluationException(constructor, STR."Expected at most \{regularParameterCount} arguments, but \{argumentCount} were passed.");
+        }
+
+        this.constructor = constructor;
+        this.bindings = new Binding[Math.min(argumentCount, regularParameterCount)];
+        this.constant = new boolean[bindings.length];
+        this.varargs = parameters.hasVarargs() ? new Binding(constructor, parameters.getVarargs()) : null;
+        this.varargsPosition = regularParameterCount;
+        this.names = new String[bindings.length + (varargs == null ? 0 : 1)];
+
+        for (int index = 0; index < bindings.length; index++) {
+            bindings[index] = new Binding(constructor, parameters.parameterAt(index));
+            names[index] = bindings[index].name;
+        }
+
+        if (varargs != null) {
+            names[bindings.length] = varargs.name;
+        }
+
+        for (int index = bindings.length; index < regularParameterCount; index++) {
+            var parameter = parameters.parameterAt(index);
+
+            if (parameter.isRequired()) {
+                throw new ConstructorEvaluationException(constructor, STR."The required parameter \{parameter.name()} is missing.");
+            }
+        }
+    }
+
+    /**
+     * Coerces a constant argument ahead of time. Constant arguments
+     * passed through this method will be taken by {@link #call(Entity[])}
+     * as is.
+     *
+     * @param position the position of the argument.
+     * @param argument the constant argument.
+     * @return the argument coerced to the parameter type.
+     */
+    public Entity coerce(int position, Entity argument) {
+        var coercedArgument = bindingAt(position).coerce(argument);
+
+        if (position < constant.length) {
+            constant[position] = true;
+        }
+
+        return coercedArgument;
+    }
+
+    /**
+     * Invokes the bound constructor with positional arguments.
+     *
+     * @param arguments the arguments in the order of the constructor parameters.
+     * @return the result of the constructor casted to its return type.
+     */
+    public Entity call(Entity[] arguments) {
+        var entities = new Entity[names.length];
+
+        for (int index = 0; index < bindings.length; index++) {
+            entities[index] = constant[index] ? arguments[index] : bindings[index].coerce(arguments[index]);
+        }
+
+        if (varargs != null) {
+            entities[bindings.length] = collectVarargs(arguments);
+        }
+
+        var boundArguments = InstructionEntityConstructorArguments.bound(names, entities);
+        return constructor.ensureResultIsValid(constructor.invoke(boundArguments), boundArguments);
+    }
+
+    /**
+     * Invokes the bound lazy constructor. The arguments are evaluated
+     * only when the constructor asks for them.
+     *
+     * @param argumentCount the number of the arguments.
+     * @param arguments     the function evaluating an argument by its position.
+     * @return the result of the constructor casted to its return type.
+     */
+    public Entity callLazily(int argumentCount, IntFunction<Entity> arguments) {
+        if (!(constructor instanceof LazyEntityConstructor lazyConstructor)) {
+            var evaluatedArguments = new Entity[argumentCount];
+
+            for (int index = 0; index < argumentCount; index++) {
+                evaluatedArguments[index] = arguments.apply(index);
+            }
+
+            return call(evaluatedArguments);
+        }
+
+        var lazyArguments = new LazyConstructorArguments(constructor, argumentCount, index -> bindingAt(index).coerce(arguments.apply(index)));
+        return constructor.ensureResultIsValid(lazyConstructor.invokeLazily(lazyArguments), new InstructionEntityConstructorArguments());
+    }
+
+    public boolean isLazy() {
+        return constructor instanceof LazyEntityConstructor;
+    }
+
+    public EntityConstructor getConstructor() {
+        return constructor;
+    }
+
+    public int getArgumentCount() {
+        return bindings.length;
+    }
+
+    public boolean hasVarargs() {
+        return varargs != null;
+    }
+
+    private ListEntity collectVarargs(Entity[] arguments) {
+        if (arguments.length <= varargsPosition) {
+            return ListEntity.empty(varargs.typeName);
+        }
+
+        var elements = new ArrayList<Entity>(arguments.length - varargsPosition);
+
+        for (int index = varargsPosition; index < arguments.length; index++) {
+            var element = varargs.coerce(arguments[index]);
+
+            if (!varargs.wildcard && element.doesntHaveType(varargs.type)) {
+                throw new ConstructorEvaluationException(constructor, STR."Varargs of type \{varargs.typeName} cannot contain \{pluralize(element.getTypeName())}.");
+            }
+
+            elements.add(element);
+        }
+
+        return ListEntity.of(elements);
+    }
+
+    private Binding bindingAt(int position) {
+        if (position < bindings.length) {
+            return bindings[position];
+        }
+
+        return varargs;
+    }
+
+    private static final class Binding {
+        private final EntityConstructor constructor;
+        private final String name;
+        private final String typeName;
+        private final EntityType<?> type;
+        private final boolean wildcard;
+
+        private Binding(EntityConstructor constructor, InstructionEntityConstructorParameter parameter) {
+            this.constructor = constructor;
+            this.name = parameter.name();
+            this.typeName = parameter.type();
+            this.wildcard = parameter.isWildcard();
+            this.type = wildcard ? null : Quark.types().getOrThrow(parameter.type(), () -> new ConstructorEvaluationException(constructor, STR."The parameter type \{parameter.type()} is not present."));
+        }
+
+        private Entity coerce(Entity argument) {
+            if (argument == null) {
+                throw new ConstructorEvaluationException(constructor, STR."The argument \{name} must not be null.");
+            }
+
+            if (wildcard || argument.hasType(type) || argument instanceof NullEntity) {
+                return argument;
+            }
+
+            if (type.canNotCast(argument)) {
+                throw new ConstructorEvaluationException(constructor, STR."The argument \{name} must be \{withArticle(typeName)}, but \{withArticle(argument.getTypeName())} was passed.");
+            }
+
+            return type.cast(argument);
+        }
+    }
+}
@@ -2,15 +2,19 @@ package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
+
 public class DateEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("date");
     private final Date date;
 
     public DateEntity(Date date) {
-        super("date");
+        super(TYPE);
         this.date = date;
     }
 
@@ -1,12 +1,16 @@
 package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class DoubleEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("double");
     private final double value;
 
     public DoubleEntity(double value) {
-        super("double");
+        super(TYPE);
         this.value = value;
     }
 
@@ -4,6 +4,7 @@ import ru.anafro.quark.server.facade.Quark;
 import ru.anafro.quark.server.language.entities.exceptions.EntitiesCannotBeComparedException;
 import ru.anafro.quark.server.language.entities.exceptions.InstructionEntityCastException;
 import ru.anafro.quark.server.language.types.EntityType;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
 import ru.anafro.quark.server.utils.patterns.exceptions.ObjectIsMissingInRegistryException;
 
 import java.util.Arrays;
@@ -19,18 +20,22 @@ public abstract class Entity implements Comparable<Entity> {
         this.type = Quark.types().tryGet(type).orElseThrow(() -> new ObjectIsMissingInRegistryException("Type %s is not exist. Did you mean %s?".formatted(type, Quark.types().suggest(type).getName())));
     }
 
+    protected Entity(EntityTypeReference type) {
+        this.type = type.get();
+    }
+
     public static <T> Entity wrap(T object) {
         if (object instanceof Entity entity) {
             return entity;
         }
 
-        for (var type : Quark.types()) {
-            if (type.canWrap(object)) {
-                return type.wrap(object);
-            }
+        if (object == null) {
+            return NullEntity.any();
         }
 
-        return null;
+        var type = Quark.types().getWrappingTypeOf(object.getClass());
+
+        return type == null ? null : type.wrap(object);
     }
 
     public static <T> List<Entity> wrapMany(T[] objects) {
@@ -69,7 +74,7 @@ public abstract class Entity implements Comparable<Entity> {
     }
 
     public boolean hasType(EntityType<?> type) {
-        return type.equals(this.type);
+        return this.type == type || type.equals(this.type);
     }
 
     public boolean hasType(String typeName) {
@@ -48,6 +48,20 @@ public abstract class EntityConstructor {
         return parameters;
     }
 
+    /**
+     * Tells whether a call of this constructor always gives the same result
+     * for the same arguments. Scheduled queries calling only deterministic
+     * constructors are parsed once and run again and again without being parsed.
+     * Override it to return {@code false} when the result depends on something
+     * else, like the time, a random generator or the variables.
+     *
+     * @return {@code true} if the constructor is deterministic.
+     * @since Quark 3.0
+     */
+    public boolean isDeterministic() {
+        return true;
+    }
+
     protected abstract Entity invoke(InstructionEntityConstructorArguments arguments);
 
     public Entity eval(Object... arguments) {
@@ -115,7 +129,23 @@ public abstract class EntityConstructor {
             }
         }
 
-        var constructorResult = invoke(arguments);
+        return ensureResultIsValid(invoke(arguments), arguments);
+    }
+
+    /**
+     * Binds this constructor to a call with a fixed number of positional
+     * arguments. The returned call site can be invoked many times without
+     * resolving the parameters again.
+     *
+     * @param argumentCount the number of arguments the call will be made with.
+     * @return the call site.
+     * @since Quark 3.0
+     */
+    public ConstructorCallSite bind(int argumentCount) {
+        return new ConstructorCallSite(this, argumentCount);
+    }
+
+    Entity ensureResultIsValid(Entity constructorResult, InstructionEntityConstructorArguments arguments) {
         var returnType = returnDescription.getType();
 
         if (constructorResult == null) {
@@ -4,12 +4,16 @@ import ru.anafro.quark.server.database.data.TableRecordFinder;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.exceptions.TypeCanNotBeUsedInRecordsException;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class FinderEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("finder");
     private final TableRecordFinder finder;
 
     public FinderEntity(TableRecordFinder finder) {
-        super("finder");
+        super(TYPE);
         this.finder = finder;
     }
 
@@ -1,12 +1,16 @@
 package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class FloatEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("float");
     private final float value;
 
     public FloatEntity(float value) {
-        super("float");
+        super(TYPE);
         this.value = value;
     }
 
@@ -3,12 +3,16 @@ package ru.anafro.quark.server.language.entities;
 import ru.anafro.quark.server.database.data.RecordFieldGenerator;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class GeneratorEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("generator");
     private final RecordFieldGenerator generator;
 
     public GeneratorEntity(RecordFieldGenerator generator) {
-        super("generator");
+        super(TYPE);
         this.generator = generator;
     }
 
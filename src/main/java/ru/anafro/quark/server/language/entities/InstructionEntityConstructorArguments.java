@@ -7,15 +7,42 @@ import ru.anafro.quark.server.utils.collections.Lists;
 import ru.anafro.quark.server.utils.integers.Integers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
 public class InstructionEntityConstructorArguments implements Iterable<InstructionEntityConstructorArgument> {
-    private final List<InstructionEntityConstructorArgument> arguments;
+    private final String[] boundNames;
+    private final Entity[] boundEntities;
+    private List<InstructionEntityConstructorArgument> arguments;
 
     public InstructionEntityConstructorArguments(InstructionEntityConstructorArgument... arguments) {
         this.arguments = new ArrayList<>(List.of(arguments));
+        this.boundNames = null;
+        this.boundEntities = null;
+    }
+
+    private InstructionEntityConstructorArguments(String[] boundNames, Entity[] boundEntities) {
+        this.boundNames = boundNames;
+        this.boundEntities = boundEntities;
+    }
+
+    /**
+     * Wraps the positional arguments of a call site without creating
+     * an argument object for each of them. The arguments are looked up
+     * by the names of the bound parameters, which are shared by all the
+     * calls of the call site. The argument objects are created only
+     * if the arguments are iterated or changed.
+     *
+     * @param names    the names of the parameters.
+     * @param entities the arguments in the order of the names.
+     * @return the arguments.
+     * @since Quark 3.0
+     */
+    static InstructionEntityConstructorArguments bound(String[] names, Entity[] entities) {
+        return new InstructionEntityConstructorArguments(names, entities);
     }
 
     public static InstructionEntityConstructorArguments positional(EntityConstructor constructor, Object[] nativeArguments) {
@@ -33,6 +60,10 @@ public class InstructionEntityConstructorArguments implements Iterable<Instructi
     }
 
     public boolean has(String argumentName) {
+        if (arguments == null) {
+            return indexOfBound(argumentName) != -1;
+        }
+
         return getArgument(argumentName) != null;
     }
 
@@ -41,11 +72,17 @@ public class InstructionEntityConstructorArguments implements Iterable<Instructi
     }
 
     public Entity getEntity(String argumentName) {
+        var boundIndex = arguments == null ? indexOfBound(argumentName) : -1;
+
+        if (boundIndex != -1) {
+            return boundEntities[boundIndex];
+        }
+
         return getArgument(argumentName).getEntity();
     }
 
     public InstructionEntityConstructorArgument getArgument(String argumentName) {
-        for (var argument : arguments) {
+        for (var argument : getArgumentsAsList()) {
             if (argument.getName().equals(argumentName)) {
                 return argument;
             }
@@ -59,7 +96,7 @@ public class InstructionEntityConstructorArguments implements Iterable<Instructi
             throw new InstructionParserException(STR."An argument with name '\{argument.getName()}' already exists");
         }
 
-        arguments.add(argument);
+        getArgumentsAsList().add(argument);
     }
 
     public void add(String argumentName, Entity argumentValue) {
@@ -70,7 +107,7 @@ public class InstructionEntityConstructorArguments implements Iterable<Instructi
     @NotNull
     @Override
     public Iterator<InstructionEntityConstructorArgument> iterator() {
-        return arguments.iterator();
+        return getArgumentsAsList().iterator();
     }
 
     private <T extends Entity> T get(Class<T> type, String argumentName) {
@@ -78,7 +115,7 @@ public class InstructionEntityConstructorArguments implements Iterable<Instructi
             throw new DatabaseException(STR."Requesting an argument '\{argumentName}', which does not exist"); // TODO: Make a new exception type
         }
 
-        return type.cast(getArgument(argumentName).getEntity());
+        return type.cast(getEntity(argumentName));
     }
 
     private <T extends Entity> Optional<T> tryGet(Class<T> type, String argumentName) {
@@ -139,10 +176,22 @@ public class InstructionEntityConstructorArguments implements Iterable<Instructi
     }
 
     public List<Entity> toList() {
+        if (arguments == null) {
+            return Collections.unmodifiableList(Arrays.asList(boundEntities));
+        }
+
         return arguments.stream().map(InstructionEntityConstructorArgument::getEntity).toList();
     }
 
     public List<InstructionEntityConstructorArgument> getArgumentsAsList() {
+        if (arguments == null) {
+            arguments = new ArrayList<>(boundEntities.length);
+
+            for (int index = 0; index < boundEntities.length; index++) {
+                arguments.add(new InstructionEntityConstructorArgument(boundNames[index], boundEntities[index]));
+            }
+        }
+
         return arguments;
     }
 
@@ -150,8 +199,18 @@ public class InstructionEntityConstructorArguments implements Iterable<Instructi
         return this.get(LongEntity.class, argumentName).getValue();
     }
 
+    private int indexOfBound(String argumentName) {
+        for (int index = 0; index < boundNames.length; index++) {
+            if (boundNames[index].equals(argumentName)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
     @Override
     public String toString() {
-        return Lists.join(arguments, argument -> STR."\{argument.getName()} = \{argument.getEntity().toInstructionForm()}");
+        return Lists.join(getArgumentsAsList(), argument -> STR."\{argument.getName()} = \{argument.getEntity().toInstructionForm()}");
     }
 }
@@ -1,17 +1,37 @@
 package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class IntegerEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("int");
     private final int value;
 
     public IntegerEntity(int value) {
-        super("int");
+        super(TYPE);
         this.value = value;
     }
 
+    /**
+     * Returns an integer entity, sharing the instances for small values
+     * the same way {@link Integer#valueOf(int)} does.
+     *
+     * @param value the integer value.
+     * @return the entity with this value.
+     * @since Quark 3.0
+     */
+    public static IntegerEntity of(int value) {
+        if (value >= Canonical.LOWEST && value <= Canonical.HIGHEST) {
+            return Canonical.VALUES[value - Canonical.LOWEST];
+        }
+
+        return new IntegerEntity(value);
+    }
+
     public IntegerEntity incremented() {
-        return new IntegerEntity(value + 1);
+        return IntegerEntity.of(value + 1);
     }
 
     @Override
@@ -52,4 +72,16 @@ public class IntegerEntity extends Entity {
     public String toInstructionForm() {
         return getValueAsString();
     }
+
+    private static final class Canonical {
+        private static final int LOWEST = -128;
+        private static final int HIGHEST = 1024;
+        private static final IntegerEntity[] VALUES = new IntegerEntity[HIGHEST - LOWEST + 1];
+
+        static {
+            for (int index = 0; index < VALUES.length; index++) {
+                VALUES[index] = new IntegerEntity(LOWEST + index);
+            }
+        }
+    }
 }
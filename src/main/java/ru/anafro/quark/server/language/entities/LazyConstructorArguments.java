@@ -0,0 +1,45 @@
+package ru.anafro.quark.server.language.entities;
+
+import ru.anafro.quark.server.language.entities.exceptions.ConstructorEvaluationException;
+
+import java.util.function.IntFunction;
+
+/**
+ * Positional arguments of a {@link LazyEntityConstructor}. Each argument
+ * is evaluated on the first access and kept afterward.
+ *
+ * @since Quark 3.0
+ */
+public final class LazyConstructorArguments {
+    private final EntityConstructor constructor;
+    private final Entity[] entities;
+    private final IntFunction<Entity> evaluator;
+
+    public LazyConstructorArguments(EntityConstructor constructor, int count, IntFunction<Entity> evaluator) {
+        this.constructor = constructor;
+        this.entities = new Entity[count];
+        this.evaluator = evaluator;
+    }
+
+    public int count() {
+        return entities.length;
+    }
+
+    public Entity get(int index) {
+        if (entities[index] == null) {
+            entities[index] = evaluator.apply(index);
+        }
+
+        return entities[index];
+    }
+
+    public boolean getBoolean(int index) {
+        var entity = get(index);
+
+        if (entity instanceof BooleanEntity booleanEntity) {
+            return booleanEntity.getValue();
+        }
+
+        throw new ConstructorEvaluationException(constructor, STR."The argument #\{index + 1} must be a boolean, but it is (\{entity.getExactTypeName()}) \{entity}.");
+    }
+}
@@ -0,0 +1,42 @@
+package ru.anafro.quark.server.language.entities;
+
+import ru.anafro.quark.server.utils.collections.Lists;
+
+/**
+ * A constructor that evaluates its arguments only when it needs them.
+ * <br><br>
+ * <p>
+ * When a lazy constructor is called from a compiled expression, its arguments
+ * are evaluated on the first {@link LazyConstructorArguments#get(int)} call,
+ * so constructors like {@code @and}, {@code @or} and {@code @if} can skip
+ * the arguments that don't affect the result. When it's called from a query,
+ * the arguments are already evaluated by the parser and simply passed through.
+ *
+ * @since Quark 3.0
+ */
+public abstract class LazyEntityConstructor extends EntityConstructor {
+    public LazyEntityConstructor(String name, InstructionEntityConstructorReturnDescription returnDescription, InstructionEntityConstructorParameter... parameters) {
+        super(name, returnDescription, parameters);
+    }
+
+    protected abstract Entity invokeLazily(LazyConstructorArguments arguments);
+
+    @Override
+    protected final Entity invoke(InstructionEntityConstructorArguments arguments) {
+        var positionalArguments = Lists.<Entity>empty();
+
+        for (var parameter : getParameters()) {
+            if (arguments.doesntHave(parameter.name())) {
+                continue;
+            }
+
+            if (parameter.isVarargs()) {
+                positionalArguments.addAll(arguments.getList(parameter.name()).getValue());
+            } else {
+                positionalArguments.add(arguments.getEntity(parameter.name()));
+            }
+        }
+
+        return invokeLazily(new LazyConstructorArguments(this, positionalArguments.size(), positionalArguments::get));
+    }
+}
@@ -6,6 +6,7 @@ import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.exceptions.TypeCanNotBeUsedInRecordsException;
 import ru.anafro.quark.server.language.types.EntityType;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
 import ru.anafro.quark.server.utils.collections.Lists;
 
 import java.util.ArrayList;
@@ -14,13 +15,15 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static ru.anafro.quark.server.utils.strings.English.pluralize;
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class ListEntity extends Entity implements Iterable<Entity> {
+    private static final EntityTypeReference TYPE = reference("list");
     private final ArrayList<Entity> values;
     private final String typeOfElements;
 
     public ListEntity(String typeOfElements, Entity... entities) {
-        super("list");
+        super(TYPE);
         this.values = Lists.empty();
         this.typeOfElements = typeOfElements;
 
@@ -30,7 +33,7 @@ public class ListEntity extends Entity implements Iterable<Entity> {
     }
 
     public ListEntity(String typeOfElements, Iterable<? extends Entity> entities) {
-        super("list");
+        super(TYPE);
         this.values = Lists.empty();
         this.typeOfElements = typeOfElements;
 
@@ -1,12 +1,16 @@
 package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class LongEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("long");
     private final long value;
 
     public LongEntity(long value) {
-        super("long");
+        super(TYPE);
         this.value = value;
     }
 
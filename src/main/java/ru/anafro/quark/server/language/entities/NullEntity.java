@@ -2,12 +2,19 @@ package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class NullEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("null");
     private final String exactNullType;
 
     public NullEntity(String exactNullType) {
-        super("null");
+        super(TYPE);
         this.exactNullType = exactNullType;
     }
 
@@ -15,6 +22,22 @@ public class NullEntity extends Entity {
         this("any");
     }
 
+    /**
+     * Returns the shared null entity of a type. Null entities are immutable,
+     * so there is no need to create a new one every time.
+     *
+     * @param exactNullType the type of the null.
+     * @return the shared null entity of this type.
+     * @since Quark 3.0
+     */
+    public static NullEntity of(String exactNullType) {
+        return Canonical.NULLS.computeIfAbsent(exactNullType, NullEntity::new);
+    }
+
+    public static NullEntity any() {
+        return of("any");
+    }
+
     @Override
     public Object getValue() {
         return null;
@@ -44,4 +67,8 @@ public class NullEntity extends Entity {
     public int hashCode() {
         return Quark.stringHashingFunction().hash("null");
     }
+
+    private static final class Canonical {
+        private static final Map<String, NullEntity> NULLS = new ConcurrentHashMap<>();
+    }
 }
@@ -4,17 +4,21 @@ import org.jetbrains.annotations.NotNull;
 import ru.anafro.quark.server.database.data.TableRecord;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.exceptions.TypeCanNotBeUsedInRecordsException;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
 import ru.anafro.quark.server.utils.collections.Lists;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Objects;
 
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
+
 public class RecordEntity extends Entity implements Iterable<Entity> {
+    private static final EntityTypeReference TYPE = reference("record");
     private final ArrayList<Entity> values;
 
     public RecordEntity(Entity... values) {
-        super("record");
+        super(TYPE);
         this.values = Lists.empty();
 
         for (var value : values) {
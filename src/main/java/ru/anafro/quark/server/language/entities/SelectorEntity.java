@@ -4,12 +4,16 @@ import ru.anafro.quark.server.database.data.ExpressionTableRecordSelector;
 import ru.anafro.quark.server.language.constructors.StringConstructorBuilder;
 import ru.anafro.quark.server.language.entities.exceptions.TypeCanNotBeUsedInRecordsException;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class SelectorEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("selector");
     private final ExpressionTableRecordSelector selector;
 
     public SelectorEntity(ExpressionTableRecordSelector selector) {
-        super("selector");
+        super(TYPE);
         this.selector = selector;
     }
 
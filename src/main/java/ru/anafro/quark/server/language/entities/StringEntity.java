@@ -2,12 +2,17 @@ package ru.anafro.quark.server.language.entities;
 
 import ru.anafro.quark.server.database.data.parser.RecordCharacterEscapeService;
 import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.types.EntityTypeReference;
+
+import static ru.anafro.quark.server.language.types.EntityTypeReference.reference;
 
 public class StringEntity extends Entity {
+    private static final EntityTypeReference TYPE = reference("str");
     private final String value;
+    private int hashCode;
 
     public StringEntity(String value) {
-        super("str");
+        super(TYPE);
         this.value = value;
     }
 
@@ -41,9 +46,23 @@ public class StringEntity extends Entity {
         return value.compareTo(((StringEntity) entity).getString());
     }
 
+    /**
+     * Returns the hash of the string, computed once. As in {@link String#hashCode()},
+     * the hash is kept in a single field, where 0 means it is not computed yet,
+     * so a thread can never see a cached hash before it is written.
+     *
+     * @return the hash code.
+     */
     @Override
     public int hashCode() {
-        return Quark.stringHashingFunction().hash(value);
+        var hashCode = this.hashCode;
+
+        if (hashCode == 0) {
+            hashCode = Quark.stringHashingFunction().hash(value);
+            this.hashCode = hashCode;
+        }
+
+        return hashCode;
     }
 
     public String getString() {
@@ -0,0 +1,19 @@
+package ru.anafro.quark.server.language.expressions;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.language.entities.Entity;
+import ru.anafro.quark.server.language.expressions.exceptions.ExpressionColumnNotFoundException;
+
+public record ColumnReferenceExpression(String columnName) implements CompiledExpression {
+
+    @Override
+    public Entity evaluate(TableRecord record) {
+        var field = record == null ? null : record.getField(columnName);
+
+        if (field == null) {
+            throw new ExpressionColumnNotFoundException(columnName, record);
+        }
+
+        return field.getEntity();
+    }
+}
@@ -0,0 +1,26 @@
+package ru.anafro.quark.server.language.expressions;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.language.entities.Entity;
+
+/**
+ * An expression lexed and bound once, that can be evaluated
+ * against many records without being parsed again.
+ *
+ * @since Quark 3.0
+ */
+public interface CompiledExpression {
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param record the record column references are resolved against,
+     *               or {@code null} if the expression has no column references.
+     * @return the value of the expression.
+     */
+    Entity evaluate(TableRecord record);
+
+    default boolean isConstant() {
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package ru.anafro.quark.server.language.expressions;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.language.entities.ConstructorCallSite;
+import ru.anafro.quark.server.language.entities.Entity;
+
+public final class ConstructorCallExpression implements CompiledExpression {
+    private final ConstructorCallSite callSite;
+    private final CompiledExpression[] arguments;
+
+    public ConstructorCallExpression(ConstructorCallSite callSite, CompiledExpression[] arguments) {
+        this.callSite = callSite;
+        this.arguments = arguments;
+
+        for (int index = 0; index < arguments.length; index++) {
+            if (arguments[index] instanceof LiteralExpression literal) {
+                this.arguments[index] = new LiteralExpression(callSite.coerce(index, literal.value()));
+            }
+        }
+    }
+
+    @Override
+    public Entity evaluate(TableRecord record) {
+        if (callSite.isLazy()) {
+            return callSite.callLazily(arguments.length, index -> arguments[index].evaluate(record));
+        }
+
+        var values = new Entity[arguments.length];
+
+        for (int index = 0; index < arguments.length; index++) {
+            values[index] = arguments[index].evaluate(record);
+        }
+
+        return callSite.call(values);
+    }
+
+    public ConstructorCallSite getCallSite() {
+        return callSite;
+    }
+}
@@ -0,0 +1,128 @@
+package ru.anafro.quark.server.language.expressions;
+
+import ru.anafro.quark.server.language.expressions.exceptions.ExpressionCompilationException;
+import ru.anafro.quark.server.language.lexer.InstructionLexer;
+import ru.anafro.quark.server.language.lexer.tokens.ColumnReferenceInstructionToken;
+import ru.anafro.quark.server.language.lexer.tokens.ConstructorNameInstructionToken;
+import ru.anafro.quark.server.language.lexer.tokens.InstructionToken;
+import ru.anafro.quark.server.language.lexer.tokens.LiteralInstructionToken;
+import ru.anafro.quark.server.utils.collections.Lists;
+
+import java.util.List;
+
+import static ru.anafro.quark.server.language.lexer.tokens.ColumnReferenceInstructionToken.COLUMN_REFERENCE_PREFIX;
+
+/**
+ * Compiles a Quark QL expression into a tree of {@link CompiledExpression} nodes.
+ * <br><br>
+ * <p>
+ * The expression is lexed once with the regular instruction lexer, then every
+ * constructor call is bound to its parameters with
+ * {@link ru.anafro.quark.server.language.entities.EntityConstructor#bind(int)}.
+ * Column references like {@code :name} become nodes that read the field from
+ * the record the expression is evaluated against.
+ *
+ * @since Quark 3.0
+ */
+public final class ExpressionCompiler {
+    private final String expression;
+    private List<InstructionToken> tokens;
+    private int position;
+
+    private ExpressionCompiler(String expression) {
+        this.expression = expression;
+    }
+
+    public static CompiledExpression compile(String expression) {
+        return new ExpressionCompiler(expression).compile();
+    }
+
+    private CompiledExpression compile() {
+        var strippedExpression = expression.strip();
+
+        if (!strippedExpression.isEmpty() && strippedExpression.charAt(0) == COLUMN_REFERENCE_PREFIX) {
+            return new ColumnReferenceExpression(strippedExpression.substring(1).strip());
+        }
+
+        var lexedTokens = new InstructionLexer().lex(STR."eval \{strippedExpression};");
+
+        this.tokens = lexedTokens.subList(1, lexedTokens.size());
+        this.position = 0;
+
+        var compiledExpression = compileNode();
+
+        if (next().isNot("semicolon") || position != tokens.size()) {
+            throw new ExpressionCompilationException(expression, "Only one expression is expected.");
+        }
+
+        return compiledExpression;
+    }
+
+    private CompiledExpression compileNode() {
+        var token = next();
+
+        if (token instanceof LiteralInstructionToken literal) {
+            return new LiteralExpression(literal.toEntity());
+        }
+
+        if (token instanceof ColumnReferenceInstructionToken columnReference) {
+            return new ColumnReferenceExpression(columnReference.getColumnName());
+        }
+
+        if (token instanceof ConstructorNameInstructionToken constructorName) {
+            return compileConstructorCall(constructorName);
+        }
+
+        throw new ExpressionCompilationException(expression, STR."Expected an object, but \{token.getName()} was found.");
+    }
+
+    private CompiledExpression compileConstructorCall(ConstructorNameInstructionToken constructorName) {
+        expect("opening parenthesis");
+
+        var arguments = Lists.<CompiledExpression>empty();
+
+        if (peek().is("closing parenthesis")) {
+            next();
+        } else {
+            do {
+                arguments.add(compileNode());
+            } while (next().is("comma") || expectClosingParenthesis());
+        }
+
+        var callSite = constructorName.getConstructor().bind(arguments.size());
+        return new ConstructorCallExpression(callSite, arguments.toArray(CompiledExpression[]::new));
+    }
+
+    private boolean expectClosingParenthesis() {
+        var token = tokens.get(position - 1);
+
+        if (token.isNot("closing parenthesis")) {
+            throw new ExpressionCompilationException(expression, STR."Expected a comma or a closing parenthesis, but \{token.getName()} was found.");
+        }
+
+        return false;
+    }
+
+    private void expect(String tokenName) {
+        var token = next();
+
+        if (token.isNot(tokenName)) {
+            throw new ExpressionCompilationException(expression, STR."Expected \{tokenName}, but \{token.getName()} was found.");
+        }
+    }
+
+    private InstructionToken peek() {
+        if (position >= tokens.size()) {
+            throw new ExpressionCompilationException(expression, "The expression is not completed.");
+        }
+
+        return tokens.get(position);
+    }
+
+    private InstructionToken next() {
+        var token = peek();
+        position++;
+
+        return token;
+    }
+}
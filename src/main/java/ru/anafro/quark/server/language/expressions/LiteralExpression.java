@@ -0,0 +1,17 @@
+package ru.anafro.quark.server.language.expressions;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.language.entities.Entity;
+
+public record LiteralExpression(Entity value) implements CompiledExpression {
+
+    @Override
+    public Entity evaluate(TableRecord record) {
+        return value;
+    }
+
+    @Override
+    public boolean isConstant() {
+        return true;
+    }
+}
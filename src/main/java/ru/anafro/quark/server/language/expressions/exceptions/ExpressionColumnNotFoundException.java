@@ -0,0 +1,10 @@
+package ru.anafro.quark.server.language.expressions.exceptions;
+
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class ExpressionColumnNotFoundException extends DatabaseException {
+    public ExpressionColumnNotFoundException(String columnName, TableRecord record) {
+        super(STR."The expression refers to the column :\{columnName}, but the record \{record == null ? "is not provided" : STR."\{record.toTableLine()} has no such column"}.");
+    }
+}
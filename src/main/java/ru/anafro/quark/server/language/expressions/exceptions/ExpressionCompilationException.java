@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.language.expressions.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class ExpressionCompilationException extends DatabaseException {
+    public ExpressionCompilationException(String expression, String reason) {
+        super(STR."The expression \{expression} cannot be compiled. \{reason}");
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Contains the compiled form of Quark QL expressions used in record lambdas.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.language.expressions;
@@ -1,5 +1,6 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -26,6 +27,11 @@ public class AddModifierInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.write(arguments.getString("table"));
+    }
+
     @Override
     protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
         var table = arguments.getTable("table");
@@ -0,0 +1,33 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.database.data.transactions.Transactions;
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+import ru.anafro.quark.server.security.TokenPermission;
+
+public class BeginInstruction extends Instruction {
+    /**
+     * Creates a new instruction object. You should not use it anywhere
+     * but in the registering ({@code Quark.instructions().add(new YourInstruction()}).
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public BeginInstruction() {
+        super(
+                "begin",
+                "Begins a transaction. The records inserted, changed and deleted in the session are kept until the commit",
+                TokenPermission.ALLOWED_FOR_ALL_TOKENS
+        );
+    }
+
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var transaction = Transactions.begin();
+
+        result.header("session");
+        result.row(transaction.getSession());
+        result.ok(STR."The transaction is begun in session '\{transaction.getSession()}'. Send this session with the next requests to run them in the transaction.");
+    }
+}
@@ -0,0 +1,34 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+import ru.anafro.quark.server.language.queries.RunningQueries;
+
+import static ru.anafro.quark.server.language.InstructionParameter.general;
+
+public class CancelQueryInstruction extends Instruction {
+    /**
+     * Creates a new instruction object. You should not use it anywhere
+     * but in the registering ({@code Quark.instructions().add(new YourInstruction()}).
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public CancelQueryInstruction() {
+        super(
+                "cancel query",
+                "Cancels a running query",
+                "server.queries.cancel",
+                general("id", "long")
+        );
+    }
+
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var id = arguments.getLong("id");
+
+        RunningQueries.cancel(id);
+        result.ok(STR."The query #\{id} is cancelled. It stops as soon as it checks.");
+    }
+}
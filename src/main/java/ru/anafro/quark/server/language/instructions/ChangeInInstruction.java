@@ -1,5 +1,7 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
+import ru.anafro.quark.server.database.data.transactions.Transactions;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -53,7 +55,7 @@ public class ChangeInInstruction extends Instruction {
     public ChangeInInstruction() {
         super("change in",
 
-                "Changes records match the condition",
+                "Changes records match the condition. The changed records move to the end of the table",
 
                 "table.change",
 
@@ -64,6 +66,11 @@ public class ChangeInInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.change(arguments.getString("table"));
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
@@ -83,6 +90,13 @@ public class ChangeInInstruction extends Instruction {
         var selector = arguments.getSelector();
         var changer = arguments.getChanger();
         var table = arguments.getTable();
+        var transaction = Transactions.current();
+
+        if (transaction.isPresent()) {
+            transaction.get().change(table, selector, changer);
+            result.ok("Records will be changed on commit.");
+            return;
+        }
 
         table.change(selector, changer);
         result.ok("Records have been changed.");
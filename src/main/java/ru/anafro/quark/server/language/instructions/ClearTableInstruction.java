@@ -1,5 +1,6 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -60,6 +61,11 @@ public class ClearTableInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.change(arguments.getString("table"));
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
@@ -1,5 +1,6 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -63,6 +64,11 @@ public class CloneDatabaseSchemeInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.readDatabase(arguments.getString("prototype")).writeDatabase(arguments.getString("destination"));
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
@@ -0,0 +1,32 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.database.data.transactions.Transactions;
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+import ru.anafro.quark.server.security.TokenPermission;
+
+public class CommitInstruction extends Instruction {
+    /**
+     * Creates a new instruction object. You should not use it anywhere
+     * but in the registering ({@code Quark.instructions().add(new YourInstruction()}).
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public CommitInstruction() {
+        super(
+                "commit",
+                "Applies the changes of the transaction to the tables at once",
+                TokenPermission.ALLOWED_FOR_ALL_TOKENS
+        );
+    }
+
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var transaction = Transactions.end();
+
+        transaction.commit();
+        result.ok(STR."The transaction is committed with \{transaction.countChanges()} changes.");
+    }
+}
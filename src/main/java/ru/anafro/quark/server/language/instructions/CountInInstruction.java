@@ -1,6 +1,7 @@
 package ru.anafro.quark.server.language.instructions;
 
 import ru.anafro.quark.server.database.data.ExpressionTableRecordSelector;
+import ru.anafro.quark.server.database.data.locks.LockRequest;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -26,6 +27,11 @@ public class CountInInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.read(arguments.getString("table"));
+    }
+
     @Override
     protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
         var table = arguments.getTable();
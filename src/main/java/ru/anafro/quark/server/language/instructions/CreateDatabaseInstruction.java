@@ -1,6 +1,7 @@
 package ru.anafro.quark.server.language.instructions;
 
 import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.locks.LockRequest;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -61,6 +62,11 @@ public class CreateDatabaseInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.writeDatabase(arguments.getString("name"));
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
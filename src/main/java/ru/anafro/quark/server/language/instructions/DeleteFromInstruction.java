@@ -1,5 +1,7 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
+import ru.anafro.quark.server.database.data.transactions.Transactions;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -64,6 +66,11 @@ public class DeleteFromInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.change(arguments.getString("table"));
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
@@ -83,6 +90,13 @@ public class DeleteFromInstruction extends Instruction {
         var table = arguments.getTable();
         var selector = arguments.getSelector();
         var limiter = arguments.getLimiter();
+        var transaction = Transactions.current();
+
+        if (transaction.isPresent()) {
+            transaction.get().delete(table, selector, limiter);
+            result.ok("Records will be deleted on commit.");
+            return;
+        }
 
         table.delete(selector, limiter);
         result.ok("Records are deleted.");
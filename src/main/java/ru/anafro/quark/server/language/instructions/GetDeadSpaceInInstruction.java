@@ -0,0 +1,41 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.database.data.locks.LockRequest;
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+
+import static ru.anafro.quark.server.language.InstructionParameter.general;
+
+public class GetDeadSpaceInInstruction extends Instruction {
+    /**
+     * Creates a new instruction object. You should not use it anywhere
+     * but in the registering ({@code Quark.instructions().add(new YourInstruction()}).
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public GetDeadSpaceInInstruction() {
+        super(
+                "get dead space in",
+                "Shows how much of the table file is taken by the deleted records waiting for the vacuum",
+                "table.get dead space",
+
+                general("table")
+        );
+    }
+
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.read(arguments.getString("table"));
+    }
+
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var deadSpace = arguments.getTable().getDeadSpace();
+
+        result.header("dead records", "dead bytes", "total bytes", "dead ratio");
+        result.row(deadSpace.deadRecords(), deadSpace.deadBytes(), deadSpace.totalBytes(), deadSpace.ratio());
+        result.ok("The dead space is returned.");
+    }
+}
@@ -0,0 +1,102 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.database.data.locks.LockRequest;
+import ru.anafro.quark.server.database.data.transfer.RecordFormat;
+import ru.anafro.quark.server.database.data.transfer.TableImporter;
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.files.TransferDirectory;
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+
+import static ru.anafro.quark.server.language.InstructionParameter.general;
+import static ru.anafro.quark.server.language.InstructionParameter.optional;
+import static ru.anafro.quark.server.language.InstructionParameter.required;
+
+/**
+ * This class represents the import into instruction of Quark QL.
+ * <br><br>
+ * <p>
+ * Note that you should not create instances of this class
+ * by your own. Instead, use {@code Quark.instructions().get("import into"); }
+ * to get an instance of this class.
+ *
+ * <br><br>
+ * <p>
+ * You can check out the syntax of this instruction by running
+ * <pre>
+ * {@code
+ * Quark.instructions().get("import into").getSyntax();
+ * }
+ * </pre>
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public class ImportIntoInstruction extends Instruction {
+
+    /**
+     * Creates a new instance of the import into instruction
+     * representing object.
+     * <br><br>
+     * <p>
+     * Note that you should not create instances of this class
+     * by your own. Instead, use Quark.instructions().get("import into");
+     * to get an instance of this class.
+     * <br><br>
+     * <p>
+     * You can check out the syntax of this instruction by running
+     * <pre>
+     * {@code
+     * Quark.instructions().get("import into").getSyntax();
+     * }
+     * </pre>
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public ImportIntoInstruction() {
+        super("import into",
+
+                "Imports records to a table from a CSV or JSON Lines file in the Transfers folder",
+
+                "table.import",
+
+                general("table"),
+
+                required("path", "str"),
+                optional("format", "str")
+        );
+    }
+
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.change(arguments.getString("table"));
+    }
+
+    /**
+     * Runs the action of this instruction with passed in arguments.
+     * <br><br>
+     * <p>
+     * You can check out the syntax of this instruction by running
+     * <pre>
+     * {@code
+     * Quark.instructions().get("import into").getSyntax();
+     * }
+     * </pre>
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var table = arguments.getTable();
+        var path = TransferDirectory.getInstance().resolve(arguments.getString("path"));
+        var format = arguments.tryGetString("format").map(RecordFormat::byName).orElseGet(() -> RecordFormat.byFilename(path.toString()));
+        var importer = new TableImporter(table, path, format);
+
+        var importedRecords = importer.importRecords(records -> Quark.logger().info(STR."\{records} records have been imported to \{table.getName()} so far."));
+        result.ok(STR."\{importedRecords} records have been imported.");
+    }
+}
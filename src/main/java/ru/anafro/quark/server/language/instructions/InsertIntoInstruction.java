@@ -1,9 +1,13 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
+import ru.anafro.quark.server.database.data.transactions.Transactions;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
 
+import java.util.List;
+
 import static ru.anafro.quark.server.language.InstructionParameter.general;
 import static ru.anafro.quark.server.language.InstructionParameter.required;
 
@@ -63,6 +67,11 @@ public class InsertIntoInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.change(arguments.getString("table"));
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
@@ -81,6 +90,13 @@ public class InsertIntoInstruction extends Instruction {
     protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
         var table = arguments.getTable();
         var record = arguments.getRecord(table);
+        var transaction = Transactions.current();
+
+        if (transaction.isPresent()) {
+            transaction.get().insert(table, List.of(record));
+            result.ok("A record will be inserted on commit.");
+            return;
+        }
 
         table.insert(record);
         result.ok("A record has been inserted.");
@@ -0,0 +1,102 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.database.data.locks.LockRequest;
+import ru.anafro.quark.server.database.data.transactions.Transactions;
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+
+import static ru.anafro.quark.server.language.InstructionParameter.general;
+import static ru.anafro.quark.server.language.InstructionParameter.required;
+
+/**
+ * This class represents the insert many into instruction of Quark QL.
+ * <br><br>
+ * <p>
+ * Note that you should not create instances of this class
+ * by your own. Instead, use {@code Quark.instructions().get("insert many into"); }
+ * to get an instance of this class.
+ *
+ * <br><br>
+ * <p>
+ * You can check out the syntax of this instruction by running
+ * <pre>
+ * {@code
+ * Quark.instructions().get("insert many into").getSyntax();
+ * }
+ * </pre>
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public class InsertManyIntoInstruction extends Instruction {
+
+    /**
+     * Creates a new instance of the insert many into instruction
+     * representing object.
+     * <br><br>
+     * <p>
+     * Note that you should not create instances of this class
+     * by your own. Instead, use Quark.instructions().get("insert many into");
+     * to get an instance of this class.
+     * <br><br>
+     * <p>
+     * You can check out the syntax of this instruction by running
+     * <pre>
+     * {@code
+     * Quark.instructions().get("insert many into").getSyntax();
+     * }
+     * </pre>
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public InsertManyIntoInstruction() {
+        super("insert many into",
+
+                "Inserts several records to a table at once",
+
+                "table.insert",
+
+                general("table"),
+
+                required("records", "list of record")
+        );
+    }
+
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.change(arguments.getString("table"));
+    }
+
+    /**
+     * Runs the action of this instruction with passed in arguments.
+     * <br><br>
+     * <p>
+     * You can check out the syntax of this instruction by running
+     * <pre>
+     * {@code
+     * Quark.instructions().get("insert many into").getSyntax();
+     * }
+     * </pre>
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var table = arguments.getTable();
+        var records = arguments.getRecords(table);
+        var transaction = Transactions.current();
+
+        if (transaction.isPresent()) {
+            transaction.get().insert(table, records);
+            result.ok(STR."\{records.size()} records will be inserted on commit.");
+            return;
+        }
+
+        table.insertAll(records);
+        result.ok(STR."\{records.size()} records have been inserted.");
+    }
+}
@@ -0,0 +1,36 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+import ru.anafro.quark.server.language.queries.RunningQueries;
+
+public class ListRunningQueriesInstruction extends Instruction {
+    /**
+     * Creates a new instruction object. You should not use it anywhere
+     * but in the registering ({@code Quark.instructions().add(new YourInstruction()}).
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public ListRunningQueriesInstruction() {
+        super(
+                "list running queries",
+                "Lists the queries being run",
+                "server.queries"
+        );
+    }
+
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var queries = RunningQueries.list();
+
+        result.header("id", "instruction", "session", "running for", "timeout", "memory");
+
+        for (var query : queries) {
+            result.row(query.getId(), query.getInstructionName(), query.getSession(), query.getElapsedTime().getMilliseconds(), query.getTimeout().getMilliseconds(), query.getMemoryBudget().getReservedBytes());
+        }
+
+        result.ok(STR."\{queries.size()} queries are running.");
+    }
+}
@@ -1,5 +1,6 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.locks.LockRequest;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -62,6 +63,11 @@ public class RenameDatabaseInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        locks.writeDatabase(arguments.getString("old")).writeDatabase(arguments.getString("new"));
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
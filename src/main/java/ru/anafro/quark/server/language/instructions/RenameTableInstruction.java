@@ -1,5 +1,7 @@
 package ru.anafro.quark.server.language.instructions;
 
+import ru.anafro.quark.server.database.data.TableName;
+import ru.anafro.quark.server.database.data.locks.LockRequest;
 import ru.anafro.quark.server.language.Instruction;
 import ru.anafro.quark.server.language.InstructionArguments;
 import ru.anafro.quark.server.language.InstructionResultRecorder;
@@ -63,6 +65,14 @@ public class RenameTableInstruction extends Instruction {
         );
     }
 
+    @Override
+    protected void requestLocks(InstructionArguments arguments, LockRequest locks) {
+        var oldName = arguments.getTableName("old");
+        var newName = new TableName(oldName.getDatabaseName(), arguments.getString("new"));
+
+        locks.write(oldName).write(newName);
+    }
+
     /**
      * Runs the action of this instruction with passed in arguments.
      * <br><br>
@@ -0,0 +1,30 @@
+package ru.anafro.quark.server.language.instructions;
+
+import ru.anafro.quark.server.database.data.transactions.Transactions;
+import ru.anafro.quark.server.language.Instruction;
+import ru.anafro.quark.server.language.InstructionArguments;
+import ru.anafro.quark.server.language.InstructionResultRecorder;
+import ru.anafro.quark.server.security.TokenPermission;
+
+public class RollbackInstruction extends Instruction {
+    /**
+     * Creates a new instruction object. You should not use it anywhere
+     * but in the registering ({@code Quark.instructions().add(new YourInstruction()}).
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public RollbackInstruction() {
+        super(
+                "rollback",
+                "Drops the changes of the transaction without applying them",
+                TokenPermission.ALLOWED_FOR_ALL_TOKENS
+        );
+    }
+
+    @Override
+    protected void performAction(InstructionArguments arguments, InstructionResultRecorder result) {
+        var transaction = Transactions.end();
+        result.ok(STR."The transaction is rolled back, \{transaction.countChanges()} changes are dropped.");
+    }
+}
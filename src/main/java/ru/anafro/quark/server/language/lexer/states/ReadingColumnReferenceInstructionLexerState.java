@@ -0,0 +1,52 @@
+package ru.anafro.quark.server.language.lexer.states;
+
+import ru.anafro.quark.server.language.exceptions.InstructionSyntaxException;
+import ru.anafro.quark.server.language.hints.InstructionHint;
+import ru.anafro.quark.server.language.lexer.InstructionLexer;
+import ru.anafro.quark.server.language.lexer.tokens.ColumnReferenceInstructionToken;
+import ru.anafro.quark.server.utils.collections.Lists;
+
+import java.util.List;
+
+public class ReadingColumnReferenceInstructionLexerState extends InstructionLexerState {
+    private boolean prefixFound = false;
+
+    public ReadingColumnReferenceInstructionLexerState(InstructionLexer lexer, InstructionLexerState previousState) {
+        super(lexer, previousState);
+        skipLexerIgnoredCharacters();
+    }
+
+    @Override
+    public void handleCharacter(char currentCharacter) {
+        stopSkippingLexerIgnoredCharacters();
+
+        if (!prefixFound) {
+            logger.debug("Found ':', it's a column reference. Reading the column name");
+            prefixFound = true;
+        } else if (currentCharacter == ',' || currentCharacter == ')' || currentCharacter == ';') {
+            var columnName = lexer.extractBufferContent().strip();
+
+            if (columnName.isEmpty()) {
+                throw new InstructionSyntaxException(this, lexer.getInstruction(), "The column reference has no column name", STR."Put a column name after \{ColumnReferenceInstructionToken.COLUMN_REFERENCE_PREFIX}", lexer.getCurrentCharacterIndex(), 1);
+            }
+
+            logger.debug("Reading the column reference is completed. Restoring the state");
+            lexer.pushToken(new ColumnReferenceInstructionToken(columnName));
+            lexer.letTheNextStateStartFromCurrentCharacter();
+            lexer.restoreState();
+        } else {
+            lexer.pushCurrentCharacterToBuffer();
+        }
+    }
+
+    @Override
+    public void handleBufferTrash() {
+        var instruction = lexer.getInstruction();
+        throw new InstructionSyntaxException(this, instruction, "The column reference is incomplete", "Complete the column reference", instruction.length() - 1, 1);
+    }
+
+    @Override
+    public List<InstructionHint> makeHints() {
+        return Lists.empty();
+    }
+}
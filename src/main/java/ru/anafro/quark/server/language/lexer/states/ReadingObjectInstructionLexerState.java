@@ -3,6 +3,7 @@ package ru.anafro.quark.server.language.lexer.states;
 import ru.anafro.quark.server.language.exceptions.InstructionSyntaxException;
 import ru.anafro.quark.server.language.hints.InstructionHint;
 import ru.anafro.quark.server.language.lexer.InstructionLexer;
+import ru.anafro.quark.server.language.lexer.tokens.ColumnReferenceInstructionToken;
 import ru.anafro.quark.server.language.lexer.tokens.ConstructorNameInstructionToken;
 import ru.anafro.quark.server.language.lexer.tokens.StringLiteralInstructionToken;
 import ru.anafro.quark.server.facade.Quark;
@@ -26,6 +27,8 @@ public class ReadingObjectInstructionLexerState extends InstructionLexerState {
 
         if (currentCharacter == ConstructorNameInstructionToken.CONSTRUCTOR_PREFIX) {
             lexer.switchState(new ReadingConstructorNameInstructionLexerState(lexer, getPreviousState()));
+        } else if (currentCharacter == ColumnReferenceInstructionToken.COLUMN_REFERENCE_PREFIX) {
+            lexer.switchState(new ReadingColumnReferenceInstructionLexerState(lexer, getPreviousState()));
         } else if (currentCharacter == StringLiteralInstructionToken.STRING_LITERAL_QUOTE) {
             lexer.switchState(new ReadingStringInstructionLexerState(lexer, getPreviousState()));
         } else if (Character.isDigit(currentCharacter) || Arrays.contains(new Character[]{'+', '-'}, currentCharacter)) {
@@ -0,0 +1,13 @@
+package ru.anafro.quark.server.language.lexer.tokens;
+
+public class ColumnReferenceInstructionToken extends InstructionToken {
+    public static final char COLUMN_REFERENCE_PREFIX = ':';
+
+    public ColumnReferenceInstructionToken(String columnName) {
+        super("column reference", columnName);
+    }
+
+    public String getColumnName() {
+        return getValue();
+    }
+}
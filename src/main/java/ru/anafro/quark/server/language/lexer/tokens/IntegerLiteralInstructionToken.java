@@ -10,6 +10,6 @@ public class IntegerLiteralInstructionToken extends LiteralInstructionToken {
 
     @Override
     public IntegerEntity toEntity() {
-        return new IntegerEntity(Converter.toInteger(getValue()));
+        return IntegerEntity.of(Converter.toInteger(getValue()));
     }
 }
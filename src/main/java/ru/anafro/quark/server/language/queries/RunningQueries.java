@@ -0,0 +1,134 @@
+package ru.anafro.quark.server.language.queries;
+
+import ru.anafro.quark.server.database.data.transactions.Transactions;
+import ru.anafro.quark.server.database.memory.MemoryBudget;
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.queries.exceptions.RunningQueryNotFoundException;
+import ru.anafro.quark.server.utils.time.TimeSpan;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps track of the queries being run, so they can be listed and cancelled.
+ * <br><br>
+ * <p>
+ * A query runs on one thread, which knows the query it runs. The queries run
+ * by another query, like the ones evaluating entities, are a part of it.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see RunningQuery
+ * @since Quark 3.0
+ */
+public final class RunningQueries {
+    private static final AtomicLong lastId = new AtomicLong();
+    private static final Map<Long, RunningQuery> queries = new ConcurrentHashMap<>();
+    private static final ThreadLocal<RunningQuery> current = new ThreadLocal<>();
+
+    private RunningQueries() {
+    }
+
+    /**
+     * Runs a query, which can be cancelled meanwhile.
+     *
+     * @param instructionName the name of the instruction of the query.
+     * @param timeout         how long the query can run, or an instant time span to run it as long as it needs.
+     * @param action          the action running the query.
+     * @param <T>             the type of the result.
+     * @return the result of the query.
+     */
+    public static <T> T run(String instructionName, TimeSpan timeout, Supplier<T> action) {
+        if (current.get() != null) {
+            return action.get();
+        }
+
+        var query = new RunningQuery(lastId.incrementAndGet(), instructionName, Transactions.currentSession(), timeout, getDefaultMemoryBudget());
+
+        queries.put(query.getId(), query);
+        current.set(query);
+
+        try {
+            return action.get();
+        } finally {
+            current.remove();
+            queries.remove(query.getId());
+        }
+    }
+
+    /**
+     * Returns the timeout of the queries which requests do not set their own one,
+     * set by the {@code queryTimeout} option of the configuration.
+     *
+     * @return the default timeout.
+     */
+    public static TimeSpan getDefaultTimeout() {
+        var configuration = Quark.configuration();
+
+        if (configuration == null) {
+            return TimeSpan.milliseconds(0);
+        }
+
+        return TimeSpan.milliseconds(configuration.getQueryTimeout());
+    }
+
+    /**
+     * Returns a new memory budget of a query, limited by the {@code queryMemoryBudget}
+     * option of the configuration.
+     *
+     * @return the memory budget.
+     */
+    public static MemoryBudget getDefaultMemoryBudget() {
+        var configuration = Quark.configuration();
+
+        if (configuration == null) {
+            return MemoryBudget.unlimited();
+        }
+
+        return MemoryBudget.megabytes(configuration.getQueryMemoryBudget());
+    }
+
+    public static Optional<RunningQuery> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Stops the query run by the current thread, if it is cancelled or its deadline
+     * is passed. Call it from the loops which can take long.
+     *
+     * @throws ru.anafro.quark.server.language.queries.exceptions.QueryCancelledException if the query is cancelled.
+     * @throws ru.anafro.quark.server.language.queries.exceptions.QueryTimedOutException  if the deadline of the query is passed.
+     */
+    public static void checkpoint() {
+        var query = current.get();
+
+        if (query != null) {
+            query.ensureIsNotStopped();
+        }
+    }
+
+    /**
+     * Cancels a running query. The query stops at its next checkpoint.
+     *
+     * @param id the id of the query.
+     * @throws RunningQueryNotFoundException if there is no running query with this id.
+     */
+    public static void cancel(long id) {
+        var query = queries.get(id);
+
+        if (query == null) {
+            throw new RunningQueryNotFoundException(id);
+        }
+
+        query.cancel();
+    }
+
+    public static List<RunningQuery> list() {
+        return queries.values().stream().sorted(Comparator.comparingLong(RunningQuery::getId)).toList();
+    }
+}
@@ -0,0 +1,104 @@
+package ru.anafro.quark.server.language.queries;
+
+import ru.anafro.quark.server.database.memory.MemoryBudget;
+import ru.anafro.quark.server.language.queries.exceptions.QueryCancelledException;
+import ru.anafro.quark.server.language.queries.exceptions.QueryTimedOutException;
+import ru.anafro.quark.server.utils.time.TimeSpan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A query being run, which can be cancelled by another query,
+ * or stopped when its deadline is passed.
+ * <br><br>
+ * <p>
+ * The cancellation is cooperative: the query is not interrupted, but the loops
+ * iterating over records and the selectors call {@link RunningQueries#checkpoint()},
+ * which stops the query from there.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see RunningQueries
+ * @since Quark 3.0
+ */
+public final class RunningQuery {
+    private final long id;
+    private final String instructionName;
+    private final String session;
+    private final TimeSpan timeout;
+    private final long startNanos = System.nanoTime();
+    private final long deadlineNanos;
+    private final MemoryBudget memoryBudget;
+    private volatile boolean isCancelled = false;
+
+    RunningQuery(long id, String instructionName, String session, TimeSpan timeout, MemoryBudget memoryBudget) {
+        this.id = id;
+        this.instructionName = instructionName;
+        this.session = session;
+        this.timeout = timeout;
+        this.memoryBudget = memoryBudget;
+        this.deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeout.getMilliseconds());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getInstructionName() {
+        return instructionName;
+    }
+
+    public String getSession() {
+        return session;
+    }
+
+    /**
+     * Returns how long the query can run, or an instant time span if it can run as long as it needs.
+     *
+     * @return the timeout.
+     */
+    public TimeSpan getTimeout() {
+        return timeout;
+    }
+
+    public TimeSpan getElapsedTime() {
+        return TimeSpan.milliseconds(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Returns the memory the query can hold in its results before spilling them to the disk.
+     *
+     * @return the memory budget.
+     */
+    public MemoryBudget getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public boolean hasDeadline() {
+        return timeout.isNotInstant();
+    }
+
+    public void cancel() {
+        this.isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Stops the query if it is cancelled or its deadline is passed.
+     *
+     * @throws QueryCancelledException if the query is cancelled.
+     * @throws QueryTimedOutException  if the deadline of the query is passed.
+     */
+    public void ensureIsNotStopped() {
+        if (isCancelled) {
+            throw new QueryCancelledException(this);
+        }
+
+        if (hasDeadline() && System.nanoTime() - deadlineNanos > 0) {
+            throw new QueryTimedOutException(this);
+        }
+    }
+}
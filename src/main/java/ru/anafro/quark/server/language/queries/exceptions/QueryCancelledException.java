@@ -0,0 +1,14 @@
+package ru.anafro.quark.server.language.queries.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+import ru.anafro.quark.server.language.queries.RunningQuery;
+
+public class QueryCancelledException extends DatabaseException {
+    public QueryCancelledException(RunningQuery query) {
+        this(STR."The query #\{query.getId()} (\{query.getInstructionName()}) has been cancelled.");
+    }
+
+    protected QueryCancelledException(String message) {
+        super(message);
+    }
+}
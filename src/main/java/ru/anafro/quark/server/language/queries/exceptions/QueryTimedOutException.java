@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.language.queries.exceptions;
+
+import ru.anafro.quark.server.language.queries.RunningQuery;
+
+public class QueryTimedOutException extends QueryCancelledException {
+    public QueryTimedOutException(RunningQuery query) {
+        super(STR."The query #\{query.getId()} (\{query.getInstructionName()}) has run longer than \{query.getTimeout().getMilliseconds()} milliseconds and is stopped.");
+    }
+}
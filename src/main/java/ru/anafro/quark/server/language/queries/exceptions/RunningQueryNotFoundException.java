@@ -0,0 +1,9 @@
+package ru.anafro.quark.server.language.queries.exceptions;
+
+import ru.anafro.quark.server.database.exceptions.DatabaseException;
+
+public class RunningQueryNotFoundException extends DatabaseException {
+    public RunningQueryNotFoundException(long id) {
+        super(STR."There is no running query #\{id}. It may have already finished.");
+    }
+}
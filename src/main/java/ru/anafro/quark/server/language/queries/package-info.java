@@ -0,0 +1,9 @@
+/**
+ * Contains the queries being run, which can be listed,
+ * cancelled or stopped by their deadlines.
+ *
+ * @since   Quark 3.0
+ * @version Quark 3.0
+ * @author  Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ */
+package ru.anafro.quark.server.language.queries;
@@ -14,6 +14,12 @@ public class BooleanType extends EntityType<BooleanEntity> {
 
     @Override
     public BooleanEntity makeEntity(String string) {
+        var recordForm = string.strip();
+
+        if (recordForm.equals(Boolean.TRUE.toString()) || recordForm.equals(Boolean.FALSE.toString())) {
+            return BooleanEntity.of(Boolean.parseBoolean(recordForm));
+        }
+
         var evaluatedEntity = Expressions.eval(string);
 
         if (evaluatedEntity.hasType(this)) {
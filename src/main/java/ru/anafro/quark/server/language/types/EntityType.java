@@ -6,6 +6,7 @@ import ru.anafro.quark.server.language.exceptions.EntityCannotBeCastedException;
 import ru.anafro.quark.server.facade.Quark;
 import ru.anafro.quark.server.utils.reflection.Reflection;
 
+import java.lang.invoke.MethodHandle;
 import java.util.List;
 
 import static ru.anafro.quark.server.utils.collections.Collections.list;
@@ -16,6 +17,7 @@ public abstract class EntityType<T extends Entity> {
     private final String name;
     private final List<String> canBeCastedFromTypes;
     private final Class<?> nativeType;
+    private volatile MethodHandle wrappingConstructor;
 
     public EntityType(String name, Class<?> nativeType, Class<T> entityType, String... canBeCastedFromTypes) {
         this.name = name;
@@ -25,13 +27,7 @@ public abstract class EntityType<T extends Entity> {
     }
 
     public static EntityType<?> fromClass(Class<?> nativeType) {
-        for (var type : Quark.types()) {
-            if (type.canWrapType(nativeType)) {
-                return type;
-            }
-        }
-
-        return null;
+        return Quark.types().getWrappingTypeOf(nativeType);
     }
 
     public String getName() {
@@ -133,7 +129,18 @@ public abstract class EntityType<T extends Entity> {
             return null;
         }
 
-        return Reflection.newInstance(Reflection.getConstructor(entityType, nativeType), object);
+        return entityType.cast(Reflection.invoke(getWrappingConstructor(), object));
+    }
+
+    private MethodHandle getWrappingConstructor() {
+        var wrappingConstructor = this.wrappingConstructor;
+
+        if (wrappingConstructor == null) {
+            wrappingConstructor = Reflection.getConstructorHandle(entityType, nativeType);
+            this.wrappingConstructor = wrappingConstructor;
+        }
+
+        return wrappingConstructor;
     }
 
     public boolean hasNativeType() {
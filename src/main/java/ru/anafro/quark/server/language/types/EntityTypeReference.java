@@ -0,0 +1,39 @@
+package ru.anafro.quark.server.language.types;
+
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.utils.patterns.exceptions.ObjectIsMissingInRegistryException;
+
+/**
+ * A reference to a registered type, resolved by its name on the first use
+ * and kept afterward. Entity classes hold one as a static field,
+ * so creating an entity doesn't look its type up in the registry.
+ *
+ * @since Quark 3.0
+ */
+public final class EntityTypeReference {
+    private final String typeName;
+    private volatile EntityType<?> type;
+
+    private EntityTypeReference(String typeName) {
+        this.typeName = typeName;
+    }
+
+    public static EntityTypeReference reference(String typeName) {
+        return new EntityTypeReference(typeName);
+    }
+
+    public EntityType<?> get() {
+        var type = this.type;
+
+        if (type == null) {
+            type = Quark.types().getOrThrow(typeName, () -> new ObjectIsMissingInRegistryException("Type %s is not exist. Did you mean %s?".formatted(typeName, Quark.types().suggest(typeName).getName())));
+            this.type = type;
+        }
+
+        return type;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+}
@@ -11,7 +11,7 @@ public class IntegerType extends EntityType<IntegerEntity> {
 
     @Override
     public IntegerEntity makeEntity(String string) {
-        return new IntegerEntity(Converter.toInteger(string));
+        return IntegerEntity.of(Converter.toInteger(string));
     }
 
     @Override
@@ -14,14 +14,14 @@ public class NullType extends EntityType<NullEntity> {
 
     @Override
     public NullEntity wrap(Object object) {
-        return new NullEntity();
+        return NullEntity.any();
     }
 
     @Override
     public NullEntity makeEntity(String string) {
         Quark.logger().warning(STR."NullType.makeEntity(String) is called. NullType is going to ignore the value '\{string}' passed in and it will return null in any case.");
 
-        return new NullEntity("any");
+        return NullEntity.any();
     }
 
     @Override
@@ -38,6 +38,6 @@ public class NullType extends EntityType<NullEntity> {
 
     @Override
     protected Entity castOrNull(Entity entity) {
-        return new NullEntity(entity.getTypeName());
+        return NullEntity.of(entity.getTypeName());
     }
 }
@@ -2,9 +2,46 @@ package ru.anafro.quark.server.language.types;
 
 import ru.anafro.quark.server.utils.patterns.NamedObjectsList;
 
+import java.util.Optional;
+
 public class TypeList extends NamedObjectsList<EntityType<?>> {
+    private volatile ClassValue<Optional<EntityType<?>>> wrappingTypes = makeWrappingTypes();
+
     @Override
     protected String getNameOf(EntityType<?> type) {
         return type.getName();
     }
+
+    @Override
+    public synchronized void add(EntityType<?> type) {
+        super.add(type);
+        wrappingTypes = makeWrappingTypes();
+    }
+
+    /**
+     * Returns the first registered type that can wrap objects of a native class.
+     * The answer is computed once per class and kept until a new type is registered.
+     *
+     * @param nativeType the native class.
+     * @return the type wrapping the class, or {@code null} if no type can wrap it.
+     * @since Quark 3.0
+     */
+    public EntityType<?> getWrappingTypeOf(Class<?> nativeType) {
+        return wrappingTypes.get(nativeType).orElse(null);
+    }
+
+    private ClassValue<Optional<EntityType<?>>> makeWrappingTypes() {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<EntityType<?>> computeValue(Class<?> nativeType) {
+                for (var type : TypeList.this) {
+                    if (type.canWrapType(nativeType)) {
+                        return Optional.of(type);
+                    }
+                }
+
+                return Optional.empty();
+            }
+        };
+    }
 }
@@ -1,7 +1,6 @@
 package ru.anafro.quark.server.multithreading;
 
 import ru.anafro.quark.server.multithreading.exceptions.ServiceExistsException;
-import ru.anafro.quark.server.scheduling.ServiceLoader;
 import ru.anafro.quark.server.utils.collections.Maps;
 
 import java.util.Collections;
@@ -72,10 +71,4 @@ public class ServiceManager {
         add(service);
         start(service);
     }
-
-    public void addAll(ServiceLoader serviceLoader) {
-        for (var service : serviceLoader) {
-            add(service);
-        }
-    }
 }
@@ -33,7 +33,7 @@ public final class Threads {
      * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
      * @since Quark 1.1
      */
-    public synchronized static void sleepFor(TimeSpan delay) {
+    public static void sleepFor(TimeSpan delay) {
         try {
             Thread.sleep(delay.getMilliseconds());
         } catch (InterruptedException exception) {
@@ -41,7 +41,7 @@ public final class Threads {
         }
     }
 
-    public synchronized static void repeatWithInterval(Consumer<TimeSpan> action, TimeSpan duration, TimeSpan interval) {
+    public static void repeatWithInterval(Consumer<TimeSpan> action, TimeSpan duration, TimeSpan interval) {
         var timeLeft = duration.copy();
 
         while (timeLeft.isNotInstant()) {
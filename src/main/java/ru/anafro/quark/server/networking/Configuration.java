@@ -5,6 +5,9 @@ import com.google.gson.annotations.SerializedName;
 import ru.anafro.quark.server.utils.files.JsonFile;
 
 public class Configuration {
+    public static final int DEFAULT_PARALLEL_SCAN_THRESHOLD = 10_000;
+    public static final long DEFAULT_QUERY_MEMORY_BUDGET = 256;
+    public static final long DEFAULT_TRANSACTION_TIMEOUT = 600_000;
     @SerializedName("stringHashingFunction")
     private final String stringHashingFunction = "default";
     @SerializedName("integerHashingFunction")
@@ -15,6 +18,16 @@ public class Configuration {
     private String name = "Unnamed Quark Server";
     @SerializedName("port")
     private int port = 10000;
+    @SerializedName("vacuumThreshold")
+    private double vacuumThreshold = 0.3;
+    @SerializedName("parallelScanThreshold")
+    private int parallelScanThreshold = DEFAULT_PARALLEL_SCAN_THRESHOLD;
+    @SerializedName("queryTimeout")
+    private long queryTimeout = 0;
+    @SerializedName("queryMemoryBudget")
+    private long queryMemoryBudget = DEFAULT_QUERY_MEMORY_BUDGET;
+    @SerializedName("transactionTimeout")
+    private long transactionTimeout = DEFAULT_TRANSACTION_TIMEOUT;
 
     public static Configuration load(String path) {
         var file = new JsonFile(path);
@@ -70,6 +83,62 @@ public class Configuration {
         this.port = port;
     }
 
+    /**
+     * Returns the part of the records file of a table the deleted records
+     * must take for the table to be vacuumed.
+     *
+     * @return the vacuum threshold from 0 to 1.
+     * @since Quark 3.0
+     */
+    public double getVacuumThreshold() {
+        return vacuumThreshold;
+    }
+
+    /**
+     * Returns the number of records a table must have for its scans,
+     * like {@code select from} and {@code count in}, to be split
+     * between several threads. Smaller tables are scanned by one thread.
+     *
+     * @return the parallel scan threshold.
+     * @since Quark 3.0
+     */
+    public int getParallelScanThreshold() {
+        return parallelScanThreshold;
+    }
+
+    /**
+     * Returns how long a query can run, unless its request sets its own timeout.
+     *
+     * @return the query timeout in milliseconds, or 0 if the queries can run as long as they need.
+     * @since Quark 3.0
+     */
+    public long getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    /**
+     * Returns how much memory a query can hold in its results, like the selected
+     * records and the rows of its table view. The results exceeding it are spilled
+     * to temporary files.
+     *
+     * @return the query memory budget in megabytes, or 0 if the results are always kept in memory.
+     * @since Quark 3.0
+     */
+    public long getQueryMemoryBudget() {
+        return queryMemoryBudget;
+    }
+
+    /**
+     * Returns how long a transaction can stay unused before it expires,
+     * like when its client has disconnected without committing or rolling it back.
+     *
+     * @return the transaction timeout in milliseconds, or 0 if the transactions never expire.
+     * @since Quark 3.0
+     */
+    public long getTransactionTimeout() {
+        return transactionTimeout;
+    }
+
     private void setFile(JsonFile file) {
         this.file = file;
     }
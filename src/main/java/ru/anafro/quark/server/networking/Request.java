@@ -2,8 +2,11 @@ package ru.anafro.quark.server.networking;
 
 import org.json.JSONException;
 import org.json.JSONObject;
+import ru.anafro.quark.server.database.data.transactions.Session;
 import ru.anafro.quark.server.language.Query;
+import ru.anafro.quark.server.language.queries.RunningQueries;
 import ru.anafro.quark.server.security.Token;
+import ru.anafro.quark.server.utils.time.TimeSpan;
 
 import java.util.Map;
 
@@ -47,6 +50,44 @@ public class Request {
         return new Token(data.getString("token"));
     }
 
+    /**
+     * Returns the session the request is run in, owned by the token of the request.
+     * The session is named in the request, or it is an anonymous one used by
+     * this request only.
+     *
+     * @return the session.
+     * @since Quark 3.0
+     */
+    public Session getSession() {
+        var owner = STR."Token \{data.optString("token")}";
+
+        if (data.has("session")) {
+            return Session.named(data.optString("session"), owner);
+        }
+
+        return Session.anonymous(owner);
+    }
+
+    /**
+     * Returns how long the query of the request can run. A request can set a shorter
+     * timeout in milliseconds than the default one of the server, but it can never
+     * lift or extend the server limit. Without the server limit, any positive timeout
+     * of the request is used.
+     *
+     * @return the timeout.
+     * @since Quark 3.0
+     */
+    public TimeSpan getTimeout() {
+        var serverTimeout = RunningQueries.getDefaultTimeout();
+        var requestTimeout = data.optLong("timeout", 0);
+
+        if (requestTimeout > 0 && (!serverTimeout.isNotInstant() || requestTimeout <= serverTimeout.getMilliseconds())) {
+            return TimeSpan.milliseconds(requestTimeout);
+        }
+
+        return serverTimeout;
+    }
+
     public boolean isQueryNotParsed() {
         return query == null;
     }
@@ -1,5 +1,6 @@
 package ru.anafro.quark.server.networking;
 
+import ru.anafro.quark.server.database.data.transactions.Transactions;
 import ru.anafro.quark.server.exceptions.QuarkException;
 import ru.anafro.quark.server.facade.Quark;
 import ru.anafro.quark.server.language.lexer.InstructionLexer;
@@ -24,8 +25,8 @@ import java.util.ArrayList;
  * handling functionality.
  */
 public final class Server extends Service {
-    private final InstructionLexer lexer = new InstructionLexer();
-    private final InstructionParser parser = new InstructionParser();
+    private final ThreadLocal<InstructionLexer> lexer = ThreadLocal.withInitial(InstructionLexer::new);
+    private final ThreadLocal<InstructionParser> parser = ThreadLocal.withInitial(InstructionParser::new);
     private final ArrayList<Middleware> middlewares = Lists.empty();
     private final Logger logger = new Logger(this.getClass());
     private volatile boolean isRunning = false;
@@ -47,7 +48,7 @@ public final class Server extends Service {
      */
     public Response respond(Request request) {
         try {
-            return Response.make(request.getQuery().execute());
+            return Response.make(request.getQuery().execute(request.getTimeout()));
         } catch (QuarkException exception) {
             return Response.syntaxError(exception);
         } catch (Exception exception) {
@@ -56,8 +57,9 @@ public final class Server extends Service {
     }
 
     /**
-     * It starts a server on a given port, waits for a client to connect, collects a message from the
-     * client, makes a request, runs middlewares, and sends a response
+     * It starts a server on a given port, waits for clients to connect, and handles
+     * every client in its own virtual thread, so the queries of different clients
+     * run in parallel. The table locks taken by the instructions keep them consistent.
      */
     @Override
     public void start() {
@@ -71,7 +73,18 @@ public final class Server extends Service {
         while (this.isRunning()) {
             try {
                 var client = new Client(Networking.acceptClientSocket(socket));
-                var request = client.receiveRequest();
+                Thread.ofVirtual().name("Client").start(() -> handle(client));
+            } catch (NetworkingException exception) {
+                logger.warning(exception.getMessage());
+            }
+        }
+    }
+
+    private void handle(Client client) {
+        try {
+            var request = client.receiveRequest();
+
+            Transactions.runInSession(request.getSession(), () -> {
                 var middlewareResponse = passThroughMiddlewares(request);
 
                 if (middlewareResponse.isPassed()) {
@@ -79,9 +92,9 @@ public final class Server extends Service {
                 } else {
                     client.send(middlewareResponse);
                 }
-            } catch (NetworkingException exception) {
-                logger.warning(exception.getMessage());
-            }
+            });
+        } catch (NetworkingException exception) {
+            logger.warning(exception.getMessage());
         }
     }
 
@@ -126,12 +139,24 @@ public final class Server extends Service {
         return isRunning;
     }
 
+    /**
+     * Returns the instruction lexer of the current thread.
+     * The lexers are not thread-safe, so every thread has its own one.
+     *
+     * @return the lexer.
+     */
     public InstructionLexer getLexer() {
-        return lexer;
+        return lexer.get();
     }
 
+    /**
+     * Returns the instruction parser of the current thread.
+     * The parsers are not thread-safe, so every thread has its own one.
+     *
+     * @return the parser.
+     */
     public InstructionParser getParser() {
-        return parser;
+        return parser.get();
     }
 
     public Logger getLogger() {
@@ -1,22 +1,53 @@
 package ru.anafro.quark.server.scheduling;
 
-import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.console.Command;
+import ru.anafro.quark.server.console.CommandArguments;
+import ru.anafro.quark.server.console.Console;
+import ru.anafro.quark.server.console.parser.CommandParser;
 import ru.anafro.quark.server.utils.time.TimeSpan;
 
 public class CommandRepeater extends Repeater {
     private final String command;
+    private volatile ParsedCommand parsedCommand;
 
     public CommandRepeater(String command, TimeSpan interval) {
-        super(interval);
+        super(interval, ScheduleMode.FIXED_RATE);
         this.command = command;
     }
 
+    /**
+     * Parses a command without running it, so a malformed
+     * command is rejected before it is scheduled.
+     *
+     * @param command the command.
+     * @return the parsed command with its arguments.
+     * @since Quark 3.0
+     */
+    public static ParsedCommand parse(String command) {
+        var parser = new CommandParser();
+        var parsedCommand = parser.parse(command);
+
+        return new ParsedCommand(parsedCommand, parser.getArguments());
+    }
+
+    /**
+     * Runs the command. The command is parsed on the first run,
+     * and the parsed command is reused by the next runs.
+     */
     @Override
     public void performAction() {
-        Quark.runCommand(command);
+        if (parsedCommand == null) {
+            parsedCommand = parse(command);
+        }
+
+        parsedCommand.command().run(parsedCommand.arguments());
+        Console.breakLine();
     }
 
     public String getCommand() {
         return command;
     }
+
+    public record ParsedCommand(Command command, CommandArguments arguments) {
+    }
 }
@@ -1,19 +1,34 @@
 package ru.anafro.quark.server.scheduling;
 
-import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.language.CompiledQuery;
 import ru.anafro.quark.server.utils.time.TimeSpan;
 
 public class InstructionRepeater extends Repeater {
     private final String instruction;
+    private volatile CompiledQuery compiledQuery;
 
     public InstructionRepeater(String query, TimeSpan interval) {
-        super(interval);
+        super(interval, ScheduleMode.FIXED_RATE);
         this.instruction = query;
     }
 
+    public InstructionRepeater(CompiledQuery query, TimeSpan interval) {
+        this(query.getText(), interval);
+        this.compiledQuery = query;
+    }
+
+    /**
+     * Runs the query. The query is compiled on the first run, when
+     * the instructions and constructors of the plugins are registered,
+     * and the compiled query is reused by the next runs.
+     */
     @Override
     public void performAction() {
-        Quark.query(instruction);
+        if (compiledQuery == null) {
+            compiledQuery = CompiledQuery.compile(instruction);
+        }
+
+        compiledQuery.execute();
     }
 
     public String getInstruction() {
@@ -1,31 +1,147 @@
 package ru.anafro.quark.server.scheduling;
 
-import ru.anafro.quark.server.multithreading.Service;
-import ru.anafro.quark.server.multithreading.Threads;
 import ru.anafro.quark.server.utils.time.TimeSpan;
+import ru.anafro.quark.server.utils.types.classes.Classes;
 
-public abstract class Repeater extends Service {
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An action run by the {@link Scheduler} again and again with an interval.
+ * <br><br>
+ * <p>
+ * The repeater remembers how long its last run took and how late it started,
+ * so the scheduled tasks slowing the server down can be found.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 1.1
+ */
+public abstract class Repeater {
     private final TimeSpan interval;
-    private boolean isRunning = false;
+    private final ScheduleMode mode;
+    private final AtomicBoolean isPerforming = new AtomicBoolean();
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong skippedRunCount = new AtomicLong();
+    private volatile long lastDurationNanos;
+    private volatile long lastLagNanos;
+    private volatile long nextRunNanos;
+    private volatile boolean isStopped;
+    private volatile Future<?> future;
 
     public Repeater(TimeSpan interval) {
+        this(interval, ScheduleMode.FIXED_DELAY);
+    }
+
+    public Repeater(TimeSpan interval, ScheduleMode mode) {
         this.interval = interval;
+        this.mode = mode;
     }
 
-    @Override
-    public void start() {
-        this.isRunning = true;
+    public abstract void performAction();
+
+    public void stop() {
+        this.isStopped = true;
 
-        while (this.isRunning) {
-            Threads.sleepFor(interval);
-            this.performAction();
+        if (future != null) {
+            future.cancel(false);
         }
     }
 
-    public abstract void performAction();
+    public String getName() {
+        return Classes.getHumanReadableClassName(this);
+    }
 
-    @SuppressWarnings("unused")
-    public void stop() {
-        this.isRunning = false;
+    public TimeSpan getInterval() {
+        return interval;
+    }
+
+    public ScheduleMode getMode() {
+        return mode;
+    }
+
+    public boolean isStopped() {
+        return isStopped;
+    }
+
+    /**
+     * Returns how long the last run of the action took.
+     *
+     * @return the duration of the last run.
+     * @since Quark 3.0
+     */
+    public TimeSpan getLastDuration() {
+        return TimeSpan.milliseconds(TimeUnit.NANOSECONDS.toMillis(lastDurationNanos));
+    }
+
+    /**
+     * Returns how late the last run of the action started
+     * comparing to when it was due.
+     *
+     * @return the lag of the last run.
+     * @since Quark 3.0
+     */
+    public TimeSpan getLag() {
+        return TimeSpan.milliseconds(TimeUnit.NANOSECONDS.toMillis(lastLagNanos));
+    }
+
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    /**
+     * Returns how many runs were skipped, because the previous run
+     * was still running when they were due.
+     *
+     * @return the number of the skipped runs.
+     * @since Quark 3.0
+     */
+    public long getSkippedRunCount() {
+        return skippedRunCount.get();
+    }
+
+    long getIntervalNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(interval.getMilliseconds());
+    }
+
+    void dueAt(long nextRunNanos) {
+        this.nextRunNanos = nextRunNanos;
+    }
+
+    void scheduled(Future<?> future) {
+        this.future = future;
+
+        if (isStopped) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Marks the due run as started.
+     *
+     * @return {@code false} if the previous run is still running, and the due one must be skipped.
+     */
+    boolean tryStart() {
+        var lagNanos = System.nanoTime() - nextRunNanos;
+
+        if (mode == ScheduleMode.FIXED_RATE) {
+            nextRunNanos += Math.max(1, getIntervalNanos());
+        }
+
+        if (!isPerforming.compareAndSet(false, true)) {
+            skippedRunCount.incrementAndGet();
+            return false;
+        }
+
+        lastLagNanos = Math.max(0, lagNanos);
+        return true;
+    }
+
+    void finished(long durationNanos) {
+        lastDurationNanos = durationNanos;
+        runCount.incrementAndGet();
+        isPerforming.set(false);
     }
 }
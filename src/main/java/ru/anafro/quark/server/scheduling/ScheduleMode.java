@@ -0,0 +1,21 @@
+package ru.anafro.quark.server.scheduling;
+
+/**
+ * Defines when the next run of a {@link Repeater} starts.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public enum ScheduleMode {
+    /**
+     * The runs start every interval, however long they take.
+     * A run that is due while the previous one is still running is skipped.
+     */
+    FIXED_RATE,
+
+    /**
+     * The next run starts an interval after the previous one has finished.
+     */
+    FIXED_DELAY
+}
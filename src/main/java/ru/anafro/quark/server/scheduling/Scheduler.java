@@ -0,0 +1,125 @@
+package ru.anafro.quark.server.scheduling;
+
+import ru.anafro.quark.server.facade.Quark;
+import ru.anafro.quark.server.multithreading.Service;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Runs all the repeaters of Quark: the background services, the scheduled
+ * queries and the scheduled commands.
+ * <br><br>
+ * <p>
+ * A single timer thread keeps track of when the repeaters are due, and the
+ * actions themselves run on virtual threads, so a slow action never delays
+ * the others. The repeaters scheduled before the scheduler is started
+ * wait for it to start.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @see Repeater
+ * @since Quark 3.0
+ */
+public class Scheduler extends Service {
+    private final List<Repeater> repeaters = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("Scheduler").daemon().factory());
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Scheduled Action").factory());
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private boolean isStarted = false;
+
+    public synchronized void schedule(Repeater repeater) {
+        repeaters.add(repeater);
+
+        if (isStarted) {
+            scheduleNextRun(repeater);
+        }
+    }
+
+    public void scheduleAll(Iterable<? extends Repeater> repeaters) {
+        for (var repeater : repeaters) {
+            schedule(repeater);
+        }
+    }
+
+    public void scheduleAll(Repeater... repeaters) {
+        scheduleAll(List.of(repeaters));
+    }
+
+    public List<Repeater> getRepeaters() {
+        return List.copyOf(repeaters);
+    }
+
+    @Override
+    public void start() {
+        scheduleAllRepeaters();
+
+        try {
+            stopped.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void stop() {
+        repeaters.forEach(Repeater::stop);
+        timer.shutdownNow();
+        executor.shutdown();
+        stopped.countDown();
+    }
+
+    private synchronized void scheduleAllRepeaters() {
+        if (!isStarted) {
+            isStarted = true;
+            repeaters.forEach(this::scheduleNextRun);
+        }
+    }
+
+    private void scheduleNextRun(Repeater repeater) {
+        if (repeater.isStopped() || timer.isShutdown()) {
+            return;
+        }
+
+        var intervalNanos = Math.max(1, repeater.getIntervalNanos());
+
+        repeater.dueAt(System.nanoTime() + intervalNanos);
+
+        try {
+            repeater.scheduled(switch (repeater.getMode()) {
+                case FIXED_RATE -> timer.scheduleAtFixedRate(() -> dispatch(repeater), intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+                case FIXED_DELAY -> timer.schedule(() -> dispatch(repeater), intervalNanos, TimeUnit.NANOSECONDS);
+            });
+        } catch (RejectedExecutionException _) {
+            // The scheduler has been stopped.
+        }
+    }
+
+    private void dispatch(Repeater repeater) {
+        if (!repeater.tryStart()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> run(repeater));
+        } catch (RejectedExecutionException _) {
+            repeater.finished(0);
+        }
+    }
+
+    private void run(Repeater repeater) {
+        var startNanos = System.nanoTime();
+
+        try {
+            repeater.performAction();
+        } catch (RuntimeException exception) {
+            Quark.logger().error(exception);
+        } finally {
+            repeater.finished(System.nanoTime() - startNanos);
+        }
+
+        if (repeater.getMode() == ScheduleMode.FIXED_DELAY) {
+            scheduleNextRun(repeater);
+        }
+    }
+}
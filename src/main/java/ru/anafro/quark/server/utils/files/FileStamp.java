@@ -0,0 +1,21 @@
+package ru.anafro.quark.server.utils.files;
+
+/**
+ * Represents the size and the last modification time of a file.
+ * Two different stamps of the same file mean that the file was
+ * changed in between, so anything built from its content should
+ * be built again.
+ *
+ * @param size         the size of the file in bytes, {@code 0} if the file does not exist.
+ * @param lastModified the last modification time, {@code 0} if the file does not exist.
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public record FileStamp(long size, long lastModified) {
+    public static FileStamp of(File file) {
+        var ioFile = file.getPath().toFile();
+
+        return new FileStamp(ioFile.length(), ioFile.lastModified());
+    }
+}
@@ -1,7 +1,6 @@
 package ru.anafro.quark.server.utils.patterns;
 
 import org.jetbrains.annotations.NotNull;
-import ru.anafro.quark.server.utils.collections.Lists;
 import ru.anafro.quark.server.utils.objects.Nulls;
 import ru.anafro.quark.server.utils.patterns.exceptions.ObjectAlreadyExistsInRegistryException;
 import ru.anafro.quark.server.utils.patterns.exceptions.ObjectIsMissingInRegistryException;
@@ -10,7 +9,10 @@ import ru.anafro.quark.server.utils.strings.StringSimilarityFinder;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 /**
@@ -18,6 +20,12 @@ import java.util.function.Supplier;
  * But the difference from any collection is that any object has a name. Implement
  * the {@link NamedObjectsList#getNameOf(Object)} to let the registry know
  * how to name all the objects you will put into the registry.
+ * <br><br>
+ * <p>
+ * Objects are indexed by their names, so lookups don't scan the registry
+ * and don't take any locks. Once a registry is filled up, it can be
+ * {@link NamedObjectsList#freeze() frozen}, and then the lookups are served
+ * by an immutable snapshot of the index.
  *
  * @param <E> an object type.
  * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
@@ -28,6 +36,8 @@ import java.util.function.Supplier;
  */
 public abstract class NamedObjectsList<E> implements Iterable<E> {
     protected final List<E> elements;
+    private final Map<String, E> index;
+    private volatile Map<String, E> frozenIndex;
 
     /**
      * Creates a new named object registry with <code>objectsToRegister</code> objects.
@@ -41,7 +51,8 @@ public abstract class NamedObjectsList<E> implements Iterable<E> {
      */
     @SafeVarargs
     public NamedObjectsList(E... objectsToRegister) {
-        elements = Collections.synchronizedList(Lists.empty());
+        elements = new CopyOnWriteArrayList<>();
+        index = new ConcurrentHashMap<>();
 
         for (var objectToRegister : objectsToRegister) {
             add(objectToRegister);
@@ -83,31 +94,27 @@ public abstract class NamedObjectsList<E> implements Iterable<E> {
      * @since Quark 1.1
      */
     public E get(String name) {
-        for (var object : elements) {
-            if (getNameOf(object).equals(name)) {
-                return object;
-            }
+        if (name == null) {
+            return null;
         }
 
-        return null;
+        var frozenIndex = this.frozenIndex;
+
+        return frozenIndex == null ? index.get(name) : frozenIndex.get(name);
     }
 
     public Optional<E> tryGet(String name) {
-        for (var object : elements) {
-            if (getNameOf(object).equals(name)) {
-                return Optional.of(object);
-            }
-        }
-
-        return Optional.empty();
+        return Optional.ofNullable(get(name));
     }
 
     public <T extends Throwable> E getOrThrow(String name, Supplier<T> exception) throws T {
-        if (doesntHave(name)) {
+        var object = get(name);
+
+        if (object == null) {
             throw exception.get();
         }
 
-        return get(name);
+        return object;
     }
 
     public E getOrThrow(String name, String exceptionMessage) {
@@ -159,12 +166,35 @@ public abstract class NamedObjectsList<E> implements Iterable<E> {
      * @see NamedObjectsList#asList()
      * @since Quark 1.1
      */
-    public void add(E object) {
-        if (has(getNameOf(object))) {
-            throw new ObjectAlreadyExistsInRegistryException(getNameOf(object), object.getClass());
+    public synchronized void add(E object) {
+        var name = getNameOf(object);
+
+        if (has(name) || index.putIfAbsent(name, object) != null) {
+            throw new ObjectAlreadyExistsInRegistryException(name, object.getClass());
         }
 
         elements.add(object);
+
+        if (isFrozen()) {
+            frozenIndex = Map.copyOf(index);
+        }
+    }
+
+    /**
+     * Switches the registry to the read-optimized mode. All the lookups
+     * will be served by an immutable snapshot of the registry. Objects can
+     * still be added later, e.g. by plugins, but every addition rebuilds
+     * the snapshot.
+     *
+     * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+     * @since Quark 3.0
+     */
+    public synchronized void freeze() {
+        frozenIndex = Map.copyOf(index);
+    }
+
+    public boolean isFrozen() {
+        return frozenIndex != null;
     }
 
     /**
@@ -187,7 +217,7 @@ public abstract class NamedObjectsList<E> implements Iterable<E> {
     }
 
     @SafeVarargs
-    public final void supplement(E... objects) {
+    public final synchronized void supplement(E... objects) {
         for (var object : objects) {
             if (has(getNameOf(object))) {
                 continue;
@@ -214,7 +244,8 @@ public abstract class NamedObjectsList<E> implements Iterable<E> {
     }
 
     /**
-     * Returns the list of registered objects.
+     * Returns the list of registered objects. The list can't be changed,
+     * objects are added only through the registry.
      *
      * @return the list of objects registered in this registry.
      * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
@@ -223,7 +254,7 @@ public abstract class NamedObjectsList<E> implements Iterable<E> {
      * @since Quark 1.1
      */
     public List<E> asList() {
-        return elements;
+        return Collections.unmodifiableList(elements);
     }
 
     public E suggest(String objectName) {
@@ -5,6 +5,9 @@ import ru.anafro.quark.server.utils.streams.IOStreams;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.net.URLClassLoader;
 import java.util.HashMap;
@@ -140,6 +143,64 @@ public final class Reflection {
         return invoke(null, method, arguments);
     }
 
+    /**
+     * Finds a one-parameter constructor and adapts it to take and return
+     * {@code Object}s, so it can be called with {@link #invoke(MethodHandle, Object)}
+     * without any reflective lookups.
+     *
+     * @param type          the class to find the constructor of.
+     * @param parameterType the type of the only parameter.
+     * @return the adapted constructor handle.
+     * @since Quark 3.0
+     */
+    public static MethodHandle getConstructorHandle(Class<?> type, Class<?> parameterType) {
+        try {
+            var constructor = MethodHandles.lookup().findConstructor(type, MethodType.methodType(void.class, parameterType));
+            return constructor.asType(MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            throw new ReflectionException(exception.getMessage());
+        }
+    }
+
+    /**
+     * Converts a static method to a handle that takes all its arguments
+     * as an {@code Object} array, so it can be called with
+     * {@link #invokeSpreading(MethodHandle, Object[])}.
+     *
+     * @param method the static method.
+     * @return the adapted method handle, or {@code null} if the method cannot be unreflected,
+     * like a public method of a class that is not accessible. Such methods should be called reflectively.
+     * @since Quark 3.0
+     */
+    public static MethodHandle getSpreadingHandle(Method method) {
+        try {
+            var handle = MethodHandles.lookup().unreflect(method);
+            return handle.asSpreader(Object[].class, method.getParameterCount()).asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+    public static Object invoke(MethodHandle handle, Object argument) {
+        try {
+            return (Object) handle.invokeExact(argument);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(STR."The invoked method has thrown \{throwable.getClass().getSimpleName()}: \{throwable.getMessage()}", throwable);
+        }
+    }
+
+    public static Object invokeSpreading(MethodHandle handle, Object[] arguments) {
+        try {
+            return (Object) handle.invokeExact(arguments);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(STR."The invoked method has thrown \{throwable.getClass().getSimpleName()}: \{throwable.getMessage()}", throwable);
+        }
+    }
+
     public static <T> Class<? extends T> loadClass(Class<T> type, URLClassLoader classLoader, String classPath) {
         try {
             return Class.forName(classPath, true, classLoader).asSubclass(type);
@@ -7,4 +7,8 @@ public class ReflectionException extends QuarkException {
     public ReflectionException(String message) {
         super(message);
     }
+
+    public ReflectionException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
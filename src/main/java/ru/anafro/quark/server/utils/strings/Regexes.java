@@ -0,0 +1,75 @@
+package ru.anafro.quark.server.utils.strings;
+
+import ru.anafro.quark.server.utils.exceptions.UtilityClassInstantiationException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Regexes compiles regular expressions that are not known in advance,
+ * like the ones passed in queries, and keeps the compiled patterns
+ * so that matching the same regex again doesn't compile it again,
+ * as {@link String#matches(String)} does.
+ *
+ * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
+ * @version Quark 3.0
+ * @since Quark 3.0
+ */
+public final class Regexes {
+    private static final int COMPILED_PATTERNS_CACHE_SIZE = 256;
+    private static final Map<String, Pattern> compiledPatterns = new ConcurrentHashMap<>();
+
+    /**
+     * This private constructor of "Regexes" class <strong>MUST NOT</strong> be ever
+     * called, because "Regexes" is a utility class. Use static methods declared inside.
+     *
+     * @since Quark 3.0
+     */
+    private Regexes() {
+        throw new UtilityClassInstantiationException(getClass());
+    }
+
+    /**
+     * Compiles the regex or returns the pattern compiled earlier.
+     *
+     * @param regex the regex.
+     * @return the compiled pattern.
+     * @since Quark 3.0
+     */
+    public static Pattern compile(String regex) {
+        var pattern = compiledPatterns.get(regex);
+
+        if (pattern != null) {
+            return pattern;
+        }
+
+        if (compiledPatterns.size() >= COMPILED_PATTERNS_CACHE_SIZE) {
+            compiledPatterns.clear();
+        }
+
+        pattern = Pattern.compile(regex);
+        compiledPatterns.put(regex, pattern);
+
+        return pattern;
+    }
+
+    /**
+     * Checks if the entire string matches the regex.
+     *
+     * <pre>
+     * {@code
+     * Regexes.matches("anafro", "^[a-z]+$");  // true
+     * Regexes.matches("Anafro", "^[a-z]+$");  // false
+     * }
+     * </pre>
+     *
+     * @param string the string to check.
+     * @param regex  the regex.
+     * @return {@code true} if the string matches the regex.
+     * @since Quark 3.0
+     */
+    public static boolean matches(String string, String regex) {
+        return compile(regex).matcher(string).matches();
+    }
+}
@@ -1,5 +1,7 @@
 package ru.anafro.quark.server.utils.validation;
 
+import java.util.regex.Pattern;
+
 /**
  * The regex validator can be used to create regex validation rules for strings.
  * Pass the regex rule to the constructor to create one. It's also welcomed to
@@ -13,13 +15,28 @@ package ru.anafro.quark.server.utils.validation;
  * }
  * </pre>
  *
- * @param regex
+ * @param pattern the compiled regex
  *
  * @since  Quark 1.1
  * @author Anatoly Frolov | Анатолий Фролов | <a href="https://anafro.ru">My website</a>
  * @see    Validators#validate(Object, Validator)
  */
-public record RegexValidator(String regex) implements Validator<String> {
+public record RegexValidator(Pattern pattern) implements Validator<String> {
+
+    /**
+     * Creates a validator compiling the regex once,
+     * so that validating doesn't compile it again.
+     *
+     * @param regex the regex rule.
+     * @since Quark 3.0
+     */
+    public RegexValidator(String regex) {
+        this(Pattern.compile(regex));
+    }
+
+    public String regex() {
+        return pattern.pattern();
+    }
 
     /**
      * Validates the passed object. If object passes all the regex
@@ -34,6 +51,6 @@ public record RegexValidator(String regex) implements Validator<String> {
      */
     @Override
     public boolean isValid(String value) {
-        return value.matches(regex);
+        return pattern.matcher(value).matches();
     }
 }
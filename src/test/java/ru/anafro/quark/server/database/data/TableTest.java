@@ -5,9 +5,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import ru.anafro.quark.server.database.data.exceptions.*;
+import ru.anafro.quark.server.database.data.files.TableHeader;
+import ru.anafro.quark.server.database.data.files.TableMigrationService;
+import ru.anafro.quark.server.database.data.files.VacuumService;
+import ru.anafro.quark.server.database.data.locks.TableLocks;
 import ru.anafro.quark.server.database.views.TableViewHeader;
+import ru.anafro.quark.server.language.entities.IntegerEntity;
 import ru.anafro.quark.server.utils.collections.Collections;
 import ru.anafro.quark.server.utils.collections.Iterators;
+import ru.anafro.quark.server.utils.files.File;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static ru.anafro.quark.server.database.data.ColumnDescription.column;
@@ -1610,6 +1621,65 @@ class TableTest {
         }
     }
 
+    @Test
+    @DisplayName("Should keep records consistent after columns were reordered, swapped and deleted")
+    public void shouldKeepRecordsConsistentAfterColumnsWereReorderedSwappedAndDeleted() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str"),
+                        column("b", "str"),
+                        column("c", "str")
+                ),
+                list(
+                        record("1a", "1b", "1c")
+                ));
+
+        // When
+        table("Existing Database.A").reorderColumns(list("c", "a", "b"));
+        table("Existing Database.A").forgetCachedState();
+        table("Existing Database.A").insert("2c", "2a", "2b");
+        table("Existing Database.A").swapColumns("c", "b");
+        table("Existing Database.A").deleteColumn("a");
+
+        // Then
+        assertEquals(list("b", "c"), table("Existing Database.A").getColumnOrder());
+        assertTrue(table("Existing Database.A").all().same(
+                record("1b", "1c"),
+                record("2b", "2c")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should store the column layout in the header file")
+    public void shouldStoreTheColumnLayoutInTheHeaderFile() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str"),
+                        column("b", "str")
+                ),
+                list(
+                        record("1a", "1b")
+                ));
+
+        // When
+        table("Existing Database.A").swapColumns("a", "b");
+        table("Existing Database.A").forgetCachedState();
+
+        // Then
+        var directory = table("Existing Database.A").getDirectory();
+
+        assertEquals(list("b", "a"), table("Existing Database.A").getColumnOrder());
+        assertTrue(directory.getFile(TableHeader.NAME).readLines().size() > 1);
+        assertFalse(directory.getFile(STR."\{TableHeader.NAME}.writing").exists());
+        assertTrue(table("Existing Database.A").all().same(
+                record("1b", "1a")
+        ));
+    }
+
     @Test
     @DisplayName("Should throw IncompleteColumnOrderException on reorderColumns with missing column")
     public void shouldThrowIncompleteColumnOrderExceptionOnReorderColumnsWithMissingColumn() {
@@ -1637,4 +1707,429 @@ class TableTest {
         } catch (IncompleteColumnOrderException _) {
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reject duplicates of a unique column after the table was changed")
+    public void shouldRejectDuplicatesOfAUniqueColumnAfterTheTableWasChanged() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str", modifier("unique")),
+                        column("b", "int")
+                ),
+                list(
+                        record("hello", 1),
+                        record("bye", 2)
+                ));
+
+        table("Existing Database.A").insert("hi", 3);
+        table("Existing Database.A").change(selector("@equals(:a, \"hello\")"), changer("a", "\"hey\""));
+
+        // When
+        table("Existing Database.A").insert("hello", 4);
+
+        // Then
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").insert("hi", 5));
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").insert("hey", 6));
+        assertEquals(4, table("Existing Database.A").all().count());
+    }
+
+    @Test
+    @DisplayName("Should not repeat incrementing values after the cached state was forgotten")
+    public void shouldNotRepeatIncrementingValuesAfterTheCachedStateWasForgotten() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str")
+                ),
+                list(
+                        record("ABC"),
+                        record("DEF")
+                ));
+
+        table("Existing Database.A").addColumn(column("b", "int", modifier("incrementing")));
+        table("Existing Database.A").deleteColumn("b");
+        table("Existing Database.A").forgetCachedState();
+
+        // When
+        table("Existing Database.A").addColumn(column("b", "int", modifier("incrementing")));
+
+        // Then
+        assertTrue(table("Existing Database.A").all().same(
+                record("ABC", 1002),
+                record("DEF", 1003)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should generate values of generated columns on insert")
+    public void shouldGenerateValuesOfGeneratedColumnsOnInsert() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                ColumnDescription.id(),
+                column("name", "str", modifier("not blank"))
+        );
+
+        // When
+        table("Existing Database.A").insert("Bob");
+        table("Existing Database.A").insert("Alice");
+
+        // Then
+        assertTrue(table("Existing Database.A").all().same(
+                record(1, "Bob"),
+                record(2, "Alice")
+        ));
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").insert(" "));
+    }
+
+    @Test
+    @DisplayName("Should keep flushed variables after the cached state was forgotten")
+    public void shouldKeepFlushedVariablesAfterTheCachedStateWasForgotten() {
+        // Given
+        Table.create("Existing Database.A", column("a", "str"));
+        table("Existing Database.A").setVariable("Counter", 1);
+        table("Existing Database.A").getVariable("Counter").<IntegerEntity>update(counter -> IntegerEntity.of(counter.getValue() + 1));
+
+        // When
+        table("Existing Database.A").flushVariables();
+        table("Existing Database.A").forgetCachedState();
+
+        // Then
+        assertEquals(2, table("Existing Database.A").getVariable("Counter").<IntegerEntity>get().orElseThrow().getValue());
+    }
+
+    @Test
+    @DisplayName("Should read lazily added and deleted columns the same before and after the migration")
+    public void shouldReadLazilyAddedAndDeletedColumnsTheSameBeforeAndAfterTheMigration() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str"),
+                        column("b", "str")
+                ),
+                list(
+                        record("1", "x"),
+                        record("2", "y")
+                ));
+
+        table("Existing Database.A").addColumn(column("c", "str"), generator("\"XYZ\""));
+        table("Existing Database.A").deleteColumn("b");
+        table("Existing Database.A").insert("3", "3XYZ");
+
+        // When
+        var recordsBeforeMigration = table("Existing Database.A").all();
+        TableMigrationService.migrate(table("Existing Database.A"));
+        table("Existing Database.A").forgetCachedState();
+
+        // Then
+        assertFalse(table("Existing Database.A").getHeader().getLayout().needsMigration());
+        assertTrue(recordsBeforeMigration.same(
+                record("1", "XYZ"),
+                record("2", "XYZ"),
+                record("3", "3XYZ")
+        ));
+        assertTrue(table("Existing Database.A").all().same(
+                record("1", "XYZ"),
+                record("2", "XYZ"),
+                record("3", "3XYZ")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should store the values of a column added with a non-constant generator once")
+    public void shouldStoreTheValuesOfAColumnAddedWithANonConstantGeneratorOnce() {
+        // Given
+        Table.create("Existing Database.A", list(column("a", "int")), list(record(1), record(2), record(3)));
+
+        // When
+        table("Existing Database.A").addColumn(column("b", "int"), generator("@random between(0, 1000000000)"));
+
+        var firstRead = table("Existing Database.A").all().toList().stream().map(TableRecord::toEntity).toList();
+        table("Existing Database.A").forgetCachedState();
+        var secondRead = table("Existing Database.A").all().toList().stream().map(TableRecord::toEntity).toList();
+
+        // Then
+        assertFalse(table("Existing Database.A").getHeader().getLayout().needsMigration());
+        assertEquals(firstRead, secondRead);
+    }
+
+    @Test
+    @DisplayName("Should vacuum a table while it is read")
+    public void shouldVacuumATableWhileItIsRead() throws Exception {
+        // Given
+        Table.create("Existing Database.A", list(column("a", "int", modifier("unique"))), list(record(1), record(2)));
+        table("Existing Database.A").exclude(finder("a", 1));
+
+        // When
+        try (var _ = TableLocks.reading(table("Existing Database.A"))) {
+            var vacuum = CompletableFuture.supplyAsync(() -> VacuumService.vacuumIfNeeded(table("Existing Database.A"), 0));
+
+            // Then
+            assertTrue(vacuum.get(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(table("Existing Database.A").all().same(record(2)));
+    }
+
+    @Test
+    @DisplayName("Should skip deleted records until the table is vacuumed")
+    public void shouldSkipDeletedRecordsUntilTheTableIsVacuumed() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str", modifier("unique")),
+                        column("b", "int")
+                ),
+                list(
+                        record("x", 1),
+                        record("y", 2),
+                        record("z", 3)
+                ));
+
+        // When
+        table("Existing Database.A").exclude(finder("a", "y"));
+        table("Existing Database.A").insert("y", 4);
+
+        var deadSpaceBeforeVacuum = table("Existing Database.A").getDeadSpace();
+        VacuumService.vacuumIfNeeded(table("Existing Database.A"), 0);
+
+        // Then
+        assertEquals(1, deadSpaceBeforeVacuum.deadRecords());
+        assertEquals(0, table("Existing Database.A").getDeadSpace().deadRecords());
+        assertTrue(table("Existing Database.A").all().same(
+                record("x", 1),
+                record("z", 3),
+                record("y", 4)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should write only the changed records on change")
+    public void shouldWriteOnlyTheChangedRecordsOnChange() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str"),
+                        column("b", "int")
+                ),
+                list(
+                        record("x", 1),
+                        record("y", 2),
+                        record("z", 3)
+                ));
+
+        // When
+        table("Existing Database.A").change(selector("@equals(:a, \"y\")"), changer("b", "20"));
+
+        // Then
+        assertEquals(1, table("Existing Database.A").getDeadSpace().deadRecords());
+        assertTrue(table("Existing Database.A").all().same(
+                record("x", 1),
+                record("y", 20),
+                record("z", 3)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should read the snapshot taken before the records were changed")
+    public void shouldReadTheSnapshotTakenBeforeTheRecordsWereChanged() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str"),
+                        column("b", "int")
+                ),
+                list(
+                        record("x", 1),
+                        record("y", 2)
+                ));
+
+        try (var snapshot = table("Existing Database.A").getRecords().snapshot()) {
+            // When
+            table("Existing Database.A").insert("z", 3);
+            table("Existing Database.A").change(selector("@equals(:a, \"x\")"), changer("b", "10"));
+            table("Existing Database.A").delete(selector("@equals(:a, \"y\")"));
+            VacuumService.vacuumIfNeeded(table("Existing Database.A"), 0);
+
+            // Then
+            assertTrue(Collections.equalsIgnoreOrder(
+                    snapshot.readAll().stream().map(TableRecord::toEntity).toList(),
+                    list(record("x", 1), record("y", 2))
+            ));
+            assertTrue(table("Existing Database.A").getRecords().getVersion().sequence() > snapshot.getVersion().sequence());
+            assertTrue(table("Existing Database.A").all().same(
+                    record("x", 10),
+                    record("z", 3)
+            ));
+        }
+    }
+
+    @Test
+    @DisplayName("Should write the records inserted concurrently and fail only the invalid insertions")
+    public void shouldWriteTheRecordsInsertedConcurrentlyAndFailOnlyTheInvalidInsertions() {
+        // Given
+        Table.create("Existing Database.A", list(column("a", "int", modifier("unique"))), list());
+        var table = table("Existing Database.A");
+        var insertions = new ArrayList<CompletableFuture<Void>>();
+
+        // When
+        for (int value = 0; value < 100; value++) {
+            insertions.add(table.insertAsync(list(TableRecord.record(table.getHeader(), value))));
+        }
+
+        var duplicateInsertion = table.insertAsync(list(TableRecord.record(table.getHeader(), 7)));
+
+        // Then
+        insertions.forEach(CompletableFuture::join);
+        var exception = assertThrows(CompletionException.class, duplicateInsertion::join);
+
+        assertInstanceOf(ColumnModifierValidityCheckFailedException.class, exception.getCause());
+        assertEquals(100, table("Existing Database.A").count(selector("@yes")));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the unique index when the records file was modified before a change")
+    public void shouldRebuildTheUniqueIndexWhenTheRecordsFileWasModifiedBeforeAChange() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str", modifier("unique")),
+                        column("b", "str")
+                ),
+                list(
+                        record("1a", "1b")
+                ));
+
+        var table = table("Existing Database.A");
+        var externalLine = table.getHeader().toTableLine(TableRecord.record(table.getHeader(), "3a", "3b"));
+
+        table.insert("2a", "2b");
+        new File(table.getRecords().getFilename()).append(STR."\{externalLine}\n");
+
+        // When
+        table("Existing Database.A").change(selector("@equals(:a, \"1a\")"), changer("b", "\"1c\""));
+
+        // Then
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").insert("3a", "3c"));
+    }
+
+    @Test
+    @DisplayName("Should keep a unique value indexed after deleting one of its duplicates")
+    public void shouldKeepAUniqueValueIndexedAfterDeletingOneOfItsDuplicates() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str", modifier("unique")),
+                        column("b", "str")
+                ),
+                list(
+                        record("1a", "1b")
+                ));
+
+        var table = table("Existing Database.A");
+        var duplicateLine = table.getHeader().toTableLine(TableRecord.record(table.getHeader(), "1a", "1c"));
+
+        new File(table.getRecords().getFilename()).append(STR."\{duplicateLine}\n");
+        table.forgetCachedState();
+        table.insert("2a", "2b");
+
+        // When
+        table("Existing Database.A").delete(selector("@equals(:b, \"1c\")"));
+
+        // Then
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").insert("1a", "1d"));
+    }
+
+    @Test
+    @DisplayName("Should reject a change repeating a value of a unique column and change nothing")
+    public void shouldRejectAChangeRepeatingAValueOfAUniqueColumnAndChangeNothing() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str", modifier("unique")),
+                        column("b", "str")
+                ),
+                list(
+                        record("1a", "x"),
+                        record("2a", "x"),
+                        record("3a", "y")
+                ));
+
+        // When
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").change(selector("@equals(:b, \"x\")"), changer("a", "\"4a\"")));
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").change(selector("@equals(:a, \"1a\")"), changer("a", "\"3a\"")));
+
+        // Then
+        assertTrue(table("Existing Database.A").all().same(
+                record("1a", "x"),
+                record("2a", "x"),
+                record("3a", "y")
+        ));
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").insert("1a", "z"));
+    }
+
+    @Test
+    @DisplayName("Should change a value of a unique column without comparing the record with itself")
+    public void shouldChangeAValueOfAUniqueColumnWithoutComparingTheRecordWithItself() {
+        // Given
+        Table.create(
+                "Existing Database.A",
+                list(
+                        column("a", "str", modifier("unique")),
+                        column("b", "str")
+                ),
+                list(
+                        record("1a", "x"),
+                        record("2a", "y")
+                ));
+
+        // When
+        table("Existing Database.A").change(selector("@equals(:a, \"1a\")"), changer("a", "\"1a\""));
+        table("Existing Database.A").change(selector("@equals(:a, \"2a\")"), changer("a", "\"2z\""));
+
+        // Then
+        assertTrue(table("Existing Database.A").all().same(
+                record("1a", "x"),
+                record("2z", "y")
+        ));
+        assertThrows(ColumnModifierValidityCheckFailedException.class, () -> table("Existing Database.A").insert("2z", "z"));
+        assertDoesNotThrow(() -> table("Existing Database.A").insert("2a", "z"));
+    }
+
+    @Test
+    @DisplayName("Should select and count the records of a large table in the order of the records")
+    public void shouldSelectAndCountTheRecordsOfALargeTableInTheOrderOfTheRecords() {
+        // Given
+        Table.create("Existing Database.A", list(column("a", "int")), list());
+        var table = table("Existing Database.A");
+        var records = new ArrayList<TableRecord>();
+
+        for (int value = 0; value < 20_000; value++) {
+            records.add(TableRecord.record(table.getHeader(), value));
+        }
+
+        table.insertAll(records);
+
+        // When
+        var actualSelection = table("Existing Database.A").select(selector("@greater(:a, 9999)"), limiter(5, 3));
+        var actualCount = table("Existing Database.A").count(selector("@greater(:a, 9999)"));
+
+        // Then
+        assertTrue(actualSelection.same(
+                record(10005),
+                record(10006),
+                record(10007)
+        ));
+        assertEquals(10_000, actualCount);
+    }
+}
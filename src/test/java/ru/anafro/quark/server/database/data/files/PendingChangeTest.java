@@ -0,0 +1,88 @@
+package ru.anafro.quark.server.database.data.files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.utils.files.File;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.language.entities.RecordEntity.record;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class PendingChangeTest {
+    @BeforeEach
+    public void setUp() {
+        Database.create("Existing Database");
+        Table.create("Existing Database.A", list(column("a", "str")), list(record("1"), record("2")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        database("Existing Database").delete();
+    }
+
+    @Test
+    @DisplayName("Should finish a change which lines were appended before the stop")
+    public void shouldFinishAChangeWhichLinesWereAppendedBeforeTheStop() {
+        // Given
+        var records = table("Existing Database.A").getRecords();
+        var changedLine = changedLineOf(records);
+        var pendingChange = pendingChangeOf(records, changedLine);
+
+        pendingChange.begin(records);
+        new File(records.getFilename()).append(changedLine);
+
+        // When
+        table("Existing Database.A").forgetCachedState();
+
+        // Then
+        assertTrue(table("Existing Database.A").all().same(record("1"), record("2z")));
+        assertFalse(records.getTable().getDirectory().getFile(PendingChange.NAME).exists());
+    }
+
+    @Test
+    @DisplayName("Should undo a change which lines were not appended completely before the stop")
+    public void shouldUndoAChangeWhichLinesWereNotAppendedCompletelyBeforeTheStop() {
+        // Given
+        var records = table("Existing Database.A").getRecords();
+        var changedLine = changedLineOf(records);
+        var pendingChange = pendingChangeOf(records, changedLine);
+
+        pendingChange.begin(records);
+        new File(records.getFilename()).append(changedLine.substring(0, changedLine.length() / 2));
+
+        // When
+        table("Existing Database.A").forgetCachedState();
+
+        // Then
+        assertTrue(table("Existing Database.A").all().same(record("1"), record("2")));
+        assertEquals(pendingChange.appendedFrom(), records.getFile().length());
+        assertFalse(records.getTable().getDirectory().getFile(PendingChange.NAME).exists());
+    }
+
+    private static String changedLineOf(TableRecords records) {
+        var header = records.getTable().getHeader();
+
+        return STR."\{header.toTableLine(TableRecord.record(header, "2z"))}\n";
+    }
+
+    private static PendingChange pendingChangeOf(TableRecords records, String changedLine) {
+        var appendedFrom = records.getFile().length();
+        var appendedUntil = appendedFrom + changedLine.getBytes(StandardCharsets.UTF_8).length;
+        var deadLines = new BitSet();
+
+        deadLines.set(1);
+
+        return new PendingChange(appendedFrom, appendedUntil, Tombstones.adding(records, records.getFileKey(), deadLines, 4));
+    }
+}
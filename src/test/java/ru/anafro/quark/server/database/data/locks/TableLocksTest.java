@@ -0,0 +1,86 @@
+package ru.anafro.quark.server.database.data.locks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.TableName;
+import ru.anafro.quark.server.database.data.exceptions.LockUpgradeException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableLocksTest {
+
+    @Test
+    @DisplayName("Should acquire the locks of two tables requested in opposite orders without a deadlock")
+    public void shouldAcquireTheLocksOfTwoTablesRequestedInOppositeOrdersWithoutADeadlock() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            // Given
+            var forward = CompletableFuture.runAsync(() -> lockRepeatedly("Locks.A", "Locks.B"));
+            var backward = CompletableFuture.runAsync(() -> lockRepeatedly("Locks.B", "Locks.A"));
+
+            // When, Then
+            CompletableFuture.allOf(forward, backward).join();
+        });
+    }
+
+    @Test
+    @DisplayName("Should not block a change of a table by another change of it")
+    public void shouldNotBlockAChangeOfATableByAnotherChangeOfIt() throws Exception {
+        // Given
+        try (var _ = TableLocks.request().change("Locks.A").acquire()) {
+
+            // When
+            var otherChange = CompletableFuture.runAsync(() -> TableLocks.request().change("Locks.A").acquire().close());
+
+            // Then
+            otherChange.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should block a change of a table while the table is written")
+    public void shouldBlockAChangeOfATableWhileTheTableIsWritten() throws Exception {
+        // Given
+        CompletableFuture<Void> change;
+
+        try (var _ = TableLocks.request().write("Locks.A").acquire()) {
+
+            // When
+            change = CompletableFuture.runAsync(() -> TableLocks.request().change("Locks.A").acquire().close());
+
+            // Then
+            assertThrows(TimeoutException.class, () -> change.get(200, TimeUnit.MILLISECONDS));
+        }
+
+        change.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should reject writing a table read by the same thread and release the other acquired locks")
+    public void shouldRejectWritingATableReadByTheSameThreadAndReleaseTheOtherAcquiredLocks() {
+        // Given
+        var tableStripe = TableLocks.stripeAt(TableLocks.stripeOf(TableLocks.tableKeyOf(new TableName("Locks.A"))));
+        var databaseStripe = TableLocks.stripeAt(TableLocks.stripeOf(TableLocks.databaseKeyOf("Locks")));
+
+        try (var _ = TableLocks.request().read("Locks.A").acquire()) {
+
+            // When, Then
+            assertThrows(LockUpgradeException.class, () -> TableLocks.request().write("Locks.A").acquire());
+            assertEquals(1, tableStripe.getReadHoldCount());
+            assertEquals(1, databaseStripe.getReadHoldCount());
+        }
+
+        assertEquals(0, tableStripe.getReadHoldCount());
+        assertEquals(0, databaseStripe.getReadHoldCount());
+    }
+
+    private static void lockRepeatedly(String firstTableName, String secondTableName) {
+        for (int attempt = 0; attempt < 10_000; attempt++) {
+            TableLocks.request().write(firstTableName).write(secondTableName).acquire().close();
+        }
+    }
+}
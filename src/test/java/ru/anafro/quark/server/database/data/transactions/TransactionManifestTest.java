@@ -0,0 +1,88 @@
+package ru.anafro.quark.server.database.data.transactions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.database.data.files.RecordsChange;
+import ru.anafro.quark.server.files.TransactionsDirectory;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.language.entities.RecordEntity.record;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class TransactionManifestTest {
+    @BeforeEach
+    public void setUp() {
+        Database.create("DB");
+        Table.create("DB.A", list(column("a", "str")), list(record("1"), record("2")));
+        Table.create("DB.B", list(column("b", "str")), list());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        database("DB").delete();
+    }
+
+    @Test
+    @DisplayName("Should apply the changes of a written manifest on recovery")
+    public void shouldApplyTheChangesOfAWrittenManifestOnRecovery() {
+        // Given
+        manifestOfChanges().write();
+
+        // When
+        Transactions.recover();
+        table("DB.A").forgetCachedState();
+        table("DB.B").forgetCachedState();
+
+        // Then
+        assertTrue(table("DB.A").all().same(record("1"), record("2z")));
+        assertTrue(table("DB.B").all().same(record("3")));
+        assertEquals(0, TransactionsDirectory.getInstance().files().filter(file -> file.getPath().toString().endsWith(".qmanifest")).count());
+    }
+
+    @Test
+    @DisplayName("Should not apply the changes of a manifest twice on recovery")
+    public void shouldNotApplyTheChangesOfAManifestTwiceOnRecovery() {
+        // Given
+        var manifest = manifestOfChanges();
+
+        manifest.write();
+        manifest.apply();
+
+        // When
+        Transactions.recover();
+        table("DB.A").forgetCachedState();
+        table("DB.B").forgetCachedState();
+
+        // Then
+        assertTrue(table("DB.A").all().same(record("1"), record("2z")));
+        assertTrue(table("DB.B").all().same(record("3")));
+    }
+
+    private static TransactionManifest manifestOfChanges() {
+        var changes = new LinkedHashMap<String, RecordsChange>();
+        var deadLines = new BitSet();
+
+        deadLines.set(1);
+
+        changes.put("DB.A", RecordsChange.of(table("DB.A").getRecords(), table("DB.A").getRecords().getFileKey(), lineOf(table("DB.A"), "2z"), deadLines, 4));
+        changes.put("DB.B", RecordsChange.of(table("DB.B").getRecords(), table("DB.B").getRecords().getFileKey(), lineOf(table("DB.B"), "3"), new BitSet(), 0));
+
+        return new TransactionManifest(changes);
+    }
+
+    private static String lineOf(Table table, String value) {
+        return STR."\{table.getHeader().toTableLine(TableRecord.record(table.getHeader(), value))}\n";
+    }
+}
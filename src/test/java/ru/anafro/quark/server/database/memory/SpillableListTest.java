@@ -0,0 +1,67 @@
+package ru.anafro.quark.server.database.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillableListTest {
+    private static final SpillCodec<String> codec = new SpillCodec<>() {
+        @Override
+        public String encode(String element) {
+            return element;
+        }
+
+        @Override
+        public String decode(String line) {
+            return line;
+        }
+
+        @Override
+        public long estimateSize(String element) {
+            return 2L * element.length();
+        }
+    };
+
+    @Test
+    @DisplayName("Should spill the elements exceeding the memory budget and read them back in order")
+    public void shouldSpillTheElementsExceedingTheMemoryBudgetAndReadThemBackInOrder() {
+        // Given
+        var budget = MemoryBudget.bytes(1024);
+        var list = new SpillableList<>(codec, budget);
+        var expected = new ArrayList<String>();
+
+        // When
+        for (int index = 0; index < 10_000; index++) {
+            var element = STR."element №\{index}";
+
+            list.add(element);
+            expected.add(element);
+        }
+
+        // Then
+        assertTrue(list.isSpilled());
+        assertTrue(budget.getReservedBytes() <= 1024);
+        assertEquals(10_000, list.size());
+        assertEquals(expected, list);
+        assertEquals("element №9999", list.getLast());
+    }
+
+    @Test
+    @DisplayName("Should keep all the elements in memory when the memory budget is unlimited")
+    public void shouldKeepAllTheElementsInMemoryWhenTheMemoryBudgetIsUnlimited() {
+        // Given
+        var list = new SpillableList<>(codec, MemoryBudget.unlimited());
+
+        // When
+        for (int index = 0; index < 10_000; index++) {
+            list.add(String.valueOf(index));
+        }
+
+        // Then
+        assertFalse(list.isSpilled());
+        assertEquals(10_000, list.size());
+    }
+}
@@ -0,0 +1,51 @@
+package ru.anafro.quark.server.facade;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.language.InstructionResult;
+import ru.anafro.quark.server.language.ResponseStatus;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.ExpressionTableRecordSelector.selector;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class QuarkTest {
+
+    @BeforeEach
+    void setUp() {
+        Database.create("DB");
+        Table.create("DB.A", list(column("a", "int")), list());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database("DB").delete();
+    }
+
+    @Test
+    @DisplayName("Should run the queries of a batch concurrently and return their results in order")
+    public void shouldRunTheQueriesOfABatchConcurrentlyAndReturnTheirResultsInOrder() {
+        // Given
+        var queries = IntStream.range(0, 20)
+                .mapToObj(value -> STR."insert into \"DB.A\": record = @record(\{value});")
+                .toList();
+
+        // When
+        var results = Quark.queryAllAsync(queries).join();
+
+        // Then
+        assertEquals(20, results.size());
+        assertTrue(results.stream().map(InstructionResult::responseStatus).allMatch(ResponseStatus.OK::equals));
+        assertEquals(20, table("DB.A").count(selector("@yes")));
+    }
+}
@@ -0,0 +1,61 @@
+package ru.anafro.quark.server.language;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.language.entities.exceptions.ConstructorEvaluationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.anafro.quark.server.database.data.RecordField.field;
+import static ru.anafro.quark.server.database.data.TableRecord.record;
+
+class ExpressionsTest {
+
+    @Test
+    @DisplayName("Should evaluate a compiled expression to the same value as the query with the column values substituted")
+    public void shouldEvaluateACompiledExpressionToTheSameValueAsTheQueryWithTheColumnValuesSubstituted() {
+        // Given
+        var record = record(field("count", 5), field("name", "apple"));
+
+        // When
+        var sum = Expressions.compile("@sum(:count, 2)").evaluate(record);
+        var concatenation = Expressions.compile("@concat(:name, \"s\")").evaluate(record);
+        var equality = Expressions.compile("@equals(:count, 5)").evaluate(record);
+
+        // Then
+        assertEquals(Expressions.eval("@sum(5, 2)"), sum);
+        assertEquals(Expressions.eval("@concat(\"apple\", \"s\")"), concatenation);
+        assertEquals(Expressions.eval("@equals(5, 5)"), equality);
+    }
+
+    @Test
+    @DisplayName("Should reuse a compiled expression until the cache is full")
+    public void shouldReuseACompiledExpressionUntilTheCacheIsFull() {
+        // Given
+        var expression = Expressions.compile("@sum(:count, 1)");
+
+        // When
+        var cachedExpression = Expressions.compile("@sum(:count, 1)");
+
+        for (int index = 0; index < 2048; index++) {
+            Expressions.compile(STR."@sum(:count, \{index + 2})");
+        }
+
+        var evictedExpression = Expressions.compile("@sum(:count, 1)");
+
+        // Then
+        assertSame(expression, cachedExpression);
+        assertNotSame(expression, evictedExpression);
+        assertEquals(expression.evaluate(record(field("count", 1))), evictedExpression.evaluate(record(field("count", 1))));
+    }
+
+    @Test
+    @DisplayName("Should reject an argument that cannot be casted to the parameter type")
+    public void shouldRejectAnArgumentThatCannotBeCastedToTheParameterType() {
+        // Given
+        var record = record(field("flag", true));
+        var expression = Expressions.compile("@sum(:flag, 2)");
+
+        // When, Then
+        assertThrows(ConstructorEvaluationException.class, () -> expression.evaluate(record));
+    }
+}
@@ -0,0 +1,56 @@
+package ru.anafro.quark.server.language.constructors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.language.Expressions;
+import ru.anafro.quark.server.language.entities.BooleanEntity;
+import ru.anafro.quark.server.language.entities.IntegerEntity;
+import ru.anafro.quark.server.language.expressions.exceptions.ExpressionColumnNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.anafro.quark.server.database.data.RecordField.field;
+import static ru.anafro.quark.server.database.data.TableRecord.record;
+
+class LazyConstructorsTest {
+
+    @Test
+    @DisplayName("Should stop evaluating @and and @or once the result is known")
+    public void shouldStopEvaluatingAndAndOrOnceTheResultIsKnown() {
+        // Given
+        var record = record(field("count", 5));
+
+        // When
+        var conjunction = Expressions.compile("@and(@no, :missing)").evaluate(record);
+        var disjunction = Expressions.compile("@or(@yes, :missing)").evaluate(record);
+
+        // Then
+        assertEquals(BooleanEntity.of(false), conjunction);
+        assertEquals(BooleanEntity.of(true), disjunction);
+    }
+
+    @Test
+    @DisplayName("Should evaluate the @and operands in the written order")
+    public void shouldEvaluateTheAndOperandsInTheWrittenOrder() {
+        // Given
+        var record = record(field("count", 5));
+        var expression = Expressions.compile("@and(:missing, @no)");
+
+        // When, Then
+        assertThrows(ExpressionColumnNotFoundException.class, () -> expression.evaluate(record));
+    }
+
+    @Test
+    @DisplayName("Should evaluate only the chosen branch of @if")
+    public void shouldEvaluateOnlyTheChosenBranchOfIf() {
+        // Given
+        var record = record(field("count", 5));
+
+        // When
+        var whenTrue = Expressions.compile("@if(@equals(:count, 5), 1, :missing)").evaluate(record);
+        var whenFalse = Expressions.compile("@if(@equals(:count, 6), :missing, 2)").evaluate(record);
+
+        // Then
+        assertEquals(IntegerEntity.of(1), whenTrue);
+        assertEquals(IntegerEntity.of(2), whenFalse);
+    }
+}
@@ -0,0 +1,81 @@
+package ru.anafro.quark.server.language.constructors.mapping;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.language.entities.EntityConstructor;
+import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArgument;
+import ru.anafro.quark.server.language.entities.InstructionEntityConstructorArguments;
+import ru.anafro.quark.server.language.entities.IntegerEntity;
+import ru.anafro.quark.server.utils.reflection.Reflection;
+import ru.anafro.quark.server.utils.reflection.ReflectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstructorClassMapperTest {
+
+    @Test
+    @DisplayName("Should invoke a mapped constructor through its method handle")
+    public void shouldInvokeAMappedConstructorThroughItsMethodHandle() throws NoSuchMethodException {
+        // Given
+        var constructors = ConstructorClassMapper.map(PublicFunctions.class);
+        var arguments = new InstructionEntityConstructorArguments(new InstructionEntityConstructorArgument("number", IntegerEntity.of(21)));
+
+        // When
+        var result = find(constructors, "twice").eval(arguments);
+
+        // Then
+        assertNotNull(Reflection.getSpreadingHandle(PublicFunctions.class.getMethod("twice", int.class)));
+        assertEquals(IntegerEntity.of(42), result);
+    }
+
+    @Test
+    @DisplayName("Should map a class whose methods cannot be unreflected without failing")
+    public void shouldMapAClassWhoseMethodsCannotBeUnreflectedWithoutFailing() throws NoSuchMethodException {
+        // When
+        var constructors = ConstructorClassMapper.map(HiddenFunctions.class);
+
+        // Then
+        assertNull(Reflection.getSpreadingHandle(HiddenFunctions.class.getMethod("twice", int.class)));
+        assertEquals("twice", find(constructors, "twice").getName());
+    }
+
+    @Test
+    @DisplayName("Should wrap an exception thrown by a mapped constructor into ReflectionException")
+    public void shouldWrapAnExceptionThrownByAMappedConstructorIntoReflectionException() {
+        // Given
+        var constructors = ConstructorClassMapper.map(PublicFunctions.class);
+        var arguments = new InstructionEntityConstructorArguments(new InstructionEntityConstructorArgument("number", IntegerEntity.of(0)));
+
+        // When
+        var exception = assertThrows(ReflectionException.class, () -> find(constructors, "inverse").eval(arguments));
+
+        // Then
+        assertInstanceOf(ArithmeticException.class, exception.getCause());
+    }
+
+    private static EntityConstructor find(EntityConstructor[] constructors, String name) {
+        for (var constructor : constructors) {
+            if (constructor.getName().equals(name)) {
+                return constructor;
+            }
+        }
+
+        return fail(STR."The constructor \{name} was not mapped.");
+    }
+
+    public static final class PublicFunctions {
+        public static int twice(int number) {
+            return number * 2;
+        }
+
+        public static int inverse(int number) {
+            return 1 / number;
+        }
+    }
+
+    static final class HiddenFunctions {
+        public static int twice(int number) {
+            return number * 2;
+        }
+    }
+}
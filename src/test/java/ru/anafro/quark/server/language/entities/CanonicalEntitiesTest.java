@@ -0,0 +1,70 @@
+package ru.anafro.quark.server.language.entities;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanonicalEntitiesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {-128, 0, 1024})
+    @DisplayName("Should share the integer entities inside the canonical range")
+    public void shouldShareTheIntegerEntitiesInsideTheCanonicalRange(int value) {
+        // When
+        var first = IntegerEntity.of(value);
+        var second = IntegerEntity.of(value);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(value, (int) first.getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-129, 1025})
+    @DisplayName("Should create equal integer entities outside the canonical range")
+    public void shouldCreateEqualIntegerEntitiesOutsideTheCanonicalRange(int value) {
+        // When
+        var first = IntegerEntity.of(value);
+        var second = IntegerEntity.of(value);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should share the boolean entities and keep their hashes stable")
+    public void shouldShareTheBooleanEntitiesAndKeepTheirHashesStable() {
+        // When
+        var yes = BooleanEntity.of(true);
+        var no = BooleanEntity.of(false);
+
+        // Then
+        assertSame(yes, BooleanEntity.of(true));
+        assertSame(no, BooleanEntity.of(false));
+        assertTrue(yes.getValue());
+        assertFalse(no.getValue());
+        assertEquals(yes.hashCode(), BooleanEntity.of(true).hashCode());
+        assertNotEquals(yes, no);
+    }
+
+    @Test
+    @DisplayName("Should compute the same hash for equal strings")
+    public void shouldComputeTheSameHashForEqualStrings() {
+        // Given
+        var first = new StringEntity("apple");
+        var second = new StringEntity("apple");
+
+        // When
+        var hash = first.hashCode();
+
+        // Then
+        assertEquals(hash, first.hashCode());
+        assertEquals(hash, second.hashCode());
+        assertEquals(first, second);
+    }
+}
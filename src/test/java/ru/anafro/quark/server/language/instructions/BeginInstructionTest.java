@@ -0,0 +1,77 @@
+package ru.anafro.quark.server.language.instructions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.transactions.Session;
+import ru.anafro.quark.server.database.data.transactions.Transactions;
+import ru.anafro.quark.server.language.InstructionResult;
+import ru.anafro.quark.server.language.ResponseStatus;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.facade.Quark.query;
+import static ru.anafro.quark.server.language.entities.RecordEntity.record;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class BeginInstructionTest {
+
+    @BeforeEach
+    void setUp() {
+        Database.create("DB");
+        Table.create("DB.Orders", list(column("item", "str")), list());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database("DB").delete();
+    }
+
+    @Test
+    @DisplayName("Should issue a session on begin, which only the token that has begun it can use")
+    public void shouldIssueASessionOnBeginWhichOnlyTheTokenThatHasBegunItCanUse() {
+        // Given
+        var begun = queryIn(Session.anonymous("Token A"), "begin;");
+        var session = begun.tableView().rows().getFirst().cells()[0];
+
+        // When
+        var foreignInsertion = queryIn(Session.named(session, "Token B"), """
+                insert into "DB.Orders": record = @record("pear");
+                """);
+        var anonymousInsertion = queryIn(Session.anonymous("Token A"), """
+                insert into "DB.Orders": record = @record("plum");
+                """);
+        queryIn(Session.named(session, "Token A"), """
+                insert into "DB.Orders": record = @record("apple");
+                """);
+        var foreignCommit = queryIn(Session.named(session, "Token B"), "commit;");
+
+        // Then
+        assertEquals(ResponseStatus.SYNTAX_ERROR, foreignInsertion.responseStatus());
+        assertEquals(ResponseStatus.OK, anonymousInsertion.responseStatus());
+        assertEquals(ResponseStatus.SYNTAX_ERROR, foreignCommit.responseStatus());
+        assertTrue(table("DB.Orders").all().same(record("plum")));
+
+        // When
+        var commit = queryIn(Session.named(session, "Token A"), "commit;");
+
+        // Then
+        assertEquals(ResponseStatus.OK, commit.responseStatus());
+        assertTrue(table("DB.Orders").all().same(record("plum"), record("apple")));
+    }
+
+    private static InstructionResult queryIn(Session session, String query) {
+        var result = new AtomicReference<InstructionResult>();
+        Transactions.runInSession(session, () -> result.set(query(query)));
+
+        return result.get();
+    }
+}
@@ -0,0 +1,70 @@
+package ru.anafro.quark.server.language.instructions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableRecord;
+import ru.anafro.quark.server.language.Query;
+import ru.anafro.quark.server.language.ResponseStatus;
+import ru.anafro.quark.server.utils.time.TimeSpan;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.facade.Quark.query;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class CancelQueryInstructionTest {
+
+    @BeforeEach
+    void setUp() {
+        Database.create("DB");
+        Table.create("DB.A", list(column("a", "str")), list());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database("DB").delete();
+    }
+
+    @Test
+    @DisplayName("Should stop a query running longer than its timeout")
+    public void shouldStopAQueryRunningLongerThanItsTimeout() {
+        // Given
+        var table = table("DB.A");
+        var records = new ArrayList<TableRecord>();
+
+        for (int index = 0; index < 50_000; index++) {
+            records.add(TableRecord.record(table.getHeader(), STR."value \{index}"));
+        }
+
+        table.insertAll(records);
+
+        // When
+        var result = Query.make("""
+                count in "DB.A": selector = @selector("@matches(:a, \\"(v|a|l|u|e)+ [0-9]*9\\")");
+                """).execute(TimeSpan.milliseconds(1));
+
+        // Then
+        assertEquals(ResponseStatus.CANCELLED, result.responseStatus());
+    }
+
+    @Test
+    @DisplayName("Should list the running queries and fail to cancel a finished one")
+    public void shouldListTheRunningQueriesAndFailToCancelAFinishedOne() {
+        // When
+        var listResult = query("list running queries;");
+        var cancelResult = query("cancel query 0;");
+
+        // Then
+        assertEquals(1, listResult.tableView().rows().size());
+        assertEquals("list running queries", listResult.tableView().rows().getFirst().cells()[1]);
+        assertEquals(ResponseStatus.SYNTAX_ERROR, cancelResult.responseStatus());
+    }
+}
@@ -6,7 +6,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import ru.anafro.quark.server.database.data.Database;
 import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.database.data.TableRecord;
 
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static ru.anafro.quark.server.database.data.ColumnDescription.column;
 import static ru.anafro.quark.server.database.data.Database.database;
@@ -56,4 +60,53 @@ class ChangeInInstructionTest {
                 record("CHANGE ME, AND NOW IM CHANGED", "BBB", "CCC")
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should move the changed records to the end of the table")
+    public void shouldMoveTheChangedRecordsToTheEndOfTheTable() {
+        // When
+        query("""
+                change in "DB.A":
+                    selector = @selector("@equals(:a, \\"Just chilling\\")"),
+                    changer = @changer("b", "\\"CHANGED\\"");
+                """);
+
+        // Then
+        assertEquals(
+                list(
+                        record("CHANGE ME", "BBB", "CCC"),
+                        record("CHANGE ME", "BBB", "CCC"),
+                        record("Just chilling", "CHANGED", "CCC")
+                ),
+                table("DB.A").all().toList().stream().map(TableRecord::toEntity).toList()
+        );
+    }
+
+    @Test
+    @DisplayName("Should not lose the changes of concurrent queries")
+    public void shouldNotLoseTheChangesOfConcurrentQueries() throws InterruptedException {
+        // Given
+        Table.create("DB.Counter", list(column("n", "int")), list(record(0)));
+        var threads = new ArrayList<Thread>();
+
+        // When
+        for (int thread = 0; thread < 8; thread++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int change = 0; change < 10; change++) {
+                    query("""
+                            change in "DB.Counter":
+                                selector = @selector("@yes"),
+                                changer = @changer("n", "@sum(:n, 1)");
+                            """);
+                }
+            }));
+        }
+
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertTrue(table("DB.Counter").all().same(record(80)));
+    }
+}
@@ -0,0 +1,141 @@
+package ru.anafro.quark.server.language.instructions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.language.ResponseStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.ColumnModifier.modifier;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.facade.Quark.query;
+import static ru.anafro.quark.server.language.entities.RecordEntity.record;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class CommitInstructionTest {
+
+    @BeforeEach
+    void setUp() {
+        Database.create("DB");
+        Table.create("DB.Orders", list(column("item", "str")), list());
+        Table.create("DB.Stock", list(column("item", "str"), column("count", "int")), list(record("apple", 10)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database("DB").delete();
+    }
+
+    @Test
+    @DisplayName("Should apply the changes of the transaction only on commit")
+    public void shouldApplyTheChangesOfTheTransactionOnlyOnCommit() {
+        // When
+        query("begin;");
+        query("""
+                insert into "DB.Orders": record = @record("apple");
+                """);
+        query("""
+                change in "DB.Stock":
+                    selector = @selector("@equals(:item, \\"apple\\")"),
+                    changer = @changer("count", "@sum(:count, -1)");
+                """);
+
+        // Then
+        assertTrue(table("DB.Orders").all().same());
+        assertTrue(table("DB.Stock").all().same(record("apple", 10)));
+
+        // When
+        query("commit;");
+
+        // Then
+        assertTrue(table("DB.Orders").all().same(record("apple")));
+        assertTrue(table("DB.Stock").all().same(record("apple", 9)));
+    }
+
+    @Test
+    @DisplayName("Should not apply any changes of the transaction if a table was changed by someone else")
+    public void shouldNotApplyAnyChangesOfTheTransactionIfATableWasChangedBySomeoneElse() {
+        // Given
+        query("begin;");
+        query("""
+                insert into "DB.Orders": record = @record("apple");
+                """);
+        query("""
+                delete from "DB.Stock": selector = @selector("@yes");
+                """);
+
+        // When
+        table("DB.Stock").insert("pear", 5);
+        var result = query("commit;");
+
+        // Then
+        assertEquals(ResponseStatus.SYNTAX_ERROR, result.responseStatus());
+        assertTrue(table("DB.Orders").all().same());
+        assertTrue(table("DB.Stock").all().same(record("apple", 10), record("pear", 5)));
+        assertEquals(ResponseStatus.SYNTAX_ERROR, query("rollback;").responseStatus());
+    }
+
+    @Test
+    @DisplayName("Should check the changes of the transaction in the order they were made")
+    public void shouldCheckTheChangesOfTheTransactionInTheOrderTheyWereMade() {
+        // Given
+        Table.create("DB.Users", list(column("name", "str", modifier("unique"))), list(record("alice"), record("bob")));
+
+        query("begin;");
+        query("""
+                delete from "DB.Users": selector = @selector("@equals(:name, \\"alice\\")");
+                """);
+        query("""
+                insert into "DB.Users": record = @record("alice");
+                """);
+        query("""
+                change in "DB.Users":
+                    selector = @selector("@equals(:name, \\"bob\\")"),
+                    changer = @changer("name", "\\"carol\\"");
+                """);
+
+        // When
+        var result = query("commit;");
+
+        // Then
+        assertEquals(ResponseStatus.OK, result.responseStatus());
+        assertTrue(table("DB.Users").all().same(record("alice"), record("carol")));
+        assertEquals(ResponseStatus.SYNTAX_ERROR, query("""
+                insert into "DB.Users": record = @record("carol");
+                """).responseStatus());
+    }
+
+    @Test
+    @DisplayName("Should not apply any changes of the transaction if a change repeats a unique value")
+    public void shouldNotApplyAnyChangesOfTheTransactionIfAChangeRepeatsAUniqueValue() {
+        // Given
+        Table.create("DB.Users", list(column("name", "str", modifier("unique"))), list(record("alice"), record("bob")));
+
+        query("begin;");
+        query("""
+                insert into "DB.Orders": record = @record("apple");
+                """);
+        query("""
+                change in "DB.Users":
+                    selector = @selector("@equals(:name, \\"bob\\")"),
+                    changer = @changer("name", "\\"alice\\"");
+                """);
+
+        // When
+        var result = query("commit;");
+
+        // Then
+        assertEquals(ResponseStatus.SYNTAX_ERROR, result.responseStatus());
+        assertTrue(table("DB.Orders").all().same());
+        assertTrue(table("DB.Users").all().same(record("alice"), record("bob")));
+        assertEquals(ResponseStatus.OK, query("""
+                insert into "DB.Users": record = @record("carol");
+                """).responseStatus());
+    }
+}
@@ -0,0 +1,97 @@
+package ru.anafro.quark.server.language.instructions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.files.TransferDirectory;
+import ru.anafro.quark.server.language.ResponseStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.ColumnModifier.modifier;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.facade.Quark.query;
+import static ru.anafro.quark.server.language.entities.RecordEntity.record;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class ImportIntoInstructionTest {
+
+    @BeforeEach
+    void setUp() {
+        Database.create("DB");
+        Table.create(
+                "DB.A",
+                list(
+                        column("a", "str", modifier("unique")),
+                        column("b", "int"),
+                        column("c", "str")
+                ),
+                list(
+                        record("ABC", 1, "Hello, \"world\""),
+                        record("DEF", 2, ""),
+                        record("GHI", 3, "Two\nlines")
+                ));
+        Table.create(
+                "DB.B",
+                column("a", "str", modifier("unique")),
+                column("b", "int"),
+                column("c", "str")
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        database("DB").delete();
+        Files.deleteIfExists(TransferDirectory.getInstance().getFilePath("records.csv"));
+        Files.deleteIfExists(TransferDirectory.getInstance().getFilePath("records.jsonl"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"records.csv", "records.jsonl"})
+    @DisplayName("Should import records exported from another table")
+    public void shouldImportRecordsExportedFromAnotherTable(String filename) {
+        // Given
+        query(STR."""
+                export from "DB.A": path = "\{filename}";
+                """);
+
+        // When
+        query(STR."""
+                import into "DB.B": path = "\{filename}";
+                """);
+
+        // Then
+        assertTrue(table("DB.B").all().same(
+                record("ABC", 1, "Hello, \"world\""),
+                record("DEF", 2, ""),
+                record("GHI", 3, "Two\nlines")
+        ));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"../Configuration.json", "Transfers/../../Configuration.json", "/etc/passwd"})
+    @DisplayName("Should not transfer records through files outside the Transfers folder")
+    public void shouldNotTransferRecordsThroughFilesOutsideTheTransfersFolder(String path) {
+        // When
+        var exportResult = query(STR."""
+                export from "DB.A": path = "\{path}";
+                """);
+        var importResult = query(STR."""
+                import into "DB.B": path = "\{path}";
+                """);
+
+        // Then
+        assertEquals(ResponseStatus.SYNTAX_ERROR, exportResult.responseStatus());
+        assertEquals(ResponseStatus.SYNTAX_ERROR, importResult.responseStatus());
+        assertTrue(table("DB.B").all().same());
+    }
+}
@@ -0,0 +1,71 @@
+package ru.anafro.quark.server.language.instructions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.ColumnDescription;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.ColumnModifier.modifier;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.facade.Quark.query;
+import static ru.anafro.quark.server.language.entities.RecordEntity.record;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class InsertManyIntoInstructionTest {
+
+    @BeforeEach
+    void setUp() {
+        Database.create("DB");
+        Table.create(
+                "DB.A",
+                list(
+                        ColumnDescription.id(),
+                        column("a", "str", modifier("unique"))
+                ),
+                list());
+        table("DB.A").insert("ABC");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database("DB").delete();
+    }
+
+    @Test
+    @DisplayName("Should insert many records")
+    public void shouldInsertManyRecords() {
+        // When
+        query("""
+                insert many into "DB.A":
+                    records = @list(@record("DEF"), @record("GHI"));
+                """);
+
+        // Then
+        assertTrue(table("DB.A").all().same(
+                record(1, "ABC"),
+                record(2, "DEF"),
+                record(3, "GHI")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should insert nothing when records duplicate each other")
+    public void shouldInsertNothingWhenRecordsDuplicateEachOther() {
+        // When
+        query("""
+                insert many into "DB.A":
+                    records = @list(@record("DEF"), @record("DEF"));
+                """);
+
+        // Then
+        assertTrue(table("DB.A").all().same(
+                record(1, "ABC")
+        ));
+    }
+}
@@ -0,0 +1,74 @@
+package ru.anafro.quark.server.language.instructions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.database.data.Database;
+import ru.anafro.quark.server.database.data.Table;
+import ru.anafro.quark.server.language.CompiledQuery;
+import ru.anafro.quark.server.language.ResponseStatus;
+import ru.anafro.quark.server.scheduling.InstructionRepeater;
+import ru.anafro.quark.server.utils.time.TimeSpan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.anafro.quark.server.database.data.ColumnDescription.column;
+import static ru.anafro.quark.server.database.data.Database.database;
+import static ru.anafro.quark.server.database.data.Table.systemTable;
+import static ru.anafro.quark.server.database.data.Table.table;
+import static ru.anafro.quark.server.facade.Quark.query;
+import static ru.anafro.quark.server.language.entities.RecordEntity.record;
+import static ru.anafro.quark.server.utils.collections.Collections.list;
+
+class ScheduleQueryInstructionTest {
+
+    @BeforeEach
+    void setUp() {
+        Database.create("DB");
+        Table.create("DB.A", list(column("a", "int")), list());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database("DB").delete();
+    }
+
+    @Test
+    @DisplayName("Should not schedule a malformed query")
+    public void shouldNotScheduleAMalformedQuery() {
+        // Given
+        var scheduledQueryCount = systemTable("Scheduled Queries").all().count();
+
+        // When
+        var result = query("""
+                schedule query "insert into \\"DB.A\\": record = @record(1": period = 1000;
+                """);
+
+        // Then
+        assertEquals(ResponseStatus.SYNTAX_ERROR, result.responseStatus());
+        assertEquals(scheduledQueryCount, systemTable("Scheduled Queries").all().count());
+    }
+
+    @Test
+    @DisplayName("Should parse a scheduled query once unless it calls a non-deterministic constructor")
+    public void shouldParseAScheduledQueryOnceUnlessItCallsANonDeterministicConstructor() {
+        // Given
+        var query = CompiledQuery.compile("""
+                insert into "DB.A": record = @record(1);
+                """);
+        var randomQuery = CompiledQuery.compile("""
+                insert into "DB.A": record = @record(@random between(2, 3));
+                """);
+        var repeater = new InstructionRepeater(query, TimeSpan.seconds(1));
+
+        // When
+        repeater.performAction();
+        repeater.performAction();
+        randomQuery.execute();
+
+        // Then
+        assertTrue(query.isParsedOnce());
+        assertFalse(randomQuery.isParsedOnce());
+        assertTrue(table("DB.A").all().same(record(1), record(1), record(2)));
+    }
+}
@@ -0,0 +1,43 @@
+package ru.anafro.quark.server.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.multithreading.Threads;
+import ru.anafro.quark.server.utils.time.TimeSpan;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerTest {
+
+    @Test
+    @DisplayName("Should skip the runs of a fixed-rate repeater that are due while it is still running")
+    public void shouldSkipTheRunsOfAFixedRateRepeaterThatAreDueWhileItIsStillRunning() {
+        // Given
+        var scheduler = new Scheduler();
+        var performingCount = new AtomicInteger();
+        var maxPerformingCount = new AtomicInteger();
+        var repeater = new Repeater(TimeSpan.milliseconds(10), ScheduleMode.FIXED_RATE) {
+            @Override
+            public void performAction() {
+                maxPerformingCount.accumulateAndGet(performingCount.incrementAndGet(), Math::max);
+                Threads.sleepFor(TimeSpan.milliseconds(50));
+                performingCount.decrementAndGet();
+            }
+        };
+
+        scheduler.schedule(repeater);
+
+        // When
+        Thread.ofVirtual().start(scheduler::start);
+        Threads.sleepFor(TimeSpan.milliseconds(300));
+        scheduler.stop();
+
+        // Then
+        assertEquals(1, maxPerformingCount.get());
+        assertTrue(repeater.getRunCount() > 0);
+        assertTrue(repeater.getSkippedRunCount() > 0);
+        assertTrue(repeater.getLastDuration().getMilliseconds() >= 50);
+    }
+}
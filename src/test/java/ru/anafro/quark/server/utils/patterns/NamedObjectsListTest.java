@@ -0,0 +1,55 @@
+package ru.anafro.quark.server.utils.patterns;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.anafro.quark.server.utils.patterns.exceptions.ObjectAlreadyExistsInRegistryException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NamedObjectsListTest {
+
+    @Test
+    @DisplayName("Should find the objects added before and after the registry is frozen")
+    public void shouldFindTheObjectsAddedBeforeAndAfterTheRegistryIsFrozen() {
+        // Given
+        var registry = new Names("apple", "pear");
+
+        // When
+        registry.freeze();
+        registry.add("plum");
+
+        // Then
+        assertTrue(registry.isFrozen());
+        assertEquals("pear", registry.get("pear"));
+        assertEquals("plum", registry.get("plum"));
+        assertTrue(registry.tryGet("cherry").isEmpty());
+        assertEquals(List.of("apple", "pear", "plum"), registry.asList());
+        assertThrows(ObjectAlreadyExistsInRegistryException.class, () -> registry.add("apple"));
+    }
+
+    @Test
+    @DisplayName("Should not let the list of the objects change the registry")
+    public void shouldNotLetTheListOfTheObjectsChangeTheRegistry() {
+        // Given
+        var registry = new Names("apple");
+        registry.freeze();
+
+        // When, Then
+        assertThrows(UnsupportedOperationException.class, () -> registry.asList().add("pear"));
+        assertThrows(UnsupportedOperationException.class, () -> registry.asList().clear());
+        assertEquals(List.of("apple"), registry.asList());
+    }
+
+    private static final class Names extends NamedObjectsList<String> {
+        private Names(String... names) {
+            super(names);
+        }
+
+        @Override
+        protected String getNameOf(String name) {
+            return name;
+        }
+    }
+}